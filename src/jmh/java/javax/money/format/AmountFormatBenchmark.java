@@ -0,0 +1,131 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.format;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.TestCurrency;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmarks of {@link MonetaryAmountFormat} implementations. The {@code base} implementation is a
+ * {@link javax.money.spi.BaseMonetaryAmountFormat} delegating to a shared {@link java.text.DecimalFormat}, the
+ * {@code compiled} implementation is a {@link CompiledAmountFormat}. Both write the currency code followed by the
+ * number with two to four fraction digits.
+ * <p>
+ * Run with {@code mvn -Pjmh test-compile exec:exec}; the default arguments add the GC profiler, which reports
+ * the bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmountFormatBenchmark {
+
+    @Param({"base", "compiled"})
+    public String impl;
+
+    @Param({"en_US", "de_DE", "fr_CH", "ja_JP"})
+    public String locale;
+
+    @Param({"0.5", "-7", "1234.56", "98765432.1234"})
+    public String amount;
+
+    private MonetaryAmountFormat format;
+    private MonetaryAmount monetaryAmount;
+    private String formatted;
+    private String invalid;
+
+    @Setup
+    public void setup() {
+        String[] parts = locale.split("_");
+        Locale loc = new Locale(parts[0], parts[1]);
+        CurrencyUnit currency = TestCurrency.of("USD");
+        if ("compiled".equals(impl)) {
+            format = CompiledAmountFormat.of(AmountFormatContextBuilder.of(loc)
+                    .set(CompiledAmountFormat.KEY_PATTERN, "¤¤ #,##0.00##").set(CurrencyUnit.class, currency)
+                    .setMonetaryAmountFactory(new BenchmarkAmount.Factory()).build());
+        } else {
+            format = new DecimalAmountFormat(loc, "#,##0.00##", currency);
+        }
+        monetaryAmount = new BenchmarkAmount(currency, new BigDecimal(amount));
+        formatted = format.format(monetaryAmount);
+        invalid = formatted.substring(0, formatted.length() - 1) + 'x';
+        if (format.parse(formatted).getNumber().numberValue(BigDecimal.class)
+                .compareTo(new BigDecimal(amount)) != 0) {
+            throw new IllegalStateException("Round trip failed for " + formatted);
+        }
+    }
+
+    /**
+     * Reusable target buffer, one per thread.
+     */
+    @State(Scope.Thread)
+    public static class Buffer {
+        final StringBuilder builder = new StringBuilder(64);
+    }
+
+    @Benchmark
+    public String format() {
+        return format.format(monetaryAmount);
+    }
+
+    @Benchmark
+    public int print(Buffer buffer) throws IOException {
+        StringBuilder b = buffer.builder;
+        b.setLength(0);
+        format.print(b, monetaryAmount);
+        return b.length();
+    }
+
+    @Benchmark
+    public MonetaryAmount parse() {
+        return format.parse(formatted);
+    }
+
+    @Benchmark
+    public int parseInvalid() {
+        try {
+            format.parse(invalid);
+            throw new IllegalStateException("Parse error expected: " + invalid);
+        } catch (MonetaryParseException e) {
+            return e.getErrorIndex();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String formatContended() {
+        return format.format(monetaryAmount);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public MonetaryAmount parseContended() {
+        return format.parse(formatted);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.format;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryAmountFactory;
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+import javax.money.NumberValue;
+import javax.money.convert.TestNumberValue;
+import javax.money.spi.BaseMonetaryAmount;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Minimal {@link MonetaryAmount} backed by a {@link BigDecimal}, used as input and parse result of the format
+ * benchmarks. Arithmetic is not supported.
+ */
+final class BenchmarkAmount extends BaseMonetaryAmount {
+
+    private static final MonetaryContext CONTEXT = MonetaryContextBuilder.of(BenchmarkAmount.class).build();
+
+    private final CurrencyUnit currency;
+    private final NumberValue number;
+
+    BenchmarkAmount(CurrencyUnit currency, BigDecimal number) {
+        this.currency = Objects.requireNonNull(currency);
+        this.number = TestNumberValue.of(Objects.requireNonNull(number));
+    }
+
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public NumberValue getNumber() {
+        return number;
+    }
+
+    @Override
+    public MonetaryContext getContext() {
+        return CONTEXT;
+    }
+
+    @Override
+    public MonetaryAmountFactory<BenchmarkAmount> getFactory() {
+        return new Factory().setAmount(this);
+    }
+
+    @Override
+    public int signum() {
+        return number.numberValue(BigDecimal.class).signum();
+    }
+
+    @Override
+    public int compareTo(MonetaryAmount o) {
+        return number.numberValue(BigDecimal.class).compareTo(o.getNumber().numberValue(BigDecimal.class));
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount) {
+        return compareTo(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
+        return compareTo(amount) >= 0;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount) {
+        return compareTo(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amt) {
+        return compareTo(amt) <= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount) {
+        return compareTo(amount) == 0;
+    }
+
+    @Override
+    public MonetaryAmount add(MonetaryAmount amount) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount subtract(MonetaryAmount amount) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount multiply(long multiplicand) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount multiply(double multiplicand) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount multiply(Number multiplicand) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount divide(long divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount divide(double divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount divide(Number divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount remainder(long divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount remainder(double divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount remainder(Number divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(long divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(double divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(Number divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(long divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(double divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(Number divisor) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount scaleByPowerOfTen(int power) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount abs() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount negate() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount plus() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MonetaryAmount stripTrailingZeros() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + ' ' + number;
+    }
+
+    /**
+     * Factory creating {@link BenchmarkAmount} instances, used as parse factory.
+     */
+    static final class Factory implements MonetaryAmountFactory<BenchmarkAmount> {
+
+        private CurrencyUnit currency;
+        private BigDecimal number;
+
+        @Override
+        public Class<? extends MonetaryAmount> getAmountType() {
+            return BenchmarkAmount.class;
+        }
+
+        @Override
+        public Factory setCurrency(String currencyCode) {
+            return setCurrency(Monetary.getCurrency(currencyCode));
+        }
+
+        @Override
+        public Factory setCurrency(CurrencyUnit currency) {
+            this.currency = currency;
+            return this;
+        }
+
+        @Override
+        public Factory setNumber(double number) {
+            this.number = BigDecimal.valueOf(number);
+            return this;
+        }
+
+        @Override
+        public Factory setNumber(long number) {
+            this.number = BigDecimal.valueOf(number);
+            return this;
+        }
+
+        @Override
+        public Factory setNumber(Number number) {
+            this.number = number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+            return this;
+        }
+
+        @Override
+        public NumberValue getMaxNumber() {
+            return null;
+        }
+
+        @Override
+        public NumberValue getMinNumber() {
+            return null;
+        }
+
+        @Override
+        public Factory setContext(MonetaryContext monetaryContext) {
+            return this;
+        }
+
+        @Override
+        public Factory setAmount(MonetaryAmount amount) {
+            this.currency = amount.getCurrency();
+            return setNumber(amount.getNumber().numberValue(BigDecimal.class));
+        }
+
+        @Override
+        public BenchmarkAmount create() {
+            return new BenchmarkAmount(currency, number);
+        }
+
+        @Override
+        public MonetaryContext getDefaultMonetaryContext() {
+            return CONTEXT;
+        }
+
+        @Override
+        public MonetaryContext getMaximalMonetaryContext() {
+            return CONTEXT;
+        }
+    }
+}
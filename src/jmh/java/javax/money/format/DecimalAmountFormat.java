@@ -0,0 +1,78 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.format;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.spi.BaseMonetaryAmountFormat;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Locale;
+
+/**
+ * Baseline format for the benchmarks, based on {@link BaseMonetaryAmountFormat} and a shared
+ * {@link DecimalFormat}, which is synchronized on as required by {@link DecimalFormat}. Amounts are written as
+ * currency code, a space and the formatted number.
+ */
+final class DecimalAmountFormat extends BaseMonetaryAmountFormat {
+
+    private final AmountFormatContext context;
+    private final DecimalFormat decimalFormat;
+    private final CurrencyUnit currency;
+
+    DecimalAmountFormat(Locale locale, String numberPattern, CurrencyUnit currency) {
+        this.context = AmountFormatContextBuilder.of(locale).build();
+        this.decimalFormat = new DecimalFormat(numberPattern, DecimalFormatSymbols.getInstance(locale));
+        this.decimalFormat.setParseBigDecimal(true);
+        this.currency = currency;
+    }
+
+    @Override
+    public AmountFormatContext getContext() {
+        return context;
+    }
+
+    @Override
+    public String queryFrom(MonetaryAmount amount) {
+        return format(amount);
+    }
+
+    @Override
+    public void print(Appendable appendable, MonetaryAmount amount) throws IOException {
+        String number;
+        synchronized (decimalFormat) {
+            number = decimalFormat.format(amount.getNumber().numberValue(BigDecimal.class));
+        }
+        appendable.append(amount.getCurrency().getCurrencyCode()).append(' ').append(number);
+    }
+
+    @Override
+    public MonetaryAmount parse(CharSequence text) throws MonetaryParseException {
+        String input = text.toString();
+        int sep = input.indexOf(' ');
+        if (sep < 0) {
+            throw new MonetaryParseException("Currency code expected.", text, 0);
+        }
+        if (!currency.getCurrencyCode().equals(input.substring(0, sep))) {
+            throw new MonetaryParseException("Unsupported currency.", text, 0);
+        }
+        ParsePosition pos = new ParsePosition(sep + 1);
+        Number number;
+        synchronized (decimalFormat) {
+            number = decimalFormat.parse(input, pos);
+        }
+        if (number == null || pos.getIndex() != input.length()) {
+            throw new MonetaryParseException("Invalid number.", text, Math.max(pos.getErrorIndex(), pos.getIndex()));
+        }
+        return new BenchmarkAmount(currency, (BigDecimal) number);
+    }
+}
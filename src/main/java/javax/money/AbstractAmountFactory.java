@@ -0,0 +1,176 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Base class of the {@link MonetaryAmountFactory} implementations of {@link FastAmount} and {@link DecimalAmount},
+ * holding the values set until {@link #create()} is called.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the amount type created.
+ * @author Anatole Tresch
+ */
+abstract class AbstractAmountFactory<T extends MonetaryAmount> implements MonetaryAmountFactory<T> {
+
+    /**
+     * The currency, or null.
+     */
+    private CurrencyUnit currency;
+    /**
+     * The number, or null.
+     */
+    private BigDecimal number;
+    /**
+     * The monetary context.
+     */
+    private MonetaryContext context = getDefaultMonetaryContext();
+
+    /**
+     * Creates a new amount.
+     *
+     * @param currency the currency, not null.
+     * @param number   the number, not null.
+     * @param context  the monetary context, not null.
+     * @return the new amount.
+     * @throws ArithmeticException if the number cannot be represented by the amount type.
+     */
+    protected abstract T create(CurrencyUnit currency, BigDecimal number, MonetaryContext context);
+
+    @Override
+    public MonetaryAmountFactory<T> setCurrency(String currencyCode) {
+        this.currency = Monetary.getCurrency(currencyCode);
+        return this;
+    }
+
+    @Override
+    public MonetaryAmountFactory<T> setCurrency(CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency, "currency required.");
+        return this;
+    }
+
+    @Override
+    public MonetaryAmountFactory<T> setNumber(double number) {
+        this.number = toBigDecimal(number);
+        return this;
+    }
+
+    @Override
+    public MonetaryAmountFactory<T> setNumber(long number) {
+        this.number = BigDecimal.valueOf(number);
+        return this;
+    }
+
+    @Override
+    public MonetaryAmountFactory<T> setNumber(Number number) {
+        this.number = toBigDecimal(number);
+        return this;
+    }
+
+    @Override
+    public MonetaryAmountFactory<T> setContext(MonetaryContext monetaryContext) {
+        Objects.requireNonNull(monetaryContext, "monetaryContext required.");
+        MonetaryContext max = getMaximalMonetaryContext();
+        if (max.getPrecision() > 0 &&
+                (monetaryContext.getPrecision() == 0 || monetaryContext.getPrecision() > max.getPrecision())) {
+            throw new MonetaryException("Precision not supported: " + monetaryContext);
+        }
+        if (max.getMaxScale() >= 0 &&
+                (monetaryContext.getMaxScale() < 0 || monetaryContext.getMaxScale() > max.getMaxScale())) {
+            throw new MonetaryException("Scale not supported: " + monetaryContext);
+        }
+        this.context = monetaryContext;
+        return this;
+    }
+
+    /**
+     * Initializes currency, number and {@link MonetaryContext} from the given amount. The context is validated as
+     * by {@link #setContext(MonetaryContext)}.
+     *
+     * @param amount the amount, not null.
+     * @return this factory instance, for chaining.
+     * @throws MonetaryException if the amount's context exceeds the capabilities of this factory.
+     */
+    @Override
+    public MonetaryAmountFactory<T> setAmount(MonetaryAmount amount) {
+        setContext(amount.getContext());
+        this.currency = amount.getCurrency();
+        this.number = amount.getNumber().numberValue(BigDecimal.class);
+        return this;
+    }
+
+    @Override
+    public T create() {
+        if (currency == null) {
+            throw new MonetaryException("Currency required.");
+        }
+        if (number == null) {
+            throw new MonetaryException("Number required.");
+        }
+        if (number.scale() == 0 && number.precision() <= 3) {
+            int value = number.intValue();
+            if (MonetaryAmountCache.isCacheable(value)) {
+                @SuppressWarnings("unchecked")
+                Class<T> amountType = (Class<T>) getAmountType();
+                T amount = MonetaryAmountCache.get(amountType, currency, context, value);
+                if (amount == null) {
+                    amount = MonetaryAmountCache.put(create(currency, number, context), context, value);
+                }
+                return amount;
+            }
+        }
+        return create(currency, number, context);
+    }
+
+    /**
+     * Converts the given number to a {@link BigDecimal}.
+     *
+     * @param number the number, not null.
+     * @return the corresponding {@link BigDecimal}.
+     * @throws ArithmeticException if the number is not finite.
+     */
+    static BigDecimal toBigDecimal(Number number) {
+        Objects.requireNonNull(number, "number required.");
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof Long || number instanceof Integer || number instanceof Short ||
+                number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return toBigDecimal(number.doubleValue());
+        }
+        if (number instanceof NumberValue) {
+            return ((NumberValue) number).numberValue(BigDecimal.class);
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        return new BigDecimal(number.toString());
+    }
+
+    /**
+     * Converts the given double to a {@link BigDecimal}, using its canonical String representation.
+     *
+     * @param number the number.
+     * @return the corresponding {@link BigDecimal}.
+     * @throws ArithmeticException if the number is not finite.
+     */
+    static BigDecimal toBigDecimal(double number) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            throw new ArithmeticException("Not a finite number: " + number);
+        }
+        return BigDecimal.valueOf(number);
+    }
+}
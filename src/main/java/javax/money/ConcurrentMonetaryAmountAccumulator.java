@@ -0,0 +1,294 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe accumulator summing amounts per {@link CurrencyUnit}, designed for many threads adding to the same
+ * totals. Similar to {@link java.util.concurrent.atomic.AtomicLong} based adders, each currency's sum is striped
+ * across several cells, so concurrent updates rarely contend on the same memory location.
+ * <p>
+ * Sums are exact: values with up to {@value FastAmount#SCALE} fraction digits are added to the cells as scaled
+ * {@code long} values, values with more fraction digits or overflowing a cell are added to a {@link BigDecimal}
+ * carry, guarded by a lock. The sum returned is exact with respect to all additions completed before the call;
+ * additions running concurrently with the call may or may not be included.
+ *
+ * @author Anatole Tresch
+ * @see MonetaryAmountAccumulator
+ */
+public final class ConcurrentMonetaryAmountAccumulator {
+
+    /**
+     * The number of longs between two cells, so each cell resides in a separate cache line.
+     */
+    private static final int PADDING = 8;
+    /**
+     * The maximal number of cells per currency.
+     */
+    private static final int MAX_STRIPES = 1 << 10;
+    /**
+     * The per-thread probe, selecting the cell to be updated.
+     */
+    private static final ThreadLocal<int[]> PROBE = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            long id = Thread.currentThread().getId();
+            int probe = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return new int[]{probe == 0 ? 1 : probe};
+        }
+    };
+
+    /**
+     * The number of cells per currency, a power of two.
+     */
+    private final int stripes;
+    /**
+     * The sums, by currency code.
+     */
+    private final ConcurrentMap<String, Sum> sums = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new accumulator, using as many cells as there are available processors.
+     */
+    public ConcurrentMonetaryAmountAccumulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new accumulator.
+     *
+     * @param stripes the number of cells per currency, rounded up to the next power of two, at most
+     *                {@value #MAX_STRIPES}.
+     * @throws IllegalArgumentException if {@code stripes} is smaller than 1.
+     */
+    public ConcurrentMonetaryAmountAccumulator(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be >= 1: " + stripes);
+        }
+        int n = Math.min(stripes, MAX_STRIPES);
+        this.stripes = Integer.highestOneBit(n) == n ? n : Integer.highestOneBit(n) << 1;
+    }
+
+    /**
+     * Adds an amount.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     */
+    public ConcurrentMonetaryAmountAccumulator add(MonetaryAmount amount) {
+        Objects.requireNonNull(amount, "amount required.");
+        Sum sum = getOrCreate(amount.getCurrency());
+        if (amount instanceof FastAmount) {
+            sum.addUnits(((FastAmount) amount).getUnscaledValue());
+        } else {
+            NumberValue number = amount.getNumber();
+            long units = FastAmount.toUnits(number);
+            if (units != FastAmount.NO_UNITS) {
+                sum.addUnits(units);
+            } else {
+                sum.add(number.numberValue(BigDecimal.class));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds a number.
+     *
+     * @param currency the currency, not null.
+     * @param number   the number, not null.
+     * @return this accumulator, for chaining.
+     */
+    public ConcurrentMonetaryAmountAccumulator add(CurrencyUnit currency, Number number) {
+        Objects.requireNonNull(number, "number required.");
+        Sum sum = getOrCreate(currency);
+        if (number instanceof Long || number instanceof Integer || number instanceof Short ||
+                number instanceof Byte) {
+            long value = number.longValue();
+            if (value <= Long.MAX_VALUE / FastAmount.MULTIPLIER && value >= Long.MIN_VALUE / FastAmount.MULTIPLIER) {
+                sum.addUnits(value * FastAmount.MULTIPLIER);
+                return this;
+            }
+        }
+        sum.add(AbstractAmountFactory.toBigDecimal(number));
+        return this;
+    }
+
+    /**
+     * Access the currencies summed.
+     *
+     * @return the currencies, in no particular order.
+     */
+    public Set<CurrencyUnit> getCurrencies() {
+        Set<CurrencyUnit> currencies = new LinkedHashSet<>();
+        for (Sum sum : sums.values()) {
+            currencies.add(sum.currency);
+        }
+        return Collections.unmodifiableSet(currencies);
+    }
+
+    /**
+     * Access the exact sum of a currency.
+     *
+     * @param currency the currency, not null.
+     * @return the sum, zero if no values were added for the currency.
+     */
+    public NumberValue sum(CurrencyUnit currency) {
+        Sum sum = sums.get(currency.getCurrencyCode());
+        return new DecimalNumberValue(sum == null ? BigDecimal.ZERO : sum.toBigDecimal());
+    }
+
+    /**
+     * Creates the sum of a currency as amount.
+     *
+     * @param currency the currency, not null.
+     * @param factory  the factory used to create the amount, not null. Factories are not thread-safe, so the
+     *                 factory passed must not be shared with other threads.
+     * @param <T>      the amount type.
+     * @return the sum, zero if no values were added for the currency.
+     */
+    public <T extends MonetaryAmount> T sum(CurrencyUnit currency, MonetaryAmountFactory<T> factory) {
+        Sum sum = sums.get(currency.getCurrencyCode());
+        return factory.setCurrency(sum == null ? currency : sum.currency)
+                .setNumber(sum == null ? BigDecimal.ZERO : sum.toBigDecimal()).create();
+    }
+
+    /**
+     * Creates the sums of all currencies as amounts.
+     *
+     * @param factory the factory used to create the amounts, not null. Factories are not thread-safe, so the
+     *                factory passed must not be shared with other threads.
+     * @return the sums, by currency.
+     */
+    public Map<CurrencyUnit, MonetaryAmount> sums(MonetaryAmountFactory<?> factory) {
+        Map<CurrencyUnit, MonetaryAmount> result = new LinkedHashMap<>();
+        for (Sum sum : sums.values()) {
+            result.put(sum.currency, factory.setCurrency(sum.currency).setNumber(sum.toBigDecimal()).create());
+        }
+        return result;
+    }
+
+    /**
+     * Removes all sums. Additions running concurrently may or may not be retained.
+     */
+    public void clear() {
+        sums.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentMonetaryAmountAccumulator [stripes=" + stripes + ", currencies=" + sums.keySet() + ']';
+    }
+
+    private Sum getOrCreate(CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "currency required.");
+        String code = currency.getCurrencyCode();
+        Sum sum = sums.get(code);
+        if (sum == null) {
+            Sum created = new Sum(currency, stripes);
+            sum = sums.putIfAbsent(code, created);
+            if (sum == null) {
+                sum = created;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * The striped running sum of a currency.
+     */
+    private static final class Sum {
+
+        /**
+         * The currency.
+         */
+        private final CurrencyUnit currency;
+        /**
+         * The cells, in units of {@code 10^-SCALE}, each followed by unused padding.
+         */
+        private final AtomicLongArray cells;
+        /**
+         * The mask selecting a cell from the probe.
+         */
+        private final int mask;
+        /**
+         * The part of the sum not representable in the cells, guarded by this instance.
+         */
+        private BigDecimal carry = BigDecimal.ZERO;
+
+        Sum(CurrencyUnit currency, int stripes) {
+            this.currency = currency;
+            this.cells = new AtomicLongArray(stripes * PADDING);
+            this.mask = stripes - 1;
+        }
+
+        void addUnits(long value) {
+            int[] probe = PROBE.get();
+            int h = probe[0];
+            for (; ; ) {
+                int index = (h & mask) * PADDING;
+                long v = cells.get(index);
+                long r = v + value;
+                if (((v ^ r) & (value ^ r)) < 0) {
+                    addCarry(BigDecimal.valueOf(value, FastAmount.SCALE));
+                    return;
+                }
+                if (cells.compareAndSet(index, v, r)) {
+                    return;
+                }
+                // contended, move on to another cell (xorshift)
+                h ^= h << 13;
+                h ^= h >>> 17;
+                h ^= h << 5;
+                probe[0] = h;
+            }
+        }
+
+        void add(BigDecimal value) {
+            if (value.scale() <= FastAmount.SCALE && value.precision() - value.scale() < 14) {
+                addUnits(value.setScale(FastAmount.SCALE).unscaledValue().longValue());
+            } else {
+                addCarry(value);
+            }
+        }
+
+        private synchronized void addCarry(BigDecimal value) {
+            carry = carry.add(value);
+        }
+
+        private synchronized BigDecimal getCarry() {
+            return carry;
+        }
+
+        BigDecimal toBigDecimal() {
+            BigDecimal result = getCarry();
+            long units = 0;
+            for (int i = 0; i < cells.length(); i += PADDING) {
+                long value = cells.get(i);
+                long r = units + value;
+                if (((units ^ r) & (value ^ r)) < 0) {
+                    result = result.add(BigDecimal.valueOf(units, FastAmount.SCALE));
+                    r = value;
+                }
+                units = r;
+            }
+            return result.add(BigDecimal.valueOf(units, FastAmount.SCALE));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Map from {@link CurrencyUnit} to primitive {@code long} values, backed by arrays indexed by the
+ * {@link CurrencyOrdinals} of the keys. Keys are matched by their currency code.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Anatole Tresch
+ * @see CurrencyMap
+ */
+public final class CurrencyLongMap {
+
+    /**
+     * The keys, by ordinal, null if not present.
+     */
+    private CurrencyUnit[] keys;
+    /**
+     * The values, by ordinal.
+     */
+    private long[] values;
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * Creates a new empty map.
+     */
+    public CurrencyLongMap() {
+        int capacity = CurrencyOrdinals.size();
+        this.keys = new CurrencyUnit[capacity];
+        this.values = new long[capacity];
+    }
+
+    /**
+     * Access the number of entries.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty.
+     *
+     * @return true, if the map contains no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the map contains a value for a currency.
+     *
+     * @param currency the currency, not null.
+     * @return true, if a value is present.
+     */
+    public boolean containsKey(CurrencyUnit currency) {
+        int ordinal = indexOf(currency);
+        return ordinal >= 0 && keys[ordinal] != null;
+    }
+
+    /**
+     * Access the value of a currency.
+     *
+     * @param currency the currency, not null.
+     * @return the value, or {@code 0} if not present.
+     */
+    public long get(CurrencyUnit currency) {
+        return get(currency, 0L);
+    }
+
+    /**
+     * Access the value of a currency.
+     *
+     * @param currency     the currency, not null.
+     * @param defaultValue the value returned, if not present.
+     * @return the value, or {@code defaultValue} if not present.
+     */
+    public long get(CurrencyUnit currency, long defaultValue) {
+        int ordinal = indexOf(currency);
+        return ordinal >= 0 && keys[ordinal] != null ? values[ordinal] : defaultValue;
+    }
+
+    /**
+     * Sets the value of a currency.
+     *
+     * @param currency the currency, not null.
+     * @param value    the value.
+     * @return the previous value, or {@code 0} if not present.
+     */
+    public long put(CurrencyUnit currency, long value) {
+        int ordinal = slot(currency);
+        long previous = values[ordinal];
+        values[ordinal] = value;
+        return previous;
+    }
+
+    /**
+     * Adds to the value of a currency, a value not present is treated as {@code 0}.
+     *
+     * @param currency the currency, not null.
+     * @param delta    the value to add.
+     * @return the new value.
+     * @throws ArithmeticException if the new value exceeds the {@code long} range.
+     */
+    public long add(CurrencyUnit currency, long delta) {
+        int ordinal = indexOf(currency);
+        if (ordinal >= 0 && keys[ordinal] != null) {
+            long value = values[ordinal];
+            long result = value + delta;
+            if (((value ^ result) & (delta ^ result)) < 0) {
+                throw new ArithmeticException("long overflow adding " + delta + " to " + value + " for " +
+                        currency.getCurrencyCode());
+            }
+            values[ordinal] = result;
+            return result;
+        }
+        ordinal = slot(currency);
+        values[ordinal] = delta;
+        return delta;
+    }
+
+    /**
+     * Removes the value of a currency.
+     *
+     * @param currency the currency, not null.
+     * @return true, if a value was removed.
+     */
+    public boolean remove(CurrencyUnit currency) {
+        int ordinal = indexOf(currency);
+        if (ordinal < 0 || keys[ordinal] == null) {
+            return false;
+        }
+        keys[ordinal] = null;
+        values[ordinal] = 0L;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    /**
+     * Access the currencies with a value present.
+     *
+     * @return the currencies, in ordinal order.
+     */
+    public Set<CurrencyUnit> getCurrencies() {
+        Set<CurrencyUnit> result = new LinkedHashSet<>();
+        for (CurrencyUnit key : keys) {
+            if (key != null) {
+                result.add(key);
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                if (b.length() > 1) {
+                    b.append(", ");
+                }
+                b.append(keys[i].getCurrencyCode()).append('=').append(values[i]);
+            }
+        }
+        return b.append('}').toString();
+    }
+
+    private int slot(CurrencyUnit currency) {
+        int ordinal = CurrencyOrdinals.ordinal(currency);
+        if (ordinal >= keys.length) {
+            int capacity = Math.max(ordinal + 1, CurrencyOrdinals.size());
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        if (keys[ordinal] == null) {
+            keys[ordinal] = currency;
+            size++;
+        }
+        return ordinal;
+    }
+
+    private int indexOf(CurrencyUnit currency) {
+        int ordinal = CurrencyOrdinals.ordinal(currency.getCurrencyCode());
+        return ordinal < keys.length ? ordinal : -1;
+    }
+}
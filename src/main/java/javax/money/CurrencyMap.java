@@ -0,0 +1,216 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link Map} with {@link CurrencyUnit} keys, backed by an array indexed by the {@link CurrencyOrdinals} of the
+ * keys, similar to {@link java.util.EnumMap}. Keys are matched by their currency code. Iteration is in
+ * ordinal order. Null keys and null values are not supported.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V> the value type.
+ * @author Anatole Tresch
+ */
+public final class CurrencyMap<V> extends AbstractMap<CurrencyUnit, V> {
+
+    /**
+     * The keys, by ordinal, null if not present.
+     */
+    private CurrencyUnit[] keys;
+    /**
+     * The values, by ordinal.
+     */
+    private Object[] values;
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * Creates a new empty map.
+     */
+    public CurrencyMap() {
+        int capacity = CurrencyOrdinals.size();
+        this.keys = new CurrencyUnit[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Creates a new map, containing the entries of the given map.
+     *
+     * @param map the map, not null.
+     */
+    public CurrencyMap(Map<? extends CurrencyUnit, ? extends V> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int ordinal = indexOf(key);
+        return ordinal >= 0 && keys[ordinal] != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && values[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int ordinal = indexOf(key);
+        return ordinal >= 0 ? (V) values[ordinal] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(CurrencyUnit key, V value) {
+        Objects.requireNonNull(value, "value required.");
+        int ordinal = CurrencyOrdinals.ordinal(key);
+        if (ordinal >= keys.length) {
+            int capacity = Math.max(ordinal + 1, CurrencyOrdinals.size());
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        Object previous = values[ordinal];
+        if (keys[ordinal] == null) {
+            size++;
+        }
+        keys[ordinal] = key;
+        values[ordinal] = value;
+        return (V) previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        int ordinal = indexOf(key);
+        if (ordinal < 0 || keys[ordinal] == null) {
+            return null;
+        }
+        return (V) removeAt(ordinal);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<CurrencyUnit, V>> entrySet() {
+        return new AbstractSet<Entry<CurrencyUnit, V>>() {
+            @Override
+            public Iterator<Entry<CurrencyUnit, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private Object removeAt(int ordinal) {
+        Object previous = values[ordinal];
+        keys[ordinal] = null;
+        values[ordinal] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Evaluates the array index of a key, without assigning a new ordinal.
+     *
+     * @param key the key.
+     * @return the index, or {@code -1} if the key cannot be contained.
+     */
+    private int indexOf(Object key) {
+        if (!(key instanceof CurrencyUnit)) {
+            return -1;
+        }
+        int ordinal = CurrencyOrdinals.ordinal(((CurrencyUnit) key).getCurrencyCode());
+        return ordinal < keys.length ? ordinal : -1;
+    }
+
+    /**
+     * Iterator over the entries present, in ordinal order.
+     */
+    private final class EntryIterator implements Iterator<Entry<CurrencyUnit, V>> {
+
+        private int next = advance(0);
+        private int last = -1;
+
+        private int advance(int from) {
+            int index = from;
+            while (index < keys.length && keys[index] == null) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Entry<CurrencyUnit, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            final int ordinal = last;
+            return new SimpleEntry<CurrencyUnit, V>(keys[ordinal], (V) values[ordinal]) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public V setValue(V value) {
+                    Objects.requireNonNull(value, "value required.");
+                    values[ordinal] = value;
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0 || keys[last] == null) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            last = -1;
+        }
+    }
+}
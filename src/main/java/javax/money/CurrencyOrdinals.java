@@ -0,0 +1,153 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry assigning each {@link CurrencyUnit} a dense {@code int} ordinal, identified by its currency code. The
+ * currencies known to the registered currency providers are assigned ordinals {@code 0..n-1} on first use, in
+ * order of their currency codes; any other currency is assigned the next free ordinal when first seen.
+ * Ordinals are never reassigned, so they can be used as array indices, as done by {@link CurrencyMap},
+ * {@link CurrencyLongMap} and {@link CurrencyDoubleMap}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class CurrencyOrdinals {
+
+    /**
+     * The ordinals, by currency code.
+     */
+    private static final Map<String, Integer> ORDINALS = new ConcurrentHashMap<>();
+    /**
+     * The currencies, by ordinal; replaced on registration, guarded by the class lock.
+     */
+    private static volatile CurrencyUnit[] currencies = new CurrencyUnit[0];
+    /**
+     * Flag, whether the currencies of the providers were registered.
+     */
+    private static volatile boolean initialized;
+
+    /**
+     * Singleton constructor.
+     */
+    private CurrencyOrdinals() {
+    }
+
+    /**
+     * Access the ordinal of a currency, assigning a new ordinal if the currency was not seen before.
+     *
+     * @param currency the currency, not null.
+     * @return the ordinal, {@code >= 0}.
+     */
+    public static int ordinal(CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "currency required.");
+        if (!initialized) {
+            initialize();
+        }
+        Integer ordinal = ORDINALS.get(currency.getCurrencyCode());
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return register(currency);
+    }
+
+    /**
+     * Access the ordinal of a currency code.
+     *
+     * @param currencyCode the currency code, not null.
+     * @return the ordinal, or {@code -1} if no ordinal was assigned to the currency code.
+     */
+    public static int ordinal(String currencyCode) {
+        Objects.requireNonNull(currencyCode, "currencyCode required.");
+        if (!initialized) {
+            initialize();
+        }
+        Integer ordinal = ORDINALS.get(currencyCode);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Access the currency registered with an ordinal.
+     *
+     * @param ordinal the ordinal.
+     * @return the currency, as first seen by the registry.
+     * @throws IndexOutOfBoundsException if no currency is registered with the given ordinal.
+     */
+    public static CurrencyUnit getCurrency(int ordinal) {
+        if (!initialized) {
+            initialize();
+        }
+        CurrencyUnit[] current = currencies;
+        if (ordinal < 0 || ordinal >= current.length) {
+            throw new IndexOutOfBoundsException("No currency with ordinal: " + ordinal);
+        }
+        return current[ordinal];
+    }
+
+    /**
+     * Access the number of ordinals assigned.
+     *
+     * @return the number of ordinals assigned, all ordinals are smaller.
+     */
+    public static int size() {
+        if (!initialized) {
+            initialize();
+        }
+        return currencies.length;
+    }
+
+    private static synchronized int register(CurrencyUnit currency) {
+        Integer ordinal = ORDINALS.get(currency.getCurrencyCode());
+        if (ordinal != null) {
+            return ordinal;
+        }
+        CurrencyUnit[] current = currencies;
+        CurrencyUnit[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = currency;
+        // publish the currency before its ordinal, so getCurrency succeeds for every ordinal handed out
+        currencies = updated;
+        ORDINALS.put(currency.getCurrencyCode(), current.length);
+        return current.length;
+    }
+
+    private static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        // set before loading, so lookups on recursive calls from providers do not recurse
+        initialized = true;
+        try {
+            List<CurrencyUnit> known = new ArrayList<>(Monetary.getCurrencies());
+            Collections.sort(known, new Comparator<CurrencyUnit>() {
+                @Override
+                public int compare(CurrencyUnit o1, CurrencyUnit o2) {
+                    return o1.getCurrencyCode().compareTo(o2.getCurrencyCode());
+                }
+            });
+            for (CurrencyUnit currency : known) {
+                register(currency);
+            }
+        } catch (Exception e) {
+            Logger.getLogger(CurrencyOrdinals.class.getName())
+                    .log(Level.INFO, "Failed to load currencies, assigning ordinals on first use only.", e);
+        }
+    }
+}
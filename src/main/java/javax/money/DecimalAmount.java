@@ -0,0 +1,366 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Objects;
+
+/**
+ * {@link MonetaryAmount} storing its number as {@link BigDecimal} of unlimited precision and scale. It is returned
+ * by {@link FastAmount} if the result of an operation exceeds the range of a {@link FastAmount}. Divisions are
+ * performed using {@link MathContext#DECIMAL128}, all other operations are exact.
+ * <p>
+ * This class is immutable, serializable and thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class DecimalAmount implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable {
+
+    /**
+     * serialVersionUID.
+     */
+    private static final long serialVersionUID = 6287465722212745434L;
+
+    /**
+     * The monetary context of all instances.
+     */
+    static final MonetaryContext MONETARY_CONTEXT = MonetaryContextBuilder.of(DecimalAmount.class).setPrecision(0)
+            .setMaxScale(-1).setFixedScale(false).build();
+
+    /**
+     * The math context used for divisions.
+     */
+    private static final MathContext DIVISION_CONTEXT = MathContext.DECIMAL128;
+
+    /**
+     * The currency.
+     */
+    private final CurrencyUnit currency;
+    /**
+     * The number.
+     */
+    private final BigDecimal number;
+
+    DecimalAmount(CurrencyUnit currency, BigDecimal number) {
+        this.currency = Objects.requireNonNull(currency, "currency required.");
+        this.number = Objects.requireNonNull(number, "number required.");
+    }
+
+    /**
+     * Creates a new amount.
+     *
+     * @param number   the number, not null.
+     * @param currency the currency, not null.
+     * @return the new amount.
+     */
+    public static DecimalAmount of(Number number, CurrencyUnit currency) {
+        return new DecimalAmount(currency, AbstractAmountFactory.toBigDecimal(number));
+    }
+
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public NumberValue getNumber() {
+        return new DecimalNumberValue(number);
+    }
+
+    @Override
+    public MonetaryContext getContext() {
+        return MONETARY_CONTEXT;
+    }
+
+    @Override
+    public <R> R query(MonetaryQuery<R> query) {
+        return query.queryFrom(this);
+    }
+
+    @Override
+    public MonetaryAmount with(MonetaryOperator operator) {
+        return operator.apply(this);
+    }
+
+    @Override
+    public MonetaryAmountFactory<DecimalAmount> getFactory() {
+        return new Factory().setAmount(this);
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount) {
+        return compareNumber(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
+        return compareNumber(amount) >= 0;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount) {
+        return compareNumber(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amt) {
+        return compareNumber(amt) <= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount) {
+        return compareNumber(amount) == 0;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return signum() < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return signum() <= 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return signum() > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return signum() >= 0;
+    }
+
+    @Override
+    public boolean isZero() {
+        return signum() == 0;
+    }
+
+    @Override
+    public int signum() {
+        return number.signum();
+    }
+
+    @Override
+    public MonetaryAmount add(MonetaryAmount amount) {
+        checkCurrency(amount);
+        return new DecimalAmount(currency, number.add(numberOf(amount)));
+    }
+
+    @Override
+    public MonetaryAmount subtract(MonetaryAmount amount) {
+        checkCurrency(amount);
+        return new DecimalAmount(currency, number.subtract(numberOf(amount)));
+    }
+
+    @Override
+    public MonetaryAmount multiply(long multiplicand) {
+        return new DecimalAmount(currency, number.multiply(BigDecimal.valueOf(multiplicand)));
+    }
+
+    @Override
+    public MonetaryAmount multiply(double multiplicand) {
+        return new DecimalAmount(currency, number.multiply(AbstractAmountFactory.toBigDecimal(multiplicand)));
+    }
+
+    @Override
+    public MonetaryAmount multiply(Number multiplicand) {
+        return new DecimalAmount(currency, number.multiply(AbstractAmountFactory.toBigDecimal(multiplicand)));
+    }
+
+    @Override
+    public MonetaryAmount divide(long divisor) {
+        return new DecimalAmount(currency, number.divide(BigDecimal.valueOf(divisor), DIVISION_CONTEXT));
+    }
+
+    @Override
+    public MonetaryAmount divide(double divisor) {
+        return new DecimalAmount(currency,
+                number.divide(AbstractAmountFactory.toBigDecimal(divisor), DIVISION_CONTEXT));
+    }
+
+    @Override
+    public MonetaryAmount divide(Number divisor) {
+        return new DecimalAmount(currency,
+                number.divide(AbstractAmountFactory.toBigDecimal(divisor), DIVISION_CONTEXT));
+    }
+
+    @Override
+    public MonetaryAmount remainder(long divisor) {
+        return new DecimalAmount(currency, number.remainder(BigDecimal.valueOf(divisor)));
+    }
+
+    @Override
+    public MonetaryAmount remainder(double divisor) {
+        return new DecimalAmount(currency, number.remainder(AbstractAmountFactory.toBigDecimal(divisor)));
+    }
+
+    @Override
+    public MonetaryAmount remainder(Number divisor) {
+        return new DecimalAmount(currency, number.remainder(AbstractAmountFactory.toBigDecimal(divisor)));
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(long divisor) {
+        return divideAndRemainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(double divisor) {
+        return divideAndRemainder(AbstractAmountFactory.toBigDecimal(divisor));
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(Number divisor) {
+        return divideAndRemainder(AbstractAmountFactory.toBigDecimal(divisor));
+    }
+
+    private MonetaryAmount[] divideAndRemainder(BigDecimal divisor) {
+        BigDecimal[] result = number.divideAndRemainder(divisor);
+        return new MonetaryAmount[]{new DecimalAmount(currency, result[0]), new DecimalAmount(currency, result[1])};
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(long divisor) {
+        return new DecimalAmount(currency, number.divideToIntegralValue(BigDecimal.valueOf(divisor)));
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(double divisor) {
+        return new DecimalAmount(currency,
+                number.divideToIntegralValue(AbstractAmountFactory.toBigDecimal(divisor)));
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(Number divisor) {
+        return new DecimalAmount(currency,
+                number.divideToIntegralValue(AbstractAmountFactory.toBigDecimal(divisor)));
+    }
+
+    @Override
+    public MonetaryAmount scaleByPowerOfTen(int power) {
+        return new DecimalAmount(currency, number.scaleByPowerOfTen(power));
+    }
+
+    @Override
+    public MonetaryAmount abs() {
+        return number.signum() >= 0 ? this : negate();
+    }
+
+    @Override
+    public MonetaryAmount negate() {
+        return new DecimalAmount(currency, number.negate());
+    }
+
+    @Override
+    public MonetaryAmount plus() {
+        return this;
+    }
+
+    @Override
+    public MonetaryAmount stripTrailingZeros() {
+        return new DecimalAmount(currency, number.stripTrailingZeros());
+    }
+
+    /**
+     * Compares the currency codes and then the numbers.
+     *
+     * @param o the amount to compare with, not null.
+     * @return the comparison result.
+     */
+    @Override
+    public int compareTo(MonetaryAmount o) {
+        int compare = currency.getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        if (compare != 0) {
+            return compare;
+        }
+        return compareNumber(o);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof DecimalAmount) {
+            DecimalAmount other = (DecimalAmount) obj;
+            return number.equals(other.number) && currency.equals(other.currency);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * currency.hashCode() + number.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + ' ' + number.toPlainString();
+    }
+
+    private int compareNumber(MonetaryAmount amount) {
+        checkCurrency(amount);
+        return number.compareTo(numberOf(amount));
+    }
+
+    private void checkCurrency(MonetaryAmount amount) {
+        Objects.requireNonNull(amount, "amount required.");
+        CurrencyUnit other = amount.getCurrency();
+        if (other != currency && !currency.getCurrencyCode().equals(other.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + other);
+        }
+    }
+
+    private static BigDecimal numberOf(MonetaryAmount amount) {
+        if (amount instanceof FastAmount) {
+            return ((FastAmount) amount).toBigDecimal();
+        }
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
+    /**
+     * Factory creating {@link DecimalAmount} instances.
+     */
+    static final class Factory extends AbstractAmountFactory<DecimalAmount> {
+
+        @Override
+        public Class<? extends MonetaryAmount> getAmountType() {
+            return DecimalAmount.class;
+        }
+
+        @Override
+        protected DecimalAmount create(CurrencyUnit currency, BigDecimal number, MonetaryContext context) {
+            return new DecimalAmount(currency, number);
+        }
+
+        @Override
+        public NumberValue getMaxNumber() {
+            return null;
+        }
+
+        @Override
+        public NumberValue getMinNumber() {
+            return null;
+        }
+
+        @Override
+        public MonetaryContext getDefaultMonetaryContext() {
+            return MONETARY_CONTEXT;
+        }
+
+        @Override
+        public MonetaryContext getMaximalMonetaryContext() {
+            return MONETARY_CONTEXT;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Objects;
+
+/**
+ * {@link NumberValue} backed by a {@link BigDecimal}, as returned by {@link FastAmount} and {@link DecimalAmount}.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+final class DecimalNumberValue extends NumberValue {
+
+    /**
+     * serialVersionUID.
+     */
+    private static final long serialVersionUID = 3071553484436419407L;
+
+    /**
+     * The numeric value.
+     */
+    private final BigDecimal number;
+
+    DecimalNumberValue(BigDecimal number) {
+        this.number = Objects.requireNonNull(number, "Number required");
+    }
+
+    @Override
+    public Class<?> getNumberType() {
+        return BigDecimal.class;
+    }
+
+    @Override
+    public int getPrecision() {
+        return number.precision();
+    }
+
+    @Override
+    public int getScale() {
+        return number.scale();
+    }
+
+    @Override
+    public int intValue() {
+        return number.intValue();
+    }
+
+    @Override
+    public int intValueExact() {
+        return number.intValueExact();
+    }
+
+    @Override
+    public long longValue() {
+        return number.longValue();
+    }
+
+    @Override
+    public long longValueExact() {
+        return number.longValueExact();
+    }
+
+    @Override
+    public float floatValue() {
+        return number.floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return number.doubleValue();
+    }
+
+    @Override
+    public double doubleValueExact() {
+        double d = number.doubleValue();
+        if (d == Double.NEGATIVE_INFINITY || d == Double.POSITIVE_INFINITY) {
+            throw new ArithmeticException("Unable to convert to double: " + number);
+        }
+        return d;
+    }
+
+    @Override
+    public long getAmountFractionNumerator() {
+        BigDecimal fraction = number.remainder(BigDecimal.ONE);
+        return fraction.movePointRight(Math.max(0, fraction.scale())).longValueExact();
+    }
+
+    @Override
+    public long getAmountFractionDenominator() {
+        return BigDecimal.ONE.movePointRight(Math.max(0, number.scale())).longValueExact();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Number> T numberValue(Class<T> numberType) {
+        if (BigDecimal.class == numberType || Number.class == numberType) {
+            return (T) number;
+        } else if (BigInteger.class == numberType) {
+            return (T) number.toBigInteger();
+        } else if (Double.class == numberType) {
+            return (T) Double.valueOf(number.doubleValue());
+        } else if (Float.class == numberType) {
+            return (T) Float.valueOf(number.floatValue());
+        } else if (Long.class == numberType) {
+            return (T) Long.valueOf(number.longValue());
+        } else if (Integer.class == numberType) {
+            return (T) Integer.valueOf(number.intValue());
+        } else if (Short.class == numberType) {
+            return (T) Short.valueOf(number.shortValue());
+        } else if (Byte.class == numberType) {
+            return (T) Byte.valueOf(number.byteValue());
+        }
+        throw new IllegalArgumentException("Unsupported numeric type: " + numberType);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Number> T numberValueExact(Class<T> numberType) {
+        if (BigDecimal.class == numberType || Number.class == numberType) {
+            return (T) number;
+        } else if (BigInteger.class == numberType) {
+            return (T) number.toBigIntegerExact();
+        } else if (Double.class == numberType) {
+            return (T) Double.valueOf(doubleValueExact());
+        } else if (Float.class == numberType) {
+            float f = number.floatValue();
+            if (f == Float.NEGATIVE_INFINITY || f == Float.POSITIVE_INFINITY) {
+                throw new ArithmeticException("Value not exact mappable to float: " + number);
+            }
+            return (T) Float.valueOf(f);
+        } else if (Long.class == numberType) {
+            return (T) Long.valueOf(number.longValueExact());
+        } else if (Integer.class == numberType) {
+            return (T) Integer.valueOf(number.intValueExact());
+        } else if (Short.class == numberType) {
+            return (T) Short.valueOf(number.shortValueExact());
+        } else if (Byte.class == numberType) {
+            return (T) Byte.valueOf(number.byteValueExact());
+        }
+        throw new IllegalArgumentException("Unsupported numeric type: " + numberType);
+    }
+
+    @Override
+    public NumberValue round(MathContext mathContext) {
+        return new DecimalNumberValue(number.round(mathContext));
+    }
+
+    @Override
+    public int compareTo(NumberValue o) {
+        return number.compareTo(o.numberValue(BigDecimal.class));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof DecimalNumberValue) {
+            return number.equals(((DecimalNumberValue) obj).number);
+        }
+        if (obj instanceof ScaledNumberValue) {
+            return number.equals(((ScaledNumberValue) obj).numberValue(BigDecimal.class));
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return number.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return number.toPlainString();
+    }
+}
@@ -15,14 +15,17 @@ package javax.money;
 import javax.money.spi.Bootstrap;
 import javax.money.spi.CurrencyProviderSpi;
 import javax.money.spi.MonetaryCurrenciesSingletonSpi;
+import javax.money.spi.ProviderHealthTracker;
+import javax.money.spi.ServiceHandle;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -36,17 +39,25 @@ import java.util.logging.Logger;
  */
 final class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesSingletonSpi {
 
+    /**
+     * The default provider chain of the most recently used provider collection, shared by all instances.
+     */
+    private static volatile ProviderChain defaultChain;
+
     @Override
     public Set<CurrencyUnit> getCurrencies(CurrencyQuery query) {
         Set<CurrencyUnit> result = new HashSet<>();
         List<CurrencyProviderSpi> providers = collectProviders(query);
+        ProviderHealthTracker health = ProviderHealthTracker.getDefault();
         for (CurrencyProviderSpi spi : providers) {
+            if (!health.isAvailable(spi)) {
+                continue;
+            }
             try {
                 result.addAll(spi.getCurrencies(query));
+                health.recordSuccess(spi);
             } catch (Exception e) {
-                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
-                        .log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(),
-                                e);
+                health.recordFailure(spi, "getCurrencies", e);
             }
         }
         return result;
@@ -66,22 +77,37 @@ final class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesS
             }
         }
         else{
-            for(String providerName:getDefaultProviderChain()){
-                CurrencyProviderSpi provider = getProvider(providerName);
-                if (provider == null) {
-                    Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName()).warning("No such currenvcy " +
-                            "provider found, ignoring: " + providerName);
-                } else {
-                    result.add(provider);
-                }
-            }
+            result.addAll(getDefaultChain().providers);
         }
         return result;
     }
 
+    /**
+     * Access the default provider chain for the currently loaded providers. The chain is evaluated again, if a
+     * new {@link javax.money.spi.ServiceProvider} was installed since, as indicated by the
+     * {@link Bootstrap#getEpoch() epoch}, or if the {@link Bootstrap} returns another provider collection.
+     *
+     * @return the current chain, never null.
+     */
+    private static ProviderChain getDefaultChain() {
+        long epoch = Bootstrap.getEpoch();
+        Collection<CurrencyProviderSpi> spis = Bootstrap.getServices(CurrencyProviderSpi.class);
+        ProviderChain chain = defaultChain;
+        if (chain == null || chain.epoch != epoch || chain.source.get() != spis) {
+            chain = new ProviderChain(spis, epoch);
+            defaultChain = chain;
+        }
+        return chain;
+    }
+
     private CurrencyProviderSpi getProvider(String providerName) {
-        for(CurrencyProviderSpi provider:Bootstrap.getServices(CurrencyProviderSpi.class)){
-            if(provider.getProviderName().equals(providerName)){
+        for (ServiceHandle<CurrencyProviderSpi> handle : Bootstrap.getServiceHandles(CurrencyProviderSpi.class)) {
+            String declaredName = handle.getProviderName();
+            if (declaredName != null && !declaredName.equals(providerName)) {
+                continue;
+            }
+            CurrencyProviderSpi provider = handle.get();
+            if (provider.getProviderName().equals(providerName)) {
                 return provider;
             }
         }
@@ -91,15 +117,11 @@ final class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesS
     /**
      * This default implementation simply returns all providers defined in arbitrary order.
      *
-     * @return the default provider chain, never null.
+     * @return the default provider chain, immutable, never null.
      */
     @Override
     public List<String> getDefaultProviderChain() {
-        List<String> provList = new ArrayList<>();
-        for(CurrencyProviderSpi currencyProviderSpi:Bootstrap.getServices(CurrencyProviderSpi.class)){
-            provList.add(currencyProviderSpi.getProviderName());
-        }
-        return provList;
+        return getDefaultChain().providerNames;
     }
 
     /**
@@ -110,13 +132,16 @@ final class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesS
     @Override
     public Set<String> getProviderNames() {
         Set<String> result = new HashSet<>();
+        ProviderHealthTracker health = ProviderHealthTracker.getDefault();
         for (CurrencyProviderSpi spi : Bootstrap.getServices(CurrencyProviderSpi.class)) {
+            if (!health.isAvailable(spi)) {
+                continue;
+            }
             try {
                 result.add(spi.getProviderName());
+                health.recordSuccess(spi);
             } catch (Exception e) {
-                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
-                        .log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(),
-                                e);
+                health.recordFailure(spi, "getProviderName", e);
             }
         }
         return result;
@@ -239,4 +264,38 @@ final class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesS
         }
         throw new MonetaryException("Ambiguous request for CurrencyUnit: " + query + ", found: " + currencies);
     }
+
+    /**
+     * The providers of the default chain, as evaluated for a given provider collection.
+     */
+    private static final class ProviderChain {
+
+        /**
+         * The {@link Bootstrap#getEpoch() epoch} this chain was evaluated in.
+         */
+        final long epoch;
+        /**
+         * The provider collection the chain was evaluated for, held weakly.
+         */
+        final WeakReference<Collection<CurrencyProviderSpi>> source;
+        /**
+         * The providers, in order.
+         */
+        final List<CurrencyProviderSpi> providers;
+        /**
+         * The names of the providers, in order.
+         */
+        final List<String> providerNames;
+
+        ProviderChain(Collection<CurrencyProviderSpi> spis, long epoch) {
+            this.epoch = epoch;
+            this.source = new WeakReference<>(spis);
+            List<String> names = new ArrayList<>(spis.size());
+            for (CurrencyProviderSpi spi : spis) {
+                names.add(spi.getProviderName());
+            }
+            this.providers = Collections.unmodifiableList(new ArrayList<>(spis));
+            this.providerNames = Collections.unmodifiableList(names);
+        }
+    }
 }
@@ -14,16 +14,23 @@ package javax.money;
 
 import javax.money.spi.Bootstrap;
 import javax.money.spi.MonetaryRoundingsSingletonSpi;
+import javax.money.spi.ProviderHealthTracker;
 import javax.money.spi.RoundingProviderSpi;
+import javax.money.spi.ServiceHandle;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * This class models the accessor for rounding instances, modeled as
@@ -41,6 +48,18 @@ final class DefaultMonetaryRoundingsSingletonSpi implements MonetaryRoundingsSin
      * rounding.
      */
     private static final MonetaryRounding DEFAULT_ROUNDING = new DefaultCurrencyRounding();
+    /**
+     * The maximal number of provider name patterns cached.
+     */
+    private static final int MAX_PATTERNS = 256;
+    /**
+     * The compiled provider name patterns, by provider name as passed to {@link #getRoundingNames(String...)}.
+     */
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    /**
+     * The default provider chain of the most recently used provider collection, shared by all instances.
+     */
+    private static volatile ProviderChain defaultChain;
 
         /**
          * Creates an rounding instance using {@link java.math.RoundingMode#UP} rounding.
@@ -76,18 +95,25 @@ final class DefaultMonetaryRoundingsSingletonSpi implements MonetaryRoundingsSin
             if (providerNames == null || providerNames.isEmpty()) {
                 providerNames = getDefaultProviderChain();
             }
-            Collection<RoundingProviderSpi> allProviders = Bootstrap.getServices(RoundingProviderSpi.class);
+            List<ServiceHandle<RoundingProviderSpi>> allProviders =
+                    Bootstrap.getServiceHandles(RoundingProviderSpi.class);
+            ProviderHealthTracker health = ProviderHealthTracker.getDefault();
             for (String providerName : providerNames) {
-                for(RoundingProviderSpi curProv: allProviders) {
-                    if (providerName.equals(curProv.getProviderName())) {
+                for (ServiceHandle<RoundingProviderSpi> handle : allProviders) {
+                    String declaredName = handle.getProviderName();
+                    if (declaredName != null && !declaredName.equals(providerName)) {
+                        continue;
+                    }
+                    RoundingProviderSpi curProv = handle.get();
+                    if (providerName.equals(curProv.getProviderName()) && health.isAvailable(curProv)) {
                         try {
                             MonetaryRounding r = curProv.getRounding(query);
                             if (r != null) {
                                 result.add(r);
                             }
+                            health.recordSuccess(curProv);
                         } catch (Exception e) {
-                            Logger.getLogger(DefaultMonetaryRoundingsSingletonSpi.class.getName())
-                                    .log(Level.SEVERE, "Error loading RoundingProviderSpi from provider: " + curProv, e);
+                            health.recordFailure(curProv, "getRounding", e);
                         }
                     }
                 }
@@ -104,28 +130,67 @@ final class DefaultMonetaryRoundingsSingletonSpi implements MonetaryRoundingsSin
         @Override
         public Set<String> getProviderNames() {
             Set<String> result = new HashSet<>();
+            ProviderHealthTracker health = ProviderHealthTracker.getDefault();
             for (RoundingProviderSpi prov : Bootstrap.getServices(RoundingProviderSpi.class)) {
+                if (!health.isAvailable(prov)) {
+                    continue;
+                }
                 try {
                     result.add(prov.getProviderName());
+                    health.recordSuccess(prov);
                 } catch (Exception e) {
-                    Logger.getLogger(DefaultMonetaryRoundingsSingletonSpi.class.getName())
-                            .log(Level.SEVERE, "Error loading RoundingProviderSpi from provider: " + prov, e);
+                    health.recordFailure(prov, "getProviderName", e);
                 }
             }
             return result;
         }
 
         /**
-         * Get the default providers list to be used.
+         * Get the default providers list to be used, which are the names of all providers, sorted by name. The
+         * chain is evaluated again, if a new {@link javax.money.spi.ServiceProvider} was installed since, as
+         * indicated by the {@link Bootstrap#getEpoch() epoch}, or if the {@link Bootstrap} returns another provider
+         * collection. A chain missing providers which are quarantined by the {@link ProviderHealthTracker} is
+         * evaluated again once the first of them is due for its trial call.
          *
-         * @return the default provider list and ordering, not null.
+         * @return the default provider list and ordering, immutable, not null.
          */
         @Override
         public List<String> getDefaultProviderChain() {
-            List<String> result = new ArrayList<>();
-            result.addAll(getProviderNames());
-            Collections.sort(result);
-            return result;
+            long epoch = Bootstrap.getEpoch();
+            Collection<RoundingProviderSpi> spis = Bootstrap.getServices(RoundingProviderSpi.class);
+            ProviderChain chain = defaultChain;
+            if (chain != null && chain.epoch == epoch && chain.source.get() == spis
+                    && (!chain.partial || System.nanoTime() - chain.validUntil < 0)) {
+                return chain.providerNames;
+            }
+            ProviderHealthTracker health = ProviderHealthTracker.getDefault();
+            Set<String> names = new HashSet<>();
+            boolean complete = true;
+            long retryMillis = Long.MAX_VALUE;
+            for (RoundingProviderSpi prov : spis) {
+                if (health.isAvailable(prov)) {
+                    try {
+                        names.add(prov.getProviderName());
+                        health.recordSuccess(prov);
+                        continue;
+                    } catch (Exception e) {
+                        health.recordFailure(prov, "getProviderName", e);
+                    }
+                }
+                complete = false;
+                retryMillis = Math.min(retryMillis, health.getHealth(prov).getRetryDelayMillis());
+            }
+            if (complete) {
+                chain = new ProviderChain(spis, epoch, names, false, 0L);
+                defaultChain = chain;
+            } else if (retryMillis > 0L) {
+                chain = new ProviderChain(spis, epoch, names, true,
+                        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryMillis));
+                defaultChain = chain;
+            } else {
+                chain = new ProviderChain(spis, epoch, names, false, 0L);
+            }
+            return chain.providerNames;
         }
 
         /**
@@ -137,25 +202,56 @@ final class DefaultMonetaryRoundingsSingletonSpi implements MonetaryRoundingsSin
          */
         public Set<String> getRoundingNames(String... providers) {
             Set<String> result = new HashSet<>();
-            String[] providerNames = providers;
-            if (providerNames.length == 0) {
-                providerNames = getDefaultProviderChain().toArray(new String[getDefaultProviderChain().size()]);
+            Collection<String> providerNames = Arrays.asList(providers);
+            if (providerNames.isEmpty()) {
+                providerNames = getDefaultProviderChain();
             }
+            ProviderHealthTracker health = ProviderHealthTracker.getDefault();
+            Collection<RoundingProviderSpi> spis = Bootstrap.getServices(RoundingProviderSpi.class);
             for (String providerName : providerNames) {
-                for (RoundingProviderSpi prov : Bootstrap.getServices(RoundingProviderSpi.class)) {
+                Pattern pattern = getPattern(providerName);
+                for (RoundingProviderSpi prov : spis) {
+                    if (!health.isAvailable(prov)) {
+                        continue;
+                    }
                     try {
-                        if (prov.getProviderName().equals(providerName) || prov.getProviderName().matches(providerName)) {
+                        String name = prov.getProviderName();
+                        if (name.equals(providerName) || pattern.matcher(name).matches()) {
                             result.addAll(prov.getRoundingNames());
                         }
+                        health.recordSuccess(prov);
                     } catch (Exception e) {
-                        Logger.getLogger(DefaultMonetaryRoundingsSingletonSpi.class.getName())
-                                .log(Level.SEVERE, "Error loading RoundingProviderSpi from provider: " + prov, e);
+                        health.recordFailure(prov, "getRoundingNames", e);
                     }
                 }
             }
             return result;
         }
 
+        /**
+         * Access the compiled pattern for a provider name passed to {@link #getRoundingNames(String...)}. Names not
+         * being valid regular expressions only match literally. At most {@link #MAX_PATTERNS} patterns are cached,
+         * the cache is cleared when full.
+         *
+         * @param providerName the provider name, not null.
+         * @return the pattern, never null.
+         */
+        private static Pattern getPattern(String providerName) {
+            Pattern pattern = PATTERNS.get(providerName);
+            if (pattern == null) {
+                try {
+                    pattern = Pattern.compile(providerName);
+                } catch (PatternSyntaxException e) {
+                    pattern = Pattern.compile(Pattern.quote(providerName));
+                }
+                if (PATTERNS.size() >= MAX_PATTERNS) {
+                    PATTERNS.clear();
+                }
+                PATTERNS.put(providerName, pattern);
+            }
+            return pattern;
+        }
+
         /**
          * Access a {@link MonetaryRounding} for rounding {@link MonetaryAmount}
          * instances given a currency.
@@ -255,6 +351,44 @@ final class DefaultMonetaryRoundingsSingletonSpi implements MonetaryRoundingsSin
             return isRoundingAvailable(RoundingQueryBuilder.of().setProviderNames(providers).setCurrency(currencyUnit).build());
         }
 
+    /**
+     * The default provider chain, as evaluated for a given provider collection.
+     */
+    private static final class ProviderChain {
+
+        /**
+         * The {@link Bootstrap#getEpoch() epoch} this chain was evaluated in.
+         */
+        final long epoch;
+        /**
+         * The provider collection the chain was evaluated for, held weakly.
+         */
+        final WeakReference<Collection<RoundingProviderSpi>> source;
+        /**
+         * The names of the providers, sorted.
+         */
+        final List<String> providerNames;
+        /**
+         * True, if providers were skipped, so the chain is only valid until {@link #validUntil}.
+         */
+        final boolean partial;
+        /**
+         * The {@link System#nanoTime()} the first provider skipped is due for its trial call.
+         */
+        final long validUntil;
+
+        ProviderChain(Collection<RoundingProviderSpi> spis, long epoch, Collection<String> names, boolean partial,
+                      long validUntil) {
+            this.epoch = epoch;
+            this.partial = partial;
+            this.validUntil = validUntil;
+            this.source = new WeakReference<>(spis);
+            List<String> sorted = new ArrayList<>(names);
+            Collections.sort(sorted);
+            this.providerNames = Collections.unmodifiableList(sorted);
+        }
+    }
+
     /**
      * Default Rounding that rounds a {@link MonetaryAmount} based on the
      * amount's {@link CurrencyUnit}.
@@ -0,0 +1,582 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * {@link MonetaryAmount} storing its number as a {@code long} with a fixed scale of {@value #SCALE}, i.e. in units
+ * of {@code 0.00001}. Additions, subtractions, comparisons and multiplications or divisions by integral values are
+ * performed on the {@code long} value without creating any {@link BigDecimal} instances.
+ * <p>
+ * The numeric range is limited to {@code +/-92'233'720'368'547.75807}, as advertised by
+ * {@link FastAmountFactory#getMaxNumber()} and {@link FastAmountFactory#getMinNumber()}. Amounts can only be
+ * created within this range, but if the result of an arithmetic operation overflows, a {@link DecimalAmount} with the
+ * exact result is returned instead. Results of operations requiring more than {@value #SCALE} fraction digits are
+ * rounded using {@link RoundingMode#HALF_EVEN}.
+ * <p>
+ * This class is immutable, serializable and thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class FastAmount implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable {
+
+    /**
+     * serialVersionUID.
+     */
+    private static final long serialVersionUID = -2133497574614722598L;
+
+    /**
+     * The fixed scale of all instances.
+     */
+    public static final int SCALE = 5;
+
+    /**
+     * The factor between the numeric value and the unscaled {@code long} value, {@code 10^SCALE}.
+     */
+    static final long MULTIPLIER = 100000L;
+
+    /**
+     * Marker returned by {@link #toUnits(NumberValue)} for numbers requiring conversion to {@link BigDecimal};
+     * {@link Long#MIN_VALUE} itself is converted the slow way.
+     */
+    static final long NO_UNITS = Long.MIN_VALUE;
+
+    /**
+     * The maximal number supported.
+     */
+    static final BigDecimal MAX_NUMBER = BigDecimal.valueOf(Long.MAX_VALUE, SCALE);
+
+    /**
+     * The minimal number supported.
+     */
+    static final BigDecimal MIN_NUMBER = BigDecimal.valueOf(Long.MIN_VALUE, SCALE);
+
+    /**
+     * The monetary context of all instances.
+     */
+    static final MonetaryContext MONETARY_CONTEXT = MonetaryContextBuilder.of(FastAmount.class).setPrecision(19)
+            .setMaxScale(SCALE).setFixedScale(true).build();
+
+    /**
+     * The currency.
+     */
+    private final CurrencyUnit currency;
+    /**
+     * The number, in units of {@code 10^-SCALE}.
+     */
+    private final long units;
+
+    private FastAmount(CurrencyUnit currency, long units) {
+        this.currency = Objects.requireNonNull(currency, "currency required.");
+        this.units = units;
+    }
+
+    /**
+     * Creates a new amount.
+     *
+     * @param number   the number, not null.
+     * @param currency the currency, not null.
+     * @return the new amount.
+     * @throws ArithmeticException if the number has more than {@value #SCALE} fraction digits or exceeds the
+     *                             supported range.
+     */
+    public static FastAmount of(Number number, CurrencyUnit currency) {
+        return new FastAmount(currency, toUnits(AbstractAmountFactory.toBigDecimal(number)));
+    }
+
+    /**
+     * Creates a new amount.
+     *
+     * @param number       the number, not null.
+     * @param currencyCode the currency code, resolved using {@link Monetary#getCurrency(String, String...)}.
+     * @return the new amount.
+     * @throws ArithmeticException if the number has more than {@value #SCALE} fraction digits or exceeds the
+     *                             supported range.
+     */
+    public static FastAmount of(Number number, String currencyCode) {
+        return of(number, Monetary.getCurrency(currencyCode));
+    }
+
+    /**
+     * Creates a new amount from its unscaled value.
+     *
+     * @param units    the number in units of {@code 10^-SCALE}, e.g. {@code 150000} for {@code 1.5}.
+     * @param currency the currency, not null.
+     * @return the new amount.
+     */
+    public static FastAmount ofUnscaled(long units, CurrencyUnit currency) {
+        return new FastAmount(currency, units);
+    }
+
+    /**
+     * Converts an arbitrary amount into a {@link FastAmount}.
+     *
+     * @param amount the amount, not null.
+     * @return the amount as {@link FastAmount}.
+     * @throws ArithmeticException if the number has more than {@value #SCALE} fraction digits or exceeds the
+     *                             supported range.
+     */
+    public static FastAmount from(MonetaryAmount amount) {
+        if (amount instanceof FastAmount) {
+            return (FastAmount) amount;
+        }
+        long units = toUnits(amount.getNumber());
+        if (units != NO_UNITS) {
+            return new FastAmount(amount.getCurrency(), units);
+        }
+        return of(amount.getNumber().numberValue(BigDecimal.class), amount.getCurrency());
+    }
+
+    /**
+     * Access the number as unscaled value, in units of {@code 10^-SCALE}.
+     *
+     * @return the unscaled value.
+     */
+    public long getUnscaledValue() {
+        return units;
+    }
+
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public NumberValue getNumber() {
+        return new ScaledNumberValue(units, SCALE);
+    }
+
+    @Override
+    public MonetaryContext getContext() {
+        return MONETARY_CONTEXT;
+    }
+
+    @Override
+    public <R> R query(MonetaryQuery<R> query) {
+        return query.queryFrom(this);
+    }
+
+    @Override
+    public MonetaryAmount with(MonetaryOperator operator) {
+        return operator.apply(this);
+    }
+
+    @Override
+    public MonetaryAmountFactory<FastAmount> getFactory() {
+        return new FastAmountFactory().setAmount(this);
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount) {
+        return compareNumber(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
+        return compareNumber(amount) >= 0;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount) {
+        return compareNumber(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amt) {
+        return compareNumber(amt) <= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount) {
+        return compareNumber(amount) == 0;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return units < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return units <= 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return units > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return units >= 0;
+    }
+
+    @Override
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    @Override
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    @Override
+    public MonetaryAmount add(MonetaryAmount amount) {
+        checkCurrency(amount);
+        if (amount instanceof FastAmount) {
+            long other = ((FastAmount) amount).units;
+            long result = units + other;
+            if (((units ^ result) & (other ^ result)) < 0) {
+                return new DecimalAmount(currency, toBigDecimal().add(BigDecimal.valueOf(other, SCALE)));
+            }
+            return result == units ? this : new FastAmount(currency, result);
+        }
+        long other = toUnits(amount.getNumber());
+        if (other != NO_UNITS) {
+            long result = units + other;
+            if (((units ^ result) & (other ^ result)) >= 0) {
+                return new FastAmount(currency, result);
+            }
+        }
+        return valueOf(toBigDecimal().add(amount.getNumber().numberValue(BigDecimal.class)), currency);
+    }
+
+    @Override
+    public MonetaryAmount subtract(MonetaryAmount amount) {
+        checkCurrency(amount);
+        if (amount instanceof FastAmount) {
+            long other = ((FastAmount) amount).units;
+            long result = units - other;
+            if (((units ^ other) & (units ^ result)) < 0) {
+                return new DecimalAmount(currency, toBigDecimal().subtract(BigDecimal.valueOf(other, SCALE)));
+            }
+            return result == units ? this : new FastAmount(currency, result);
+        }
+        long other = toUnits(amount.getNumber());
+        if (other != NO_UNITS) {
+            long result = units - other;
+            if (((units ^ other) & (units ^ result)) >= 0) {
+                return new FastAmount(currency, result);
+            }
+        }
+        return valueOf(toBigDecimal().subtract(amount.getNumber().numberValue(BigDecimal.class)), currency);
+    }
+
+    @Override
+    public MonetaryAmount multiply(long multiplicand) {
+        if (multiplicand == 1) {
+            return this;
+        }
+        long result = units * multiplicand;
+        if (((Math.abs(units) | Math.abs(multiplicand)) >>> 31) != 0 &&
+                ((multiplicand != 0 && result / multiplicand != units) ||
+                        (units == Long.MIN_VALUE && multiplicand == -1))) {
+            return new DecimalAmount(currency, toBigDecimal().multiply(BigDecimal.valueOf(multiplicand)));
+        }
+        return new FastAmount(currency, result);
+    }
+
+    @Override
+    public MonetaryAmount multiply(double multiplicand) {
+        return multiply(AbstractAmountFactory.toBigDecimal(multiplicand));
+    }
+
+    @Override
+    public MonetaryAmount multiply(Number multiplicand) {
+        if (isIntegral(multiplicand)) {
+            return multiply(multiplicand.longValue());
+        }
+        return multiply(AbstractAmountFactory.toBigDecimal(multiplicand));
+    }
+
+    private MonetaryAmount multiply(BigDecimal multiplicand) {
+        return valueOf(toBigDecimal().multiply(multiplicand), currency);
+    }
+
+    @Override
+    public MonetaryAmount divide(long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero.");
+        }
+        if (divisor == 1) {
+            return this;
+        }
+        if ((units == Long.MIN_VALUE && divisor == -1) || divisor == Long.MIN_VALUE) {
+            return divide(BigDecimal.valueOf(divisor));
+        }
+        long quotient = units / divisor;
+        long remainder = Math.abs(units % divisor);
+        long half = Math.abs(divisor) - remainder;
+        // HALF_EVEN rounding of the discarded remainder
+        if (remainder > half || (remainder == half && (quotient & 1) != 0)) {
+            quotient += (units < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return new FastAmount(currency, quotient);
+    }
+
+    @Override
+    public MonetaryAmount divide(double divisor) {
+        return divide(AbstractAmountFactory.toBigDecimal(divisor));
+    }
+
+    @Override
+    public MonetaryAmount divide(Number divisor) {
+        if (isIntegral(divisor)) {
+            return divide(divisor.longValue());
+        }
+        return divide(AbstractAmountFactory.toBigDecimal(divisor));
+    }
+
+    private MonetaryAmount divide(BigDecimal divisor) {
+        return valueOf(toBigDecimal().divide(divisor, SCALE, RoundingMode.HALF_EVEN), currency);
+    }
+
+    @Override
+    public MonetaryAmount remainder(long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero.");
+        }
+        if (divisor >= -Long.MAX_VALUE / MULTIPLIER && divisor <= Long.MAX_VALUE / MULTIPLIER) {
+            return new FastAmount(currency, units % (divisor * MULTIPLIER));
+        }
+        return this;
+    }
+
+    @Override
+    public MonetaryAmount remainder(double divisor) {
+        return remainder(AbstractAmountFactory.toBigDecimal(divisor));
+    }
+
+    @Override
+    public MonetaryAmount remainder(Number divisor) {
+        if (isIntegral(divisor)) {
+            return remainder(divisor.longValue());
+        }
+        return remainder(AbstractAmountFactory.toBigDecimal(divisor));
+    }
+
+    private MonetaryAmount remainder(BigDecimal divisor) {
+        return valueOf(toBigDecimal().remainder(divisor), currency);
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(long divisor) {
+        return new MonetaryAmount[]{divideToIntegralValue(divisor), remainder(divisor)};
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(double divisor) {
+        return new MonetaryAmount[]{divideToIntegralValue(divisor), remainder(divisor)};
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(Number divisor) {
+        return new MonetaryAmount[]{divideToIntegralValue(divisor), remainder(divisor)};
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero.");
+        }
+        if (units == Long.MIN_VALUE && divisor == -1) {
+            return new DecimalAmount(currency, toBigDecimal().negate().setScale(0, RoundingMode.DOWN));
+        }
+        return new FastAmount(currency, units / divisor / MULTIPLIER * MULTIPLIER);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(double divisor) {
+        return valueOf(toBigDecimal().divideToIntegralValue(AbstractAmountFactory.toBigDecimal(divisor)), currency);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(Number divisor) {
+        if (isIntegral(divisor)) {
+            return divideToIntegralValue(divisor.longValue());
+        }
+        return valueOf(toBigDecimal().divideToIntegralValue(AbstractAmountFactory.toBigDecimal(divisor)), currency);
+    }
+
+    @Override
+    public MonetaryAmount scaleByPowerOfTen(int power) {
+        return valueOf(toBigDecimal().scaleByPowerOfTen(power), currency);
+    }
+
+    @Override
+    public MonetaryAmount abs() {
+        return units >= 0 ? this : negate();
+    }
+
+    @Override
+    public MonetaryAmount negate() {
+        if (units == Long.MIN_VALUE) {
+            return new DecimalAmount(currency, toBigDecimal().negate());
+        }
+        return new FastAmount(currency, -units);
+    }
+
+    @Override
+    public MonetaryAmount plus() {
+        return this;
+    }
+
+    @Override
+    public MonetaryAmount stripTrailingZeros() {
+        return this;
+    }
+
+    /**
+     * Compares the currency codes and then the numbers.
+     *
+     * @param o the amount to compare with, not null.
+     * @return the comparison result.
+     */
+    @Override
+    public int compareTo(MonetaryAmount o) {
+        int compare = currency.getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        if (compare != 0) {
+            return compare;
+        }
+        return compareNumber(o);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof FastAmount) {
+            FastAmount other = (FastAmount) obj;
+            return units == other.units && currency.equals(other.currency);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * currency.hashCode() + (int) (units ^ (units >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + ' ' + toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Access the number as {@link BigDecimal}.
+     *
+     * @return the number, with a scale of {@value #SCALE}.
+     */
+    BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * Compares the numbers of this and the given amount, which must have the same currency.
+     *
+     * @param amount the amount, not null.
+     * @return the comparison result.
+     * @throws MonetaryException if the currencies differ.
+     */
+    private int compareNumber(MonetaryAmount amount) {
+        checkCurrency(amount);
+        if (amount instanceof FastAmount) {
+            long other = ((FastAmount) amount).units;
+            return units < other ? -1 : (units == other ? 0 : 1);
+        }
+        NumberValue number = amount.getNumber();
+        if (NumberValue.isCheapScaledLong(number)) {
+            return NumberValue.compareScaled(units, SCALE, number.getUnscaledLong(), number.getScale());
+        }
+        return toBigDecimal().compareTo(number.numberValue(BigDecimal.class));
+    }
+
+    private void checkCurrency(MonetaryAmount amount) {
+        Objects.requireNonNull(amount, "amount required.");
+        CurrencyUnit other = amount.getCurrency();
+        if (other != currency && !currency.getCurrencyCode().equals(other.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + other);
+        }
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short ||
+                number instanceof Byte;
+    }
+
+    /**
+     * Converts the given number to units, without conversion to {@link BigDecimal}.
+     *
+     * @param number the number, not null.
+     * @return the unscaled value, or {@link #NO_UNITS} if the number is not a scaled long available without
+     * conversion to {@link BigDecimal}, see {@link NumberValue#isCheapScaledLong(NumberValue)}, has more than
+     * {@value #SCALE} fraction digits, or exceeds the supported range.
+     */
+    static long toUnits(NumberValue number) {
+        if (!NumberValue.isCheapScaledLong(number)) {
+            return NO_UNITS;
+        }
+        int scale = number.getScale();
+        if (scale < 0 || scale > SCALE) {
+            return NO_UNITS;
+        }
+        long unscaled = number.getUnscaledLong();
+        long factor = NumberValue.powerOfTen(SCALE - scale);
+        long result = unscaled * factor;
+        if (result / factor != unscaled) {
+            return NO_UNITS;
+        }
+        return result;
+    }
+
+    /**
+     * Converts the given number to units.
+     *
+     * @param number the number, not null.
+     * @return the unscaled value.
+     * @throws ArithmeticException if the number has more than {@value #SCALE} fraction digits or exceeds the
+     *                             supported range.
+     */
+    static long toUnits(BigDecimal number) {
+        BigInteger unscaled;
+        try {
+            unscaled = number.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Not representable as FastAmount: " + number);
+        }
+        if (unscaled.bitLength() >= Long.SIZE) {
+            throw new ArithmeticException("Not representable as FastAmount: " + number);
+        }
+        return unscaled.longValue();
+    }
+
+    /**
+     * Creates the amount representing the result of an arithmetic operation: the result is rounded to
+     * {@value #SCALE} fraction digits, and returned as {@link FastAmount}, or as {@link DecimalAmount} if it
+     * exceeds the supported range.
+     *
+     * @param number   the number, not null.
+     * @param currency the currency, not null.
+     * @return the corresponding amount.
+     */
+    static MonetaryAmount valueOf(BigDecimal number, CurrencyUnit currency) {
+        BigDecimal scaled = number.setScale(SCALE, RoundingMode.HALF_EVEN);
+        if (scaled.compareTo(MAX_NUMBER) > 0 || scaled.compareTo(MIN_NUMBER) < 0) {
+            return new DecimalAmount(currency, scaled);
+        }
+        return new FastAmount(currency, scaled.unscaledValue().longValue());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link MonetaryAmountFactory} creating {@link FastAmount} instances.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class FastAmountFactory extends AbstractAmountFactory<FastAmount> {
+
+    /**
+     * The maximal number supported.
+     */
+    private static final NumberValue MAX_NUMBER = new DecimalNumberValue(FastAmount.MAX_NUMBER);
+
+    /**
+     * The minimal number supported.
+     */
+    private static final NumberValue MIN_NUMBER = new DecimalNumberValue(FastAmount.MIN_NUMBER);
+
+    @Override
+    public Class<? extends MonetaryAmount> getAmountType() {
+        return FastAmount.class;
+    }
+
+    /**
+     * Creates a new {@link FastAmount}.
+     *
+     * @throws ArithmeticException if the number has more than {@value FastAmount#SCALE} fraction digits or exceeds
+     *                             the range supported.
+     */
+    @Override
+    protected FastAmount create(CurrencyUnit currency, BigDecimal number, MonetaryContext context) {
+        return FastAmount.ofUnscaled(FastAmount.toUnits(number), currency);
+    }
+
+    @Override
+    public NumberValue getMaxNumber() {
+        return MAX_NUMBER;
+    }
+
+    @Override
+    public NumberValue getMinNumber() {
+        return MIN_NUMBER;
+    }
+
+    @Override
+    public MonetaryContext getDefaultMonetaryContext() {
+        return FastAmount.MONETARY_CONTEXT;
+    }
+
+    @Override
+    public MonetaryContext getMaximalMonetaryContext() {
+        return FastAmount.MONETARY_CONTEXT;
+    }
+}
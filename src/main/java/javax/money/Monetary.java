@@ -18,6 +18,7 @@ import javax.money.spi.MonetaryAmountsSingletonQuerySpi;
 import javax.money.spi.MonetaryAmountsSingletonSpi;
 import javax.money.spi.MonetaryCurrenciesSingletonSpi;
 import javax.money.spi.MonetaryRoundingsSingletonSpi;
+import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -96,6 +97,17 @@ public final class Monetary {
         }
     }
 
+    /**
+     * The reusable amount factories of the current thread.
+     */
+    private static final ThreadLocal<ReusableAmountFactories> REUSABLE_AMOUNT_FACTORIES =
+            new ThreadLocal<ReusableAmountFactories>() {
+                @Override
+                protected ReusableAmountFactories initialValue() {
+                    return new ReusableAmountFactories();
+                }
+            };
+
 
     /**
      * Required for deserialization only.
@@ -107,17 +119,66 @@ public final class Monetary {
      * Access a new instance based on the currency code. Currencies are
      * available as provided by {@link CurrencyProviderSpi} instances registered
      * with the {@link javax.money.spi.Bootstrap}.
+     * <p>
+     * Codes not found using the default provider chain are remembered for a while, so repeated lookups of the same
+     * unknown code fail fast, without querying the providers again. Use {@link #findCurrency(String, String...)}
+     * to avoid the exception, e.g. when validating untrusted input.
      *
      * @param currencyCode the ISO currency code, not {@code null}.
      * @param providers    the (optional) specification of providers to consider.
      * @return the corresponding {@link CurrencyUnit} instance.
      * @throws UnknownCurrencyException if no such currency exists.
+     * @see #findCurrency(String, String...)
      */
     public static CurrencyUnit getCurrency(String currencyCode, String... providers) {
-        if(monetaryCurrenciesSpi()==null) {
+        MonetaryCurrenciesSingletonSpi spi = monetaryCurrenciesSpi();
+        if(spi==null) {
             throw new MonetaryException("No MonetaryCurrenciesSingletonSpi loaded, check your system setup.");
         }
-        return monetaryCurrenciesSpi().getCurrency(currencyCode, providers);
+        Objects.requireNonNull(currencyCode, "Currency Code may not be null");
+        if (providers.length > 0) {
+            return spi.getCurrency(currencyCode, providers);
+        }
+        UnknownCurrencyCache unknown = UnknownCurrencyCache.current();
+        if (unknown.isUnknown(currencyCode)) {
+            throw new UnknownCurrencyException(currencyCode);
+        }
+        long epoch = Bootstrap.getEpoch();
+        try {
+            return spi.getCurrency(currencyCode);
+        } catch (UnknownCurrencyException e) {
+            unknown.add(currencyCode, epoch);
+            throw e;
+        }
+    }
+
+    /**
+     * Access a currency based on the currency code, like {@link #getCurrency(String, String...)}, but returning
+     * {@code null} instead of throwing an {@link UnknownCurrencyException} if no such currency exists. This
+     * variant is intended for validating untrusted input, where unknown codes are expected.
+     *
+     * @param currencyCode the ISO currency code, not {@code null}.
+     * @param providers    the (optional) specification of providers to consider.
+     * @return the corresponding {@link CurrencyUnit} instance, or {@code null}.
+     * @throws MonetaryException if multiple currencies match the code.
+     */
+    public static CurrencyUnit findCurrency(String currencyCode, String... providers) {
+        MonetaryCurrenciesSingletonSpi spi = monetaryCurrenciesSpi();
+        if(spi==null) {
+            throw new MonetaryException("No MonetaryCurrenciesSingletonSpi loaded, check your system setup.");
+        }
+        Objects.requireNonNull(currencyCode, "Currency Code may not be null");
+        UnknownCurrencyCache unknown = providers.length == 0 ? UnknownCurrencyCache.current() : null;
+        if (unknown != null && unknown.isUnknown(currencyCode)) {
+            return null;
+        }
+        long epoch = Bootstrap.getEpoch();
+        CurrencyUnit currency = spi.getCurrency(
+                CurrencyQueryBuilder.of().setCurrencyCodes(currencyCode).setProviderNames(providers).build());
+        if (currency == null && unknown != null) {
+            unknown.add(currencyCode, epoch);
+        }
+        return currency;
     }
 
     /**
@@ -166,10 +227,24 @@ public final class Monetary {
      * would return a result for the given code.
      */
     public static boolean isCurrencyAvailable(String code, String... providers) {
-        if(monetaryCurrenciesSpi()==null){
+        MonetaryCurrenciesSingletonSpi spi = monetaryCurrenciesSpi();
+        if(spi==null){
             throw new IllegalStateException("No Monetary Spi loaded.");
         }
-        return monetaryCurrenciesSpi().isCurrencyAvailable(code, providers);
+        Objects.requireNonNull(code, "Currency Code may not be null");
+        if (providers.length > 0) {
+            return spi.isCurrencyAvailable(code, providers);
+        }
+        UnknownCurrencyCache unknown = UnknownCurrencyCache.current();
+        if (unknown.isUnknown(code)) {
+            return false;
+        }
+        long epoch = Bootstrap.getEpoch();
+        if (spi.isCurrencyAvailable(code)) {
+            return true;
+        }
+        unknown.add(code, epoch);
+        return false;
     }
 
     /**
@@ -274,6 +349,39 @@ public final class Monetary {
         return factory;
     }
 
+    /**
+     * Access a {@link ReusableAmountFactory} for the given {@link MonetaryAmount} implementation type, confined to
+     * the current thread. The factory is looked up once per thread and type (and again after the
+     * {@link javax.money.spi.ServiceProvider} was replaced, or the context class loader of the thread changed, e.g.
+     * when a pooled thread serves another application), and returned {@link
+     * ReusableAmountFactory#reset() reset} on each call, so creating amounts in a loop costs no factory lookup.
+     * The instance returned must not be passed on to other threads.
+     *
+     * @param amountType {@link MonetaryAmount} implementation type, nor {@code null}.
+     * @return the reusable factory of the current thread, never {@code null}.
+     * @throws MonetaryException if no {@link MonetaryAmountFactory} targeting the given {@link MonetaryAmount}
+     *                           implementation class is registered.
+     * @see #getAmountFactory(Class)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends MonetaryAmount> ReusableAmountFactory<T> getReusableAmountFactory(Class<T> amountType) {
+        ReusableAmountFactories reusable = REUSABLE_AMOUNT_FACTORIES.get();
+        long epoch = Bootstrap.getEpoch();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (reusable.epoch != epoch || reusable.classLoader.get() != classLoader) {
+            reusable.factories.clear();
+            reusable.epoch = epoch;
+            reusable.classLoader = new WeakReference<>(classLoader);
+        }
+        Map<Class<?>, ReusableAmountFactory<?>> factories = reusable.factories;
+        ReusableAmountFactory<T> factory = (ReusableAmountFactory<T>) factories.get(amountType);
+        if (factory == null) {
+            factory = new ReusableAmountFactory<>(getAmountFactory(amountType));
+            factories.put(amountType, factory);
+        }
+        return factory.reset();
+    }
+
     /**
      * Access the default {@link MonetaryAmountFactory} as defined by
      * {@link javax.money.spi.MonetaryAmountsSingletonSpi#getDefaultAmountFactory()}.
@@ -554,5 +662,14 @@ public final class Monetary {
         return monetaryRoundingsSpi().getDefaultProviderChain();
     }
 
-
+    /**
+     * The reusable amount factories of a thread, by amount type, valid for the {@link Bootstrap#getEpoch() epoch}
+     * and the context class loader they were looked up with. The class loader is held weakly, the factories are
+     * released as soon as the thread uses another class loader.
+     */
+    private static final class ReusableAmountFactories {
+        final Map<Class<?>, ReusableAmountFactory<?>> factories = new HashMap<>();
+        long epoch = Bootstrap.getEpoch();
+        WeakReference<ClassLoader> classLoader = new WeakReference<>(Thread.currentThread().getContextClassLoader());
+    }
 }
@@ -0,0 +1,328 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel aggregation operations over collections of {@link MonetaryAmount}, grouping the amounts by their
+ * {@link CurrencyUnit}. The work is split recursively into {@link RecursiveTask}s, executed on a
+ * {@link ForkJoinPool}; each task aggregates its range into a {@link MonetaryAmountAccumulator}, and the partial
+ * results are merged exactly.
+ * <p>
+ * Amounts are only compared with amounts of the same currency, no conversion is performed. Results are returned
+ * in order of the first occurrence of each currency, and are created on the calling thread, so the
+ * {@link MonetaryAmountFactory} passed is never shared among threads.
+ *
+ * @author Anatole Tresch
+ */
+public final class MonetaryAggregations {
+
+    /**
+     * The minimal number of amounts aggregated by a single task.
+     */
+    private static final int MIN_CHUNK_SIZE = 1024;
+    /**
+     * The number of tasks created per worker thread, allowing work stealing to balance uneven ranges.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+    /**
+     * Aggregation mode summing the amounts.
+     */
+    private static final int SUM = 0;
+    /**
+     * Aggregation mode evaluating the smallest amounts.
+     */
+    private static final int MIN = 1;
+    /**
+     * Aggregation mode evaluating the largest amounts.
+     */
+    private static final int MAX = 2;
+
+    /**
+     * Singleton constructor.
+     */
+    private MonetaryAggregations() {
+    }
+
+    /**
+     * Sums the given amounts per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @param factory the factory used to create the results, not null.
+     * @return the sums, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> sumByCurrency(Collection<? extends MonetaryAmount> amounts,
+                                                                  MonetaryAmountFactory<?> factory) {
+        return sumByCurrency(amounts, factory, PoolHolder.POOL);
+    }
+
+    /**
+     * Sums the given amounts per currency.
+     *
+     * @param amounts the amounts, not null.
+     * @param factory the factory used to create the results, not null.
+     * @param pool    the pool executing the aggregation, not null.
+     * @return the sums, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> sumByCurrency(Collection<? extends MonetaryAmount> amounts,
+                                                                  MonetaryAmountFactory<?> factory,
+                                                                  ForkJoinPool pool) {
+        Objects.requireNonNull(factory, "factory required.");
+        return aggregate(amounts, SUM, pool).accumulator.getSums(factory);
+    }
+
+    /**
+     * Sums the given amounts per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @param factory the factory used to create the results, not null.
+     * @return the sums, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> sumByCurrency(MonetaryAmount[] amounts,
+                                                                  MonetaryAmountFactory<?> factory) {
+        return sumByCurrency(Arrays.asList(amounts), factory, PoolHolder.POOL);
+    }
+
+    /**
+     * Evaluates the smallest amount per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @return the smallest amounts, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> minByCurrency(Collection<? extends MonetaryAmount> amounts) {
+        return minByCurrency(amounts, PoolHolder.POOL);
+    }
+
+    /**
+     * Evaluates the smallest amount per currency.
+     *
+     * @param amounts the amounts, not null.
+     * @param pool    the pool executing the aggregation, not null.
+     * @return the smallest amounts, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> minByCurrency(Collection<? extends MonetaryAmount> amounts,
+                                                                  ForkJoinPool pool) {
+        return toResult(aggregate(amounts, MIN, pool).extremes);
+    }
+
+    /**
+     * Evaluates the smallest amount per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @return the smallest amounts, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> minByCurrency(MonetaryAmount[] amounts) {
+        return minByCurrency(Arrays.asList(amounts), PoolHolder.POOL);
+    }
+
+    /**
+     * Evaluates the largest amount per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @return the largest amounts, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> maxByCurrency(Collection<? extends MonetaryAmount> amounts) {
+        return maxByCurrency(amounts, PoolHolder.POOL);
+    }
+
+    /**
+     * Evaluates the largest amount per currency.
+     *
+     * @param amounts the amounts, not null.
+     * @param pool    the pool executing the aggregation, not null.
+     * @return the largest amounts, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> maxByCurrency(Collection<? extends MonetaryAmount> amounts,
+                                                                  ForkJoinPool pool) {
+        return toResult(aggregate(amounts, MAX, pool).extremes);
+    }
+
+    /**
+     * Evaluates the largest amount per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @return the largest amounts, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> maxByCurrency(MonetaryAmount[] amounts) {
+        return maxByCurrency(Arrays.asList(amounts), PoolHolder.POOL);
+    }
+
+    /**
+     * Evaluates the average amount per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @param factory the factory used to create the results, not null.
+     * @return the averages, by currency, calculated with {@link MathContext#DECIMAL128}.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> averageByCurrency(Collection<? extends MonetaryAmount> amounts,
+                                                                      MonetaryAmountFactory<?> factory) {
+        return averageByCurrency(amounts, factory, MathContext.DECIMAL128, PoolHolder.POOL);
+    }
+
+    /**
+     * Evaluates the average amount per currency, using the default pool.
+     *
+     * @param amounts the amounts, not null.
+     * @param factory the factory used to create the results, not null.
+     * @return the averages, by currency, calculated with {@link MathContext#DECIMAL128}.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> averageByCurrency(MonetaryAmount[] amounts,
+                                                                      MonetaryAmountFactory<?> factory) {
+        return averageByCurrency(Arrays.asList(amounts), factory, MathContext.DECIMAL128, PoolHolder.POOL);
+    }
+
+    /**
+     * Evaluates the average amount per currency.
+     *
+     * @param amounts     the amounts, not null.
+     * @param factory     the factory used to create the results, not null.
+     * @param mathContext the context used for dividing the exact sums, not null.
+     * @param pool        the pool executing the aggregation, not null.
+     * @return the averages, by currency.
+     */
+    public static Map<CurrencyUnit, MonetaryAmount> averageByCurrency(Collection<? extends MonetaryAmount> amounts,
+                                                                      MonetaryAmountFactory<?> factory,
+                                                                      MathContext mathContext, ForkJoinPool pool) {
+        Objects.requireNonNull(factory, "factory required.");
+        Objects.requireNonNull(mathContext, "mathContext required.");
+        MonetaryAmountAccumulator accumulator = aggregate(amounts, SUM, pool).accumulator;
+        Map<CurrencyUnit, MonetaryAmount> result = new LinkedHashMap<>();
+        for (CurrencyUnit currency : accumulator.getCurrencies()) {
+            BigDecimal average = accumulator.getNumber(currency).numberValue(BigDecimal.class)
+                    .divide(BigDecimal.valueOf(accumulator.getCount(currency)), mathContext);
+            result.put(currency, factory.setCurrency(currency).setNumber(average).create());
+        }
+        return result;
+    }
+
+    private static Aggregate aggregate(Collection<? extends MonetaryAmount> amounts, int mode,
+                                       ForkJoinPool pool) {
+        Objects.requireNonNull(amounts, "amounts required.");
+        Objects.requireNonNull(pool, "pool required.");
+        List<? extends MonetaryAmount> list;
+        if (amounts instanceof List && amounts instanceof RandomAccess) {
+            list = (List<? extends MonetaryAmount>) amounts;
+        } else {
+            list = Arrays.asList(amounts.toArray(new MonetaryAmount[amounts.size()]));
+        }
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, list.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        AggregateTask task = new AggregateTask(list, 0, list.size(), chunkSize, mode);
+        if (list.size() <= chunkSize) {
+            return task.compute();
+        }
+        return pool.invoke(task);
+    }
+
+    private static Map<CurrencyUnit, MonetaryAmount> toResult(Map<String, MonetaryAmount> amounts) {
+        Map<CurrencyUnit, MonetaryAmount> result = new LinkedHashMap<>();
+        for (MonetaryAmount amount : amounts.values()) {
+            result.put(amount.getCurrency(), amount);
+        }
+        return result;
+    }
+
+    /**
+     * The partial result of an aggregation.
+     */
+    private static final class Aggregate {
+
+        /**
+         * The aggregation mode, {@link #SUM}, {@link #MIN} or {@link #MAX}.
+         */
+        final int mode;
+        /**
+         * The sums, if evaluated.
+         */
+        final MonetaryAmountAccumulator accumulator = new MonetaryAmountAccumulator();
+        /**
+         * The smallest or largest amounts, by currency code, if evaluated.
+         */
+        final Map<String, MonetaryAmount> extremes = new LinkedHashMap<>();
+
+        Aggregate(int mode) {
+            this.mode = mode;
+        }
+
+        void add(MonetaryAmount amount) {
+            if (mode == SUM) {
+                accumulator.add(amount);
+                return;
+            }
+            String code = amount.getCurrency().getCurrencyCode();
+            MonetaryAmount current = extremes.get(code);
+            if (current == null || (mode == MIN ? amount.isLessThan(current) : amount.isGreaterThan(current))) {
+                extremes.put(code, amount);
+            }
+        }
+
+        Aggregate merge(Aggregate other) {
+            accumulator.addAll(other.accumulator);
+            for (MonetaryAmount amount : other.extremes.values()) {
+                add(amount);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Task aggregating a range of amounts, splitting it in halves until it falls below the chunk size.
+     */
+    private static final class AggregateTask extends RecursiveTask<Aggregate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends MonetaryAmount> amounts;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final int mode;
+
+        AggregateTask(List<? extends MonetaryAmount> amounts, int from, int to, int chunkSize, int mode) {
+            this.amounts = amounts;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.mode = mode;
+        }
+
+        @Override
+        protected Aggregate compute() {
+            if (to - from <= chunkSize) {
+                Aggregate result = new Aggregate(mode);
+                for (int i = from; i < to; i++) {
+                    result.add(Objects.requireNonNull(amounts.get(i), "amount required."));
+                }
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(amounts, from, middle, chunkSize, mode);
+            left.fork();
+            Aggregate right = new AggregateTask(amounts, middle, to, chunkSize, mode).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Holder of the default pool, created on first use.
+     */
+    private static final class PoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Mutable accumulator summing amounts per {@link CurrencyUnit}, without creating intermediate amounts. The final
+ * amounts are created once, using a {@link MonetaryAmountFactory} of choice.
+ * <p>
+ * Sums are exact: values with up to {@value FastAmount#SCALE} fraction digits are summed as scaled {@code long}
+ * values, values with more fraction digits and sums exceeding the {@code long} range are carried over into a
+ * {@link BigDecimal}. Adding {@link FastAmount} instances does not allocate any objects, as long as the
+ * currency is already known to the accumulator.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class MonetaryAmountAccumulator {
+
+    /**
+     * The sums, by currency code, in order of first occurrence.
+     */
+    private final Map<String, Sum> sums = new LinkedHashMap<>();
+    /**
+     * The sum accessed last, to avoid hash lookups for consecutive amounts of the same currency.
+     */
+    private Sum last;
+
+    /**
+     * Adds an amount.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     */
+    public MonetaryAmountAccumulator add(MonetaryAmount amount) {
+        Objects.requireNonNull(amount, "amount required.");
+        Sum sum = sum(amount.getCurrency());
+        if (amount instanceof FastAmount) {
+            sum.addUnits(((FastAmount) amount).getUnscaledValue());
+        } else {
+            NumberValue number = amount.getNumber();
+            long units = FastAmount.toUnits(number);
+            if (units != FastAmount.NO_UNITS) {
+                sum.addUnits(units);
+            } else {
+                sum.add(number.numberValue(BigDecimal.class));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds all given amounts.
+     *
+     * @param amounts the amounts, not null.
+     * @return this accumulator, for chaining.
+     */
+    public MonetaryAmountAccumulator addAll(Iterable<? extends MonetaryAmount> amounts) {
+        for (MonetaryAmount amount : amounts) {
+            add(amount);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a number.
+     *
+     * @param currency the currency, not null.
+     * @param number   the number, not null.
+     * @return this accumulator, for chaining.
+     */
+    public MonetaryAmountAccumulator add(CurrencyUnit currency, Number number) {
+        Objects.requireNonNull(number, "number required.");
+        Sum sum = sum(currency);
+        if (number instanceof Long || number instanceof Integer || number instanceof Short ||
+                number instanceof Byte) {
+            long value = number.longValue();
+            if (value <= Long.MAX_VALUE / FastAmount.MULTIPLIER && value >= Long.MIN_VALUE / FastAmount.MULTIPLIER) {
+                sum.addUnits(value * FastAmount.MULTIPLIER);
+                return this;
+            }
+        }
+        sum.add(AbstractAmountFactory.toBigDecimal(number));
+        return this;
+    }
+
+    /**
+     * Adds the sums of another accumulator.
+     *
+     * @param other the other accumulator, not null.
+     * @return this accumulator, for chaining.
+     */
+    public MonetaryAmountAccumulator addAll(MonetaryAmountAccumulator other) {
+        for (Sum otherSum : other.sums.values()) {
+            Sum sum = sum(otherSum.currency);
+            sum.merge(otherSum);
+        }
+        return this;
+    }
+
+    /**
+     * Access the currencies summed.
+     *
+     * @return the currencies, in order of first occurrence.
+     */
+    public Set<CurrencyUnit> getCurrencies() {
+        Set<CurrencyUnit> currencies = new LinkedHashSet<>();
+        for (Sum sum : sums.values()) {
+            currencies.add(sum.currency);
+        }
+        return Collections.unmodifiableSet(currencies);
+    }
+
+    /**
+     * Access the number of values added for a currency.
+     *
+     * @param currency the currency, not null.
+     * @return the number of values added.
+     */
+    public long getCount(CurrencyUnit currency) {
+        Sum sum = sums.get(currency.getCurrencyCode());
+        return sum == null ? 0 : sum.count;
+    }
+
+    /**
+     * Access the exact sum of a currency.
+     *
+     * @param currency the currency, not null.
+     * @return the sum, zero if no values were added for the currency.
+     */
+    public NumberValue getNumber(CurrencyUnit currency) {
+        Sum sum = sums.get(currency.getCurrencyCode());
+        return new DecimalNumberValue(sum == null ? BigDecimal.ZERO : sum.toBigDecimal());
+    }
+
+    /**
+     * Creates the sum of a currency as amount.
+     *
+     * @param currency the currency, not null.
+     * @param factory  the factory used to create the amount, not null.
+     * @param <T>      the amount type.
+     * @return the sum, zero if no values were added for the currency.
+     */
+    public <T extends MonetaryAmount> T getSum(CurrencyUnit currency, MonetaryAmountFactory<T> factory) {
+        Sum sum = sums.get(currency.getCurrencyCode());
+        return factory.setCurrency(sum == null ? currency : sum.currency)
+                .setNumber(sum == null ? BigDecimal.ZERO : sum.toBigDecimal()).create();
+    }
+
+    /**
+     * Creates the sums of all currencies as amounts.
+     *
+     * @param factory the factory used to create the amounts, not null.
+     * @return the sums, by currency, in order of first occurrence.
+     */
+    public Map<CurrencyUnit, MonetaryAmount> getSums(MonetaryAmountFactory<?> factory) {
+        Map<CurrencyUnit, MonetaryAmount> result = new LinkedHashMap<>();
+        for (Sum sum : sums.values()) {
+            result.put(sum.currency, factory.setCurrency(sum.currency).setNumber(sum.toBigDecimal()).create());
+        }
+        return result;
+    }
+
+    /**
+     * Removes all sums.
+     */
+    public void clear() {
+        sums.clear();
+        last = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("MonetaryAmountAccumulator [");
+        boolean first = true;
+        for (Sum sum : sums.values()) {
+            if (!first) {
+                b.append(", ");
+            }
+            b.append(sum.currency.getCurrencyCode()).append('=').append(sum.toBigDecimal().toPlainString());
+            first = false;
+        }
+        return b.append(']').toString();
+    }
+
+    private Sum sum(CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "currency required.");
+        Sum sum = last;
+        if (sum != null && sum.currency == currency) {
+            return sum;
+        }
+        String code = currency.getCurrencyCode();
+        sum = sums.get(code);
+        if (sum == null) {
+            sum = new Sum(currency);
+            sums.put(code, sum);
+        }
+        last = sum;
+        return sum;
+    }
+
+    /**
+     * The running sum of a currency.
+     */
+    private static final class Sum {
+
+        /**
+         * The currency.
+         */
+        private final CurrencyUnit currency;
+        /**
+         * The part of the sum held as scaled {@code long}, in units of {@code 10^-SCALE}.
+         */
+        private long units;
+        /**
+         * The part of the sum not representable as scaled {@code long}, or null.
+         */
+        private BigDecimal carry;
+        /**
+         * The number of values added.
+         */
+        private long count;
+
+        Sum(CurrencyUnit currency) {
+            this.currency = currency;
+        }
+
+        void addUnits(long value) {
+            sumUnits(value);
+            count++;
+        }
+
+        void merge(Sum other) {
+            sumUnits(other.units);
+            if (other.carry != null) {
+                addCarry(other.carry);
+            }
+            count += other.count;
+        }
+
+        private void sumUnits(long value) {
+            long r = units + value;
+            if (((units ^ r) & (value ^ r)) < 0) {
+                addCarry(BigDecimal.valueOf(units, FastAmount.SCALE).add(BigDecimal.valueOf(value, FastAmount.SCALE)));
+                r = 0;
+            }
+            units = r;
+        }
+
+        void add(BigDecimal value) {
+            if (value.scale() <= FastAmount.SCALE && value.precision() - value.scale() < 14) {
+                addUnits(value.setScale(FastAmount.SCALE).unscaledValue().longValue());
+            } else {
+                addCarry(value);
+                count++;
+            }
+        }
+
+        private void addCarry(BigDecimal value) {
+            carry = carry == null ? value : carry.add(value);
+        }
+
+        BigDecimal toBigDecimal() {
+            BigDecimal result = BigDecimal.valueOf(units, FastAmount.SCALE);
+            return carry == null ? result : carry.add(result);
+        }
+    }
+}
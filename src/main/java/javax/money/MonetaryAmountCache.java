@@ -0,0 +1,185 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Flyweight cache of zero and small integral amounts, per amount type, {@link CurrencyUnit} and
+ * {@link MonetaryContext}, similar to {@link Integer#valueOf(int)}. The factories of {@link FastAmount} and
+ * {@link DecimalAmount} consult this cache before creating an amount with a number in the range
+ * {@value #MIN_VALUE} to {@value #MAX_VALUE} and scale {@code 0}, other {@link MonetaryAmountFactory}
+ * implementations may do so as well.
+ * <p>
+ * The cache is bounded: at most {@value #MAX_ENTRIES} combinations of amount type, currency and context are
+ * cached, amounts for further combinations are not cached. Only amounts of immutable types may be cached.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class MonetaryAmountCache {
+
+    /**
+     * The smallest number cached.
+     */
+    public static final int MIN_VALUE = -128;
+    /**
+     * The largest number cached.
+     */
+    public static final int MAX_VALUE = 127;
+    /**
+     * The maximal number of amount type, currency and context combinations cached.
+     */
+    public static final int MAX_ENTRIES = 512;
+
+    /**
+     * The cache entries, by currency code.
+     */
+    private static final ConcurrentMap<String, Entry[]> ENTRIES = new ConcurrentHashMap<>();
+    /**
+     * The number of entries, guarded by the class lock.
+     */
+    private static int entryCount;
+
+    /**
+     * Singleton constructor.
+     */
+    private MonetaryAmountCache() {
+    }
+
+    /**
+     * Checks if amounts with the given number are cached.
+     *
+     * @param number the number.
+     * @return true, if the number is in the range cached.
+     */
+    public static boolean isCacheable(long number) {
+        return number >= MIN_VALUE && number <= MAX_VALUE;
+    }
+
+    /**
+     * Access a cached amount.
+     *
+     * @param amountType the amount type, not null.
+     * @param currency   the currency, not null.
+     * @param context    the context, not null.
+     * @param number     the number.
+     * @param <T>        the amount type.
+     * @return the cached amount, or null if not cached.
+     */
+    public static <T extends MonetaryAmount> T get(Class<T> amountType, CurrencyUnit currency,
+                                                   MonetaryContext context, long number) {
+        if (!isCacheable(number)) {
+            return null;
+        }
+        Entry entry = find(ENTRIES.get(currency.getCurrencyCode()), amountType, currency, context);
+        return entry == null ? null : amountType.cast(entry.amounts.get((int) number - MIN_VALUE));
+    }
+
+    /**
+     * Adds an amount to the cache, if not yet cached.
+     *
+     * @param amount  the immutable amount, not null. Its number must equal {@code number}.
+     * @param context the context, the amount was created with, not null.
+     * @param number  the number.
+     * @param <T>     the amount type.
+     * @return the amount cached, which may be an instance cached before, or {@code amount} if it cannot be cached.
+     * @throws IllegalArgumentException if the number of the amount does not equal {@code number}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends MonetaryAmount> T put(T amount, MonetaryContext context, long number) {
+        Objects.requireNonNull(amount, "amount required.");
+        Objects.requireNonNull(context, "context required.");
+        if (!isCacheable(number)) {
+            return amount;
+        }
+        NumberValue amountNumber = amount.getNumber();
+        if (amountNumber.numberValue(BigDecimal.class).compareTo(BigDecimal.valueOf(number)) != 0) {
+            throw new IllegalArgumentException("Amount " + amount + " does not match number " + number);
+        }
+        CurrencyUnit currency = amount.getCurrency();
+        Entry entry = find(ENTRIES.get(currency.getCurrencyCode()), amount.getClass(), currency, context);
+        if (entry == null) {
+            entry = createEntry(amount.getClass(), currency, context);
+            if (entry == null) {
+                return amount;
+            }
+        }
+        int index = (int) number - MIN_VALUE;
+        if (entry.amounts.compareAndSet(index, null, amount)) {
+            return amount;
+        }
+        return (T) entry.amounts.get(index);
+    }
+
+    /**
+     * Removes all cached amounts.
+     */
+    public static synchronized void clear() {
+        ENTRIES.clear();
+        entryCount = 0;
+    }
+
+    private static Entry find(Entry[] entries, Class<?> amountType, CurrencyUnit currency,
+                              MonetaryContext context) {
+        if (entries != null) {
+            for (Entry entry : entries) {
+                if (entry.amountType == amountType &&
+                        (entry.currency == currency || entry.currency.equals(currency)) &&
+                        (entry.context == context || entry.context.equals(context))) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static synchronized Entry createEntry(Class<?> amountType, CurrencyUnit currency,
+                                                  MonetaryContext context) {
+        String currencyCode = currency.getCurrencyCode();
+        Entry[] entries = ENTRIES.get(currencyCode);
+        Entry entry = find(entries, amountType, currency, context);
+        if (entry != null) {
+            return entry;
+        }
+        if (entryCount >= MAX_ENTRIES) {
+            return null;
+        }
+        entry = new Entry(amountType, currency, context);
+        Entry[] updated = entries == null ? new Entry[1] : Arrays.copyOf(entries, entries.length + 1);
+        updated[updated.length - 1] = entry;
+        ENTRIES.put(currencyCode, updated);
+        entryCount++;
+        return entry;
+    }
+
+    /**
+     * The amounts cached for an amount type, currency and context.
+     */
+    private static final class Entry {
+
+        final Class<?> amountType;
+        final CurrencyUnit currency;
+        final MonetaryContext context;
+        final AtomicReferenceArray<MonetaryAmount> amounts =
+                new AtomicReferenceArray<>(MAX_VALUE - MIN_VALUE + 1);
+
+        Entry(Class<?> amountType, CurrencyUnit currency, MonetaryContext context) {
+            this.amountType = amountType;
+            this.currency = currency;
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,555 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Columnar container for many amounts. Instead of one {@link MonetaryAmount} object per amount, the numbers are
+ * stored in a {@code long[]} column with the fixed scale of {@link FastAmount} ({@value FastAmount#SCALE}), and the
+ * currencies in an {@code int[]} column of ids into a small currency table. Bulk operations run as plain loops over
+ * the primitive columns; {@link MonetaryAmount} instances are only created when accessed by {@link #get(int)} or
+ * iteration.
+ * <p>
+ * Bulk operations modify this vector in place and return it, for chaining. Since the vector cannot fall back to a
+ * {@link DecimalAmount}, they throw an {@link ArithmeticException} if a result exceeds the range of a
+ * {@link FastAmount}; the vector's content is undefined afterwards, unless the operation documents otherwise.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class MonetaryAmountVector implements Iterable<MonetaryAmount> {
+
+    /**
+     * The default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The numbers, in units of {@code 10^-SCALE}.
+     */
+    private long[] units;
+    /**
+     * The currency ids, as index into {@link #currencies}.
+     */
+    private int[] currencyIds;
+    /**
+     * The number of amounts contained.
+     */
+    private int size;
+    /**
+     * The distinct currencies contained, by id.
+     */
+    private final List<CurrencyUnit> currencies = new ArrayList<>();
+    /**
+     * The currency ids, by currency code.
+     */
+    private final Map<String, Integer> currencyIdsByCode = new HashMap<>();
+
+    /**
+     * Creates a new, empty vector.
+     */
+    public MonetaryAmountVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty vector.
+     *
+     * @param capacity the initial capacity, {@code >= 0}.
+     */
+    public MonetaryAmountVector(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+        }
+        this.units = new long[capacity];
+        this.currencyIds = new int[capacity];
+    }
+
+    /**
+     * Creates a new vector containing the given amounts.
+     *
+     * @param amounts the amounts, not null.
+     * @return the new vector.
+     * @throws ArithmeticException if an amount is not representable as {@link FastAmount}.
+     */
+    public static MonetaryAmountVector of(Iterable<? extends MonetaryAmount> amounts) {
+        MonetaryAmountVector vector = new MonetaryAmountVector();
+        for (MonetaryAmount amount : amounts) {
+            vector.append(amount);
+        }
+        return vector;
+    }
+
+    /**
+     * Access the number of amounts contained.
+     *
+     * @return the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends an amount.
+     *
+     * @param amount the amount, not null.
+     * @return this vector, for chaining.
+     * @throws ArithmeticException if the amount is not representable as {@link FastAmount}.
+     */
+    public MonetaryAmountVector append(MonetaryAmount amount) {
+        return appendUnscaled(toUnits(amount), amount.getCurrency());
+    }
+
+    /**
+     * Appends an amount given its unscaled value.
+     *
+     * @param unscaledValue the number in units of {@code 10^-SCALE}.
+     * @param currency      the currency, not null.
+     * @return this vector, for chaining.
+     */
+    public MonetaryAmountVector appendUnscaled(long unscaledValue, CurrencyUnit currency) {
+        int currencyId = currencyId(currency);
+        if (size == units.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            units = Arrays.copyOf(units, capacity);
+            currencyIds = Arrays.copyOf(currencyIds, capacity);
+        }
+        units[size] = unscaledValue;
+        currencyIds[size] = currencyId;
+        size++;
+        return this;
+    }
+
+    private static long toUnits(MonetaryAmount amount) {
+        Objects.requireNonNull(amount, "amount required.");
+        if (amount instanceof FastAmount) {
+            return ((FastAmount) amount).getUnscaledValue();
+        }
+        return FastAmount.toUnits(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    /**
+     * Access an amount.
+     *
+     * @param index the index, {@code 0 <= index < size()}.
+     * @return a new {@link FastAmount} with the current value.
+     */
+    public FastAmount get(int index) {
+        checkIndex(index);
+        return FastAmount.ofUnscaled(units[index], currencies.get(currencyIds[index]));
+    }
+
+    /**
+     * Access the unscaled value of an amount, without creating an amount instance.
+     *
+     * @param index the index, {@code 0 <= index < size()}.
+     * @return the number in units of {@code 10^-SCALE}.
+     */
+    public long getUnscaledValue(int index) {
+        checkIndex(index);
+        return units[index];
+    }
+
+    /**
+     * Access the currency of an amount, without creating an amount instance.
+     *
+     * @param index the index, {@code 0 <= index < size()}.
+     * @return the currency.
+     */
+    public CurrencyUnit getCurrency(int index) {
+        checkIndex(index);
+        return currencies.get(currencyIds[index]);
+    }
+
+    /**
+     * Adds the given amount to all amounts of this vector. The currencies and the range are checked before any
+     * amount is changed, so this vector is left unchanged if an exception is thrown.
+     *
+     * @param amount the amount, with the same currency as all amounts of this vector, not null.
+     * @return this vector, for chaining.
+     * @throws MonetaryException   if a currency does not match.
+     * @throws ArithmeticException if the amount is not representable as {@link FastAmount}, or on overflow.
+     */
+    public MonetaryAmountVector add(MonetaryAmount amount) {
+        long value = toUnits(amount);
+        Integer id = currencyIdsByCode.get(amount.getCurrency().getCurrencyCode());
+        if (id == null || currencies.size() > 1) {
+            for (int i = 0; i < size; i++) {
+                if (id == null || currencyIds[i] != id) {
+                    throw new MonetaryException("Currency mismatch at index " + i + ": " + getCurrency(i) + '/' +
+                            amount.getCurrency());
+                }
+            }
+        }
+        long[] u = units;
+        long limit = value > 0 ? Long.MAX_VALUE - value : Long.MIN_VALUE - value;
+        for (int i = 0; i < size; i++) {
+            if (value > 0 ? u[i] > limit : u[i] < limit) {
+                throw overflow(i);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            u[i] += value;
+        }
+        return this;
+    }
+
+    /**
+     * Adds the amounts of another vector element-wise to the amounts of this vector.
+     *
+     * @param other the other vector, of the same size and with the same currency at each index.
+     * @return this vector, for chaining.
+     * @throws MonetaryException   if the sizes or currencies do not match.
+     * @throws ArithmeticException on overflow.
+     */
+    public MonetaryAmountVector add(MonetaryAmountVector other) {
+        if (other.size != size) {
+            throw new MonetaryException("Size mismatch: " + size + '/' + other.size);
+        }
+        int[] ids = mapCurrencyIds(other);
+        long[] u = units;
+        long[] o = other.units;
+        for (int i = 0; i < size; i++) {
+            if (ids[other.currencyIds[i]] != currencyIds[i]) {
+                throw new MonetaryException("Currency mismatch at index " + i + ": " + getCurrency(i) + '/' +
+                        other.getCurrency(i));
+            }
+            long r = u[i] + o[i];
+            if (((u[i] ^ r) & (o[i] ^ r)) < 0) {
+                throw overflow(i);
+            }
+            u[i] = r;
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies all amounts.
+     *
+     * @param multiplicand the multiplicand.
+     * @return this vector, for chaining.
+     * @throws ArithmeticException on overflow.
+     */
+    public MonetaryAmountVector multiply(long multiplicand) {
+        if (multiplicand == 1) {
+            return this;
+        }
+        long[] u = units;
+        if (multiplicand >= Integer.MIN_VALUE && multiplicand <= Integer.MAX_VALUE) {
+            long limit = Long.MAX_VALUE / Math.max(1, Math.abs(multiplicand));
+            for (int i = 0; i < size; i++) {
+                if (u[i] > limit || u[i] < -limit) {
+                    throw overflow(i);
+                }
+                u[i] *= multiplicand;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                long r = u[i] * multiplicand;
+                if (u[i] != 0 && (r / multiplicand != u[i] || (u[i] == -1 && multiplicand == Long.MIN_VALUE))) {
+                    throw overflow(i);
+                }
+                u[i] = r;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies all amounts. Results are rounded to {@value FastAmount#SCALE} fraction digits using
+     * {@link RoundingMode#HALF_EVEN}. Integral multiplicands are applied as {@link #multiply(long)}, others are
+     * applied exactly per amount.
+     *
+     * @param multiplicand the multiplicand, not null.
+     * @return this vector, for chaining.
+     * @throws ArithmeticException on overflow.
+     */
+    public MonetaryAmountVector multiply(Number multiplicand) {
+        if (multiplicand instanceof Long || multiplicand instanceof Integer || multiplicand instanceof Short ||
+                multiplicand instanceof Byte) {
+            return multiply(multiplicand.longValue());
+        }
+        BigDecimal factor = AbstractAmountFactory.toBigDecimal(multiplicand);
+        long[] u = units;
+        for (int i = 0; i < size; i++) {
+            BigDecimal r = BigDecimal.valueOf(u[i]).multiply(factor).setScale(0, RoundingMode.HALF_EVEN);
+            if (r.unscaledValue().bitLength() > 63) {
+                throw overflow(i);
+            }
+            u[i] = r.longValue();
+        }
+        return this;
+    }
+
+    /**
+     * Negates all amounts.
+     *
+     * @return this vector, for chaining.
+     * @throws ArithmeticException on overflow.
+     */
+    public MonetaryAmountVector negate() {
+        long[] u = units;
+        for (int i = 0; i < size; i++) {
+            if (u[i] == Long.MIN_VALUE) {
+                throw overflow(i);
+            }
+            u[i] = -u[i];
+        }
+        return this;
+    }
+
+    /**
+     * Rounds all amounts to the given number of fraction digits.
+     *
+     * @param fractionDigits the fraction digits, {@code 0 <= fractionDigits <= SCALE}.
+     * @param roundingMode   the rounding mode, not null.
+     * @return this vector, for chaining.
+     * @throws ArithmeticException if {@link RoundingMode#UNNECESSARY} is passed and rounding is necessary, or
+     *                             on overflow.
+     */
+    public MonetaryAmountVector round(int fractionDigits, RoundingMode roundingMode) {
+        if (fractionDigits < 0 || fractionDigits > FastAmount.SCALE) {
+            throw new IllegalArgumentException("fractionDigits must be >= 0 and <= " + FastAmount.SCALE + ": " +
+                    fractionDigits);
+        }
+        long step = pow10(FastAmount.SCALE - fractionDigits);
+        if (step == 1) {
+            return this;
+        }
+        long[] u = units;
+        for (int i = 0; i < size; i++) {
+            u[i] = round(u[i], step, roundingMode, i);
+        }
+        return this;
+    }
+
+    /**
+     * Rounds all amounts to the default fraction digits of their currencies. Amounts of currencies without
+     * default fraction digits, or with more than {@value FastAmount#SCALE}, are not changed.
+     *
+     * @param roundingMode the rounding mode, not null.
+     * @return this vector, for chaining.
+     * @throws ArithmeticException if {@link RoundingMode#UNNECESSARY} is passed and rounding is necessary, or
+     *                             on overflow.
+     */
+    public MonetaryAmountVector round(RoundingMode roundingMode) {
+        long[] steps = new long[currencies.size()];
+        for (int id = 0; id < steps.length; id++) {
+            int digits = currencies.get(id).getDefaultFractionDigits();
+            steps[id] = digits < 0 || digits >= FastAmount.SCALE ? 1 : pow10(FastAmount.SCALE - digits);
+        }
+        long[] u = units;
+        for (int i = 0; i < size; i++) {
+            long step = steps[currencyIds[i]];
+            if (step != 1) {
+                u[i] = round(u[i], step, roundingMode, i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Applies an operator to all amounts. Each amount is materialized, passed to the operator and the result
+     * stored back.
+     *
+     * @param operator the operator, not null.
+     * @return this vector, for chaining.
+     * @throws ArithmeticException if a result is not representable as {@link FastAmount}.
+     */
+    public MonetaryAmountVector with(MonetaryOperator operator) {
+        Objects.requireNonNull(operator, "operator required.");
+        for (int i = 0; i < size; i++) {
+            MonetaryAmount result = get(i).with(operator);
+            if (result instanceof FastAmount) {
+                units[i] = ((FastAmount) result).getUnscaledValue();
+            } else {
+                units[i] = FastAmount.toUnits(result.getNumber().numberValue(BigDecimal.class));
+            }
+            currencyIds[i] = currencyId(result.getCurrency());
+        }
+        return this;
+    }
+
+    /**
+     * Sums the amounts per currency. Sums exceeding the range of a {@link FastAmount} are returned as
+     * {@link DecimalAmount}.
+     *
+     * @return the sums, by currency, in order of first occurrence.
+     */
+    public Map<CurrencyUnit, MonetaryAmount> sumByCurrency() {
+        int count = currencies.size();
+        long[] sums = new long[count];
+        BigDecimal[] overflows = new BigDecimal[count];
+        boolean[] used = new boolean[count];
+        long[] u = units;
+        for (int i = 0; i < size; i++) {
+            int id = currencyIds[i];
+            used[id] = true;
+            long s = sums[id];
+            long r = s + u[i];
+            if (((s ^ r) & (u[i] ^ r)) < 0) {
+                BigDecimal carry = BigDecimal.valueOf(s).add(BigDecimal.valueOf(u[i]));
+                overflows[id] = overflows[id] == null ? carry : overflows[id].add(carry);
+                r = 0;
+            }
+            sums[id] = r;
+        }
+        Map<CurrencyUnit, MonetaryAmount> result = new LinkedHashMap<>();
+        for (int id = 0; id < count; id++) {
+            if (!used[id]) {
+                continue;
+            }
+            CurrencyUnit currency = currencies.get(id);
+            if (overflows[id] == null) {
+                result.put(currency, FastAmount.ofUnscaled(sums[id], currency));
+            } else {
+                BigDecimal total = overflows[id].add(BigDecimal.valueOf(sums[id])).movePointLeft(FastAmount.SCALE);
+                result.put(currency, FastAmount.valueOf(total, currency));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Iterates the amounts, materializing each as a new {@link FastAmount}.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<MonetaryAmount> iterator() {
+        return new Iterator<MonetaryAmount>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public MonetaryAmount next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "MonetaryAmountVector [size=" + size + ", currencies=" + currencies + ']';
+    }
+
+    private int currencyId(CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "currency required.");
+        Integer id = currencyIdsByCode.get(currency.getCurrencyCode());
+        if (id == null) {
+            id = currencies.size();
+            currencies.add(currency);
+            currencyIdsByCode.put(currency.getCurrencyCode(), id);
+        }
+        return id;
+    }
+
+    /**
+     * Maps the currency ids of another vector to the ids of this vector.
+     *
+     * @param other the other vector.
+     * @return the ids of this vector, indexed by the other vector's ids; {@code -1} for unknown currencies.
+     */
+    private int[] mapCurrencyIds(MonetaryAmountVector other) {
+        int[] ids = new int[other.currencies.size()];
+        for (int id = 0; id < ids.length; id++) {
+            Integer own = currencyIdsByCode.get(other.currencies.get(id).getCurrencyCode());
+            ids[id] = own == null ? -1 : own;
+        }
+        return ids;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    private ArithmeticException overflow(int index) {
+        return new ArithmeticException("Overflow at index " + index + ": " + get(index));
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    /**
+     * Rounds a value to a multiple of {@code step}.
+     */
+    private long round(long value, long step, RoundingMode roundingMode, int index) {
+        long quotient = value / step;
+        long remainder = value % step;
+        if (remainder == 0) {
+            return value;
+        }
+        long absRemainder = Math.abs(remainder);
+        long other = step - absRemainder;
+        boolean awayFromZero;
+        switch (roundingMode) {
+            case UP:
+                awayFromZero = true;
+                break;
+            case DOWN:
+                awayFromZero = false;
+                break;
+            case CEILING:
+                awayFromZero = value > 0;
+                break;
+            case FLOOR:
+                awayFromZero = value < 0;
+                break;
+            case HALF_UP:
+                awayFromZero = absRemainder >= other;
+                break;
+            case HALF_DOWN:
+                awayFromZero = absRemainder > other;
+                break;
+            case HALF_EVEN:
+                awayFromZero = absRemainder > other || (absRemainder == other && (quotient & 1) != 0);
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary at index " + index + ": " + get(index));
+        }
+        if (awayFromZero) {
+            quotient += value < 0 ? -1 : 1;
+            if (quotient > Long.MAX_VALUE / step || quotient < Long.MIN_VALUE / step) {
+                throw overflow(index);
+            }
+        }
+        return quotient * step;
+    }
+}
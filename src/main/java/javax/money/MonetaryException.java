@@ -49,4 +49,17 @@ public class MonetaryException extends RuntimeException {
 	public MonetaryException(String message, Throwable cause) {
 		super(message, cause);
 	}
+
+	/**
+	 * Creates an instance, optionally without stack trace. Instances without stack trace are cheap to create,
+	 * and intended for paths rejecting invalid input at a high rate, where the stack trace is of no interest.
+	 * 
+	 * @param message
+	 *            the message
+	 * @param writableStackTrace
+	 *            {@code false}, to create the instance without stack trace.
+	 */
+	public MonetaryException(String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+	}
 }
@@ -9,6 +9,7 @@
 package javax.money;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 
 /**
@@ -34,6 +35,36 @@ public abstract class NumberValue extends Number implements Comparable<NumberVal
      */
     private static final long serialVersionUID = -6410309081241720626L;
 
+    /**
+     * The maximal number of decimal digits always representable by a {@code long}.
+     */
+    static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * The powers of ten representable by a {@code long}.
+     */
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+    /**
+     * Evaluates, per number type, if the type overrides {@link #getUnscaledLong()}.
+     */
+    private static final ClassValue<Boolean> SCALED_LONG_TYPES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getUnscaledLong").getDeclaringClass() != NumberValue.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
     /**
      * Get the numeric implementation type, that is the base of this number.
      *
@@ -175,10 +206,105 @@ public abstract class NumberValue extends Number implements Comparable<NumberVal
      */
     public abstract long getAmountFractionDenominator();
 
+    /**
+     * Checks if this number can be represented exactly as {@code long} unscaled value with the
+     * {@link #getScale() scale} of this number, so {@link #getUnscaledLong()} can be called.
+     * <p>
+     * This default implementation evaluates the result using {@link BigDecimal}, implementations backed by
+     * primitive values should override this method as well as {@link #getUnscaledLong()}.
+     *
+     * @return true, if the unscaled value fits into a {@code long}.
+     */
+    public boolean isScaledLong() {
+        if (getPrecision() <= MAX_LONG_DIGITS) {
+            return true;
+        }
+        return numberValue(BigDecimal.class).unscaledValue().bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Access the unscaled value of this number, which is {@code this * 10^getScale()}.
+     *
+     * @return the unscaled value.
+     * @throws ArithmeticException if the unscaled value does not fit into a {@code long}.
+     * @see #isScaledLong()
+     */
+    public long getUnscaledLong() {
+        BigInteger unscaled = numberValue(BigDecimal.class).unscaledValue();
+        if (unscaled.bitLength() >= Long.SIZE) {
+            throw new ArithmeticException("Unscaled value exceeds long range: " + unscaled);
+        }
+        return unscaled.longValue();
+    }
+
+    /**
+     * Compares the numeric values. If both numbers provide their {@link #getUnscaledLong() unscaled value}
+     * without conversion, see {@link #isScaledLong()}, the values are compared using {@code long} arithmetic,
+     * otherwise both numbers are converted to {@link BigDecimal} once.
+     *
+     * @param o the number to compare with, not null.
+     * @return a negative value, zero or a positive value, if this number is less than, equal to or greater than
+     * {@code o}.
+     */
     @SuppressWarnings("NullableProblems")
     @Override
     public int compareTo(NumberValue o) {
+        if (isCheapScaledLong(this) && isCheapScaledLong(o)) {
+            return compareScaled(getUnscaledLong(), getScale(), o.getUnscaledLong(), o.getScale());
+        }
         return numberValue(BigDecimal.class).compareTo(o.numberValue(BigDecimal.class));
     }
 
+    /**
+     * Checks if the given number is a {@link #isScaledLong() scaled long} provided without conversion to
+     * {@link BigDecimal}, i.e. its type overrides {@link #getUnscaledLong()}. Numbers of other types should be
+     * converted to {@link BigDecimal} once instead, since the default implementations of both methods convert.
+     *
+     * @param number the number, not null.
+     * @return true, if {@link #getUnscaledLong()} can be called cheaply.
+     */
+    static boolean isCheapScaledLong(NumberValue number) {
+        return SCALED_LONG_TYPES.get(number.getClass()) && number.isScaledLong();
+    }
+
+    /**
+     * Compares two scaled {@code long} values, using {@code long} arithmetic if the scales can be aligned without
+     * overflow.
+     *
+     * @param a      the first unscaled value.
+     * @param scaleA the first scale.
+     * @param b      the second unscaled value.
+     * @param scaleB the second scale.
+     * @return a negative value, zero or a positive value, if the first value is less than, equal to or greater
+     * than the second.
+     */
+    static int compareScaled(long a, int scaleA, long b, int scaleB) {
+        if (scaleA != scaleB) {
+            long diff = (long) scaleA - scaleB;
+            if (diff > 0 && diff <= MAX_LONG_DIGITS) {
+                long scaled = b * POWERS_OF_TEN[(int) diff];
+                if (scaled / POWERS_OF_TEN[(int) diff] == b) {
+                    return Long.compare(a, scaled);
+                }
+            } else if (diff < 0 && -diff <= MAX_LONG_DIGITS) {
+                long scaled = a * POWERS_OF_TEN[(int) -diff];
+                if (scaled / POWERS_OF_TEN[(int) -diff] == a) {
+                    return Long.compare(scaled, b);
+                }
+            }
+            return BigDecimal.valueOf(a, scaleA).compareTo(BigDecimal.valueOf(b, scaleB));
+        }
+        return Long.compare(a, b);
+    }
+
+    /**
+     * Access the power of ten, e.g. for rescaling unscaled values.
+     *
+     * @param exponent the exponent, {@code 0} to {@value #MAX_LONG_DIGITS}.
+     * @return {@code 10^exponent}.
+     */
+    static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
 }
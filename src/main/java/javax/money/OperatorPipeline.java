@@ -0,0 +1,336 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link MonetaryOperator} applying a sequence of steps, as assembled by {@link OperatorPipelineBuilder}.
+ * Consecutive arithmetic steps are fused: they are evaluated on a single {@link BigDecimal} working value, and an
+ * amount is only created before an arbitrary {@link MonetaryOperator}, such as a {@link MonetaryRounding}, is
+ * applied, and for the final result.
+ * <p>
+ * Fused evaluation skips the intermediate {@code create()} and its rounding to the capabilities of the amount type,
+ * which an unfused chain of {@link MonetaryAmount#with(MonetaryOperator)} calls performs after every step. The
+ * result may therefore differ from, and be more precise than, the one of the equivalent {@code with()} chain.
+ * Divisions are evaluated using the {@link MathContext} configured on the builder. Final results exceeding the
+ * maximal scale of the amount type are rounded using {@link RoundingMode#HALF_EVEN}.
+ * <p>
+ * This class is immutable and thread-safe, so a pipeline can be built once and shared.
+ *
+ * @author Anatole Tresch
+ * @see OperatorPipelineBuilder
+ */
+public final class OperatorPipeline implements MonetaryOperator {
+
+    /**
+     * The segments, each either a {@link Step} array evaluated fused, or a {@link MonetaryOperator}.
+     */
+    private final Object[] segments;
+    /**
+     * The context used for divisions.
+     */
+    private final MathContext mathContext;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param steps       the steps, either {@link Step} or {@link MonetaryOperator} instances.
+     * @param mathContext the context used for divisions, not null.
+     */
+    OperatorPipeline(List<Object> steps, MathContext mathContext) {
+        this.mathContext = Objects.requireNonNull(mathContext);
+        List<Object> result = new ArrayList<>();
+        List<Step> fused = new ArrayList<>();
+        for (Object step : steps) {
+            if (step instanceof Step) {
+                Step current = (Step) step;
+                Step previous = fused.isEmpty() ? null : fused.get(fused.size() - 1);
+                Step combined = previous == null ? null : previous.combine(current);
+                if (combined != null) {
+                    fused.set(fused.size() - 1, combined);
+                } else {
+                    fused.add(current);
+                }
+            } else {
+                if (!fused.isEmpty()) {
+                    result.add(fused.toArray(new Step[fused.size()]));
+                    fused.clear();
+                }
+                result.add(step);
+            }
+        }
+        if (!fused.isEmpty()) {
+            result.add(fused.toArray(new Step[fused.size()]));
+        }
+        this.segments = result.toArray();
+    }
+
+    /**
+     * Access the steps of this pipeline, for reuse by {@link OperatorPipelineBuilder}.
+     *
+     * @return the steps, after fusing.
+     */
+    List<Object> getSteps() {
+        List<Object> steps = new ArrayList<>();
+        for (Object segment : segments) {
+            if (segment instanceof Step[]) {
+                steps.addAll(Arrays.asList((Step[]) segment));
+            } else {
+                steps.add(segment);
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Access the {@link MathContext} used for divisions, for reuse by {@link OperatorPipelineBuilder}.
+     *
+     * @return the context, never null.
+     */
+    MathContext getMathContext() {
+        return mathContext;
+    }
+
+    /**
+     * Access the number of amounts created by this pipeline per evaluation, at most.
+     *
+     * @return the number of amounts created.
+     */
+    public int getMaterializationCount() {
+        int count = 0;
+        boolean pending = false;
+        for (Object segment : segments) {
+            if (segment instanceof Step[]) {
+                pending = true;
+            } else {
+                count += pending ? 1 : 0;
+                pending = false;
+            }
+        }
+        return count + (pending ? 1 : 0);
+    }
+
+    @Override
+    public MonetaryAmount apply(MonetaryAmount amount) {
+        Objects.requireNonNull(amount, "amount required.");
+        MonetaryAmount current = amount;
+        for (Object segment : segments) {
+            if (segment instanceof Step[]) {
+                BigDecimal value = current.getNumber().numberValue(BigDecimal.class);
+                CurrencyUnit currency = current.getCurrency();
+                for (Step step : (Step[]) segment) {
+                    value = step.apply(value, currency, mathContext);
+                }
+                current = create(current, value);
+            } else {
+                current = ((MonetaryOperator) segment).apply(current);
+            }
+        }
+        return current;
+    }
+
+    private static MonetaryAmount create(MonetaryAmount template, BigDecimal value) {
+        if (template instanceof FastAmount) {
+            return FastAmount.valueOf(value, template.getCurrency());
+        }
+        MonetaryAmountFactory<?> factory = template.getFactory();
+        int maxScale = factory.getMaximalMonetaryContext().getMaxScale();
+        if (maxScale >= 0 && value.scale() > maxScale) {
+            value = value.setScale(maxScale, RoundingMode.HALF_EVEN);
+        }
+        return factory.setCurrency(template.getCurrency()).setNumber(value).create();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("OperatorPipeline [");
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                b.append(", ");
+            }
+            b.append(segments[i] instanceof Step[] ? Arrays.toString((Step[]) segments[i]) : segments[i]);
+        }
+        return b.append(']').toString();
+    }
+
+    /**
+     * An arithmetic step, evaluated on the working value.
+     */
+    abstract static class Step {
+
+        /**
+         * Applies this step.
+         *
+         * @param value       the working value.
+         * @param currency    the currency of the amount.
+         * @param mathContext the context used for divisions.
+         * @return the new working value.
+         */
+        abstract BigDecimal apply(BigDecimal value, CurrencyUnit currency, MathContext mathContext);
+
+        /**
+         * Combines this step with the next step into a single equivalent step, if possible.
+         *
+         * @param next the next step.
+         * @return the combined step, or null.
+         */
+        Step combine(Step next) {
+            return null;
+        }
+    }
+
+    /**
+     * Multiplies the working value by a factor.
+     */
+    static final class MultiplyStep extends Step {
+
+        private final BigDecimal factor;
+
+        MultiplyStep(BigDecimal factor) {
+            this.factor = factor;
+        }
+
+        @Override
+        BigDecimal apply(BigDecimal value, CurrencyUnit currency, MathContext mathContext) {
+            return value.multiply(factor);
+        }
+
+        @Override
+        Step combine(Step next) {
+            if (next instanceof MultiplyStep) {
+                return new MultiplyStep(factor.multiply(((MultiplyStep) next).factor));
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "multiply " + factor.toPlainString();
+        }
+    }
+
+    /**
+     * Divides the working value by a divisor.
+     */
+    static final class DivideStep extends Step {
+
+        private final BigDecimal divisor;
+
+        DivideStep(BigDecimal divisor) {
+            if (divisor.signum() == 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+            this.divisor = divisor;
+        }
+
+        @Override
+        BigDecimal apply(BigDecimal value, CurrencyUnit currency, MathContext mathContext) {
+            return value.divide(divisor, mathContext);
+        }
+
+        @Override
+        public String toString() {
+            return "divide " + divisor.toPlainString();
+        }
+    }
+
+    /**
+     * Adds a constant amount to the working value.
+     */
+    static final class AddStep extends Step {
+
+        private final String currencyCode;
+        private final BigDecimal addend;
+
+        AddStep(String currencyCode, BigDecimal addend) {
+            this.currencyCode = currencyCode;
+            this.addend = addend;
+        }
+
+        @Override
+        BigDecimal apply(BigDecimal value, CurrencyUnit currency, MathContext mathContext) {
+            if (!currencyCode.equals(currency.getCurrencyCode())) {
+                throw new MonetaryException("Currency mismatch: " + currencyCode + '/' + currency);
+            }
+            return value.add(addend);
+        }
+
+        @Override
+        Step combine(Step next) {
+            if (next instanceof AddStep && currencyCode.equals(((AddStep) next).currencyCode)) {
+                return new AddStep(currencyCode, addend.add(((AddStep) next).addend));
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "add " + currencyCode + ' ' + addend.toPlainString();
+        }
+    }
+
+    /**
+     * Replaces the working value by its absolute value.
+     */
+    static final class AbsStep extends Step {
+
+        @Override
+        BigDecimal apply(BigDecimal value, CurrencyUnit currency, MathContext mathContext) {
+            return value.abs();
+        }
+
+        @Override
+        Step combine(Step next) {
+            return next instanceof AbsStep ? this : null;
+        }
+
+        @Override
+        public String toString() {
+            return "abs";
+        }
+    }
+
+    /**
+     * Rounds the working value to a scale, or to the default fraction digits of the currency.
+     */
+    static final class RoundStep extends Step {
+
+        private final int scale;
+        private final RoundingMode roundingMode;
+
+        /**
+         * Creates a new step.
+         *
+         * @param scale        the scale, or {@code -1} for the default fraction digits of the currency.
+         * @param roundingMode the rounding mode, not null.
+         */
+        RoundStep(int scale, RoundingMode roundingMode) {
+            this.scale = scale;
+            this.roundingMode = roundingMode;
+        }
+
+        @Override
+        BigDecimal apply(BigDecimal value, CurrencyUnit currency, MathContext mathContext) {
+            int targetScale = scale < 0 ? Math.max(0, currency.getDefaultFractionDigits()) : scale;
+            return value.setScale(targetScale, roundingMode);
+        }
+
+        @Override
+        public String toString() {
+            return "round " + (scale < 0 ? "currency" : String.valueOf(scale)) + ' ' + roundingMode;
+        }
+    }
+}
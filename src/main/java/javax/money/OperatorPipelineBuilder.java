@@ -0,0 +1,206 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder used to construct new instances of {@link OperatorPipeline}. Steps are applied in the order they are
+ * added; arithmetic steps added consecutively are fused on evaluation.
+ * <p>
+ * Note this class is NOT thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class OperatorPipelineBuilder {
+
+    /**
+     * The steps added, either {@link OperatorPipeline.Step} or {@link MonetaryOperator} instances.
+     */
+    private final List<Object> steps = new ArrayList<>();
+    /**
+     * The context used for divisions.
+     */
+    private MathContext mathContext = MathContext.DECIMAL128;
+
+    /**
+     * Default constructor.
+     */
+    private OperatorPipelineBuilder() {
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder, never null.
+     */
+    public static OperatorPipelineBuilder of() {
+        return new OperatorPipelineBuilder();
+    }
+
+    /**
+     * Multiplies the amount by the given factor.
+     *
+     * @param factor the factor, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder multiply(Number factor) {
+        steps.add(new OperatorPipeline.MultiplyStep(AbstractAmountFactory.toBigDecimal(factor)));
+        return this;
+    }
+
+    /**
+     * Divides the amount by the given divisor, using the {@link MathContext} set.
+     *
+     * @param divisor the divisor, not null nor zero.
+     * @return this instance for chaining.
+     * @throws ArithmeticException if the divisor is zero.
+     * @see #setMathContext(MathContext)
+     */
+    public OperatorPipelineBuilder divide(Number divisor) {
+        steps.add(new OperatorPipeline.DivideStep(AbstractAmountFactory.toBigDecimal(divisor)));
+        return this;
+    }
+
+    /**
+     * Evaluates the given percentage of the amount, e.g. {@code 8} for {@code 8%} of the amount.
+     *
+     * @param percent the percentage, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder percent(Number percent) {
+        steps.add(new OperatorPipeline.MultiplyStep(AbstractAmountFactory.toBigDecimal(percent).movePointLeft(2)));
+        return this;
+    }
+
+    /**
+     * Adds the given amount, which must have the same currency as the amounts the pipeline is applied to.
+     *
+     * @param amount the amount, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder add(MonetaryAmount amount) {
+        steps.add(new OperatorPipeline.AddStep(amount.getCurrency().getCurrencyCode(),
+                amount.getNumber().numberValue(BigDecimal.class)));
+        return this;
+    }
+
+    /**
+     * Subtracts the given amount, which must have the same currency as the amounts the pipeline is applied to.
+     *
+     * @param amount the amount, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder subtract(MonetaryAmount amount) {
+        steps.add(new OperatorPipeline.AddStep(amount.getCurrency().getCurrencyCode(),
+                amount.getNumber().numberValue(BigDecimal.class).negate()));
+        return this;
+    }
+
+    /**
+     * Negates the amount.
+     *
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder negate() {
+        steps.add(new OperatorPipeline.MultiplyStep(BigDecimal.ONE.negate()));
+        return this;
+    }
+
+    /**
+     * Replaces the amount by its absolute value.
+     *
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder abs() {
+        steps.add(new OperatorPipeline.AbsStep());
+        return this;
+    }
+
+    /**
+     * Rounds the amount to the given scale. Unlike {@link #apply(MonetaryOperator) applying} a
+     * {@link MonetaryRounding}, this step is fused with adjacent arithmetic steps.
+     *
+     * @param scale        the scale.
+     * @param roundingMode the rounding mode, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder round(int scale, RoundingMode roundingMode) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("scale must be >= 0: " + scale);
+        }
+        steps.add(new OperatorPipeline.RoundStep(scale, Objects.requireNonNull(roundingMode)));
+        return this;
+    }
+
+    /**
+     * Rounds the amount to the default fraction digits of its currency. Unlike {@link #apply(MonetaryOperator)
+     * applying} a {@link MonetaryRounding}, this step is fused with adjacent arithmetic steps.
+     *
+     * @param roundingMode the rounding mode, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder round(RoundingMode roundingMode) {
+        steps.add(new OperatorPipeline.RoundStep(-1, Objects.requireNonNull(roundingMode)));
+        return this;
+    }
+
+    /**
+     * Applies an arbitrary operator, e.g. a {@link MonetaryRounding} or a currency conversion. The amount is created
+     * before the operator is applied. If the operator is an {@link OperatorPipeline} using the same
+     * {@link MathContext} as the pipeline built, its steps are added instead, so they can be fused. A pipeline using
+     * a different context is applied as an opaque operator, so its divisions keep their own precision.
+     *
+     * @param operator the operator, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder apply(MonetaryOperator operator) {
+        steps.add(Objects.requireNonNull(operator, "operator required."));
+        return this;
+    }
+
+    /**
+     * Sets the {@link MathContext} used for divisions, by default {@link MathContext#DECIMAL128}.
+     *
+     * @param mathContext the context, not null.
+     * @return this instance for chaining.
+     */
+    public OperatorPipelineBuilder setMathContext(MathContext mathContext) {
+        this.mathContext = Objects.requireNonNull(mathContext);
+        return this;
+    }
+
+    /**
+     * Creates a new {@link OperatorPipeline} with the steps added.
+     *
+     * @return a new pipeline, never null.
+     */
+    public OperatorPipeline build() {
+        List<Object> resolved = new ArrayList<>(steps.size());
+        for (Object step : steps) {
+            if (step instanceof OperatorPipeline
+                    && ((OperatorPipeline) step).getMathContext().equals(mathContext)) {
+                resolved.addAll(((OperatorPipeline) step).getSteps());
+            } else {
+                resolved.add(step);
+            }
+        }
+        return new OperatorPipeline(resolved, mathContext);
+    }
+
+    @Override
+    public String toString() {
+        return "OperatorPipelineBuilder [steps=" + steps + ", mathContext=" + mathContext + ']';
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.util.Objects;
+
+/**
+ * Resettable {@link MonetaryAmountFactory}, wrapping the factory of an amount type, so a single instance can be
+ * reused for creating any number of amounts. Unlike the factory wrapped, this factory keeps track of the
+ * properties set since the last {@link #reset()}, so no property set for a previous amount is applied
+ * accidentally. Properties are only passed on to the factory wrapped when they changed, and currency codes are
+ * resolved only once per code in sequence.
+ * <p>
+ * Instances are not thread-safe, use {@link Monetary#getReusableAmountFactory(Class)} for accessing a
+ * thread-confined instance.
+ *
+ * @param <T> the amount type.
+ * @author Anatole Tresch
+ */
+public final class ReusableAmountFactory<T extends MonetaryAmount> implements MonetaryAmountFactory<T> {
+
+    /**
+     * The kinds of number set.
+     */
+    private static final int NUMBER_NONE = 0;
+    private static final int NUMBER_LONG = 1;
+    private static final int NUMBER_DOUBLE = 2;
+    private static final int NUMBER_OBJECT = 3;
+
+    /**
+     * The factory wrapped.
+     */
+    private final MonetaryAmountFactory<T> delegate;
+
+    /**
+     * The currency set, or null.
+     */
+    private CurrencyUnit currency;
+    /**
+     * The kind of number set, one of the {@code NUMBER_} constants.
+     */
+    private int numberKind;
+    /**
+     * The number set, depending on the kind of number set.
+     */
+    private long longNumber;
+    private double doubleNumber;
+    private Number number;
+    /**
+     * The context set, or null for the default context.
+     */
+    private MonetaryContext context;
+
+    /**
+     * The currency and context last passed to the factory wrapped.
+     */
+    private CurrencyUnit appliedCurrency;
+    private MonetaryContext appliedContext;
+    /**
+     * The currency code last resolved, and the corresponding currency.
+     */
+    private String resolvedCode;
+    private CurrencyUnit resolvedCurrency;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate the factory wrapped, not null. It must not be used by other parties afterwards.
+     */
+    public ReusableAmountFactory(MonetaryAmountFactory<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate required.");
+    }
+
+    /**
+     * Clears all properties set, so the factory can be reused for creating another amount.
+     *
+     * @return this factory instance, for chaining.
+     */
+    public ReusableAmountFactory<T> reset() {
+        currency = null;
+        numberKind = NUMBER_NONE;
+        number = null;
+        context = null;
+        return this;
+    }
+
+    /**
+     * Creates an amount, equivalent to {@code setCurrency(currency).setNumber(number).create()}.
+     *
+     * @param currency the pre-resolved currency, not null. It is used as is, without validation.
+     * @param number   the number.
+     * @return the amount created.
+     */
+    public T create(CurrencyUnit currency, long number) {
+        this.currency = Objects.requireNonNull(currency, "currency required.");
+        this.numberKind = NUMBER_LONG;
+        this.longNumber = number;
+        return create();
+    }
+
+    /**
+     * Creates an amount, equivalent to {@code setCurrency(currency).setNumber(number).create()}.
+     *
+     * @param currency the pre-resolved currency, not null. It is used as is, without validation.
+     * @param number   the number, not null.
+     * @return the amount created.
+     */
+    public T create(CurrencyUnit currency, Number number) {
+        this.currency = Objects.requireNonNull(currency, "currency required.");
+        setNumber(number);
+        return create();
+    }
+
+    @Override
+    public Class<? extends MonetaryAmount> getAmountType() {
+        return delegate.getAmountType();
+    }
+
+    @Override
+    public ReusableAmountFactory<T> setCurrency(String currencyCode) {
+        Objects.requireNonNull(currencyCode, "currencyCode required.");
+        if (!currencyCode.equals(resolvedCode)) {
+            resolvedCurrency = Monetary.getCurrency(currencyCode);
+            resolvedCode = currencyCode;
+        }
+        this.currency = resolvedCurrency;
+        return this;
+    }
+
+    @Override
+    public ReusableAmountFactory<T> setCurrency(CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency, "currency required.");
+        return this;
+    }
+
+    @Override
+    public ReusableAmountFactory<T> setNumber(double number) {
+        this.numberKind = NUMBER_DOUBLE;
+        this.doubleNumber = number;
+        return this;
+    }
+
+    @Override
+    public ReusableAmountFactory<T> setNumber(long number) {
+        this.numberKind = NUMBER_LONG;
+        this.longNumber = number;
+        return this;
+    }
+
+    @Override
+    public ReusableAmountFactory<T> setNumber(Number number) {
+        this.numberKind = NUMBER_OBJECT;
+        this.number = Objects.requireNonNull(number, "number required.");
+        return this;
+    }
+
+    @Override
+    public NumberValue getMaxNumber() {
+        return delegate.getMaxNumber();
+    }
+
+    @Override
+    public NumberValue getMinNumber() {
+        return delegate.getMinNumber();
+    }
+
+    @Override
+    public ReusableAmountFactory<T> setContext(MonetaryContext monetaryContext) {
+        this.context = Objects.requireNonNull(monetaryContext, "monetaryContext required.");
+        return this;
+    }
+
+    @Override
+    public ReusableAmountFactory<T> setAmount(MonetaryAmount amount) {
+        setCurrency(amount.getCurrency());
+        setNumber(amount.getNumber());
+        setContext(amount.getContext());
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MonetaryException if no currency or number was set since the last {@link #reset()}.
+     */
+    @Override
+    public T create() {
+        if (currency == null) {
+            throw new MonetaryException("Cannot create an amount without a currency.");
+        }
+        if (currency != appliedCurrency) {
+            delegate.setCurrency(currency);
+            appliedCurrency = currency;
+        }
+        MonetaryContext targetContext = context == null ? delegate.getDefaultMonetaryContext() : context;
+        if (targetContext != appliedContext) {
+            delegate.setContext(targetContext);
+            appliedContext = targetContext;
+        }
+        switch (numberKind) {
+            case NUMBER_LONG:
+                delegate.setNumber(longNumber);
+                break;
+            case NUMBER_DOUBLE:
+                delegate.setNumber(doubleNumber);
+                break;
+            case NUMBER_OBJECT:
+                delegate.setNumber(number);
+                break;
+            default:
+                throw new MonetaryException("Cannot create an amount without a number.");
+        }
+        return delegate.create();
+    }
+
+    @Override
+    public MonetaryContext getDefaultMonetaryContext() {
+        return delegate.getDefaultMonetaryContext();
+    }
+
+    @Override
+    public MonetaryContext getMaximalMonetaryContext() {
+        return delegate.getMaximalMonetaryContext();
+    }
+
+    @Override
+    public String toString() {
+        return "ReusableAmountFactory [delegate=" + delegate + ']';
+    }
+}
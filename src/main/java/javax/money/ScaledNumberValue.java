@@ -0,0 +1,207 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * {@link NumberValue} backed by an unscaled {@code long} and a scale, as returned by {@link FastAmount}. Comparisons
+ * with other instances of this class do not require a {@link BigDecimal}; the {@link BigDecimal} representation is
+ * created on first access only.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+final class ScaledNumberValue extends NumberValue {
+
+    /**
+     * serialVersionUID.
+     */
+    private static final long serialVersionUID = -2301823420137457432L;
+
+    /**
+     * The unscaled value.
+     */
+    private final long unscaled;
+    /**
+     * The scale, {@code 0} to {@value NumberValue#MAX_LONG_DIGITS}.
+     */
+    private final int scale;
+    /**
+     * The corresponding {@link BigDecimal}, created on first access. Races are benign, since {@link BigDecimal} is
+     * immutable.
+     */
+    private transient BigDecimal decimal;
+
+    ScaledNumberValue(long unscaled, int scale) {
+        if (scale < 0 || scale > MAX_LONG_DIGITS) {
+            throw new IllegalArgumentException("Unsupported scale: " + scale);
+        }
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    private BigDecimal toBigDecimal() {
+        BigDecimal result = decimal;
+        if (result == null) {
+            result = BigDecimal.valueOf(unscaled, scale);
+            decimal = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isScaledLong() {
+        return true;
+    }
+
+    @Override
+    public long getUnscaledLong() {
+        return unscaled;
+    }
+
+    @Override
+    public Class<?> getNumberType() {
+        return BigDecimal.class;
+    }
+
+    @Override
+    public int getPrecision() {
+        if (unscaled == 0) {
+            return 1;
+        }
+        if (unscaled == Long.MIN_VALUE) {
+            return 19;
+        }
+        long abs = Math.abs(unscaled);
+        int digits = 1;
+        while (digits <= MAX_LONG_DIGITS && abs >= powerOfTen(digits)) {
+            digits++;
+        }
+        return digits;
+    }
+
+    @Override
+    public int getScale() {
+        return scale;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public int intValueExact() {
+        long value = longValueExact();
+        if (value != (int) value) {
+            throw new ArithmeticException("Value exceeds int range: " + this);
+        }
+        return (int) value;
+    }
+
+    @Override
+    public long longValue() {
+        return unscaled / powerOfTen(scale);
+    }
+
+    @Override
+    public long longValueExact() {
+        long divisor = powerOfTen(scale);
+        if (unscaled % divisor != 0) {
+            throw new ArithmeticException("Rounding necessary: " + this);
+        }
+        return unscaled / divisor;
+    }
+
+    @Override
+    public float floatValue() {
+        return toBigDecimal().floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return toBigDecimal().doubleValue();
+    }
+
+    @Override
+    public double doubleValueExact() {
+        return doubleValue();
+    }
+
+    @Override
+    public long getAmountFractionNumerator() {
+        return unscaled % powerOfTen(scale);
+    }
+
+    @Override
+    public long getAmountFractionDenominator() {
+        return powerOfTen(scale);
+    }
+
+    @Override
+    public <T extends Number> T numberValue(Class<T> numberType) {
+        if (Long.class == numberType) {
+            return numberType.cast(longValue());
+        }
+        return new DecimalNumberValue(toBigDecimal()).numberValue(numberType);
+    }
+
+    @Override
+    public <T extends Number> T numberValueExact(Class<T> numberType) {
+        if (Long.class == numberType) {
+            return numberType.cast(longValueExact());
+        }
+        return new DecimalNumberValue(toBigDecimal()).numberValueExact(numberType);
+    }
+
+    @Override
+    public NumberValue round(MathContext mathContext) {
+        return new DecimalNumberValue(toBigDecimal().round(mathContext));
+    }
+
+    @Override
+    public int compareTo(NumberValue o) {
+        if (o instanceof ScaledNumberValue) {
+            ScaledNumberValue other = (ScaledNumberValue) o;
+            return compareScaled(unscaled, scale, other.unscaled, other.scale);
+        }
+        if (isCheapScaledLong(o)) {
+            return compareScaled(unscaled, scale, o.getUnscaledLong(), o.getScale());
+        }
+        return toBigDecimal().compareTo(o.numberValue(BigDecimal.class));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof ScaledNumberValue) {
+            ScaledNumberValue other = (ScaledNumberValue) obj;
+            return unscaled == other.unscaled && scale == other.scale;
+        }
+        if (obj instanceof DecimalNumberValue) {
+            return toBigDecimal().equals(((DecimalNumberValue) obj).numberValue(BigDecimal.class));
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return toBigDecimal().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
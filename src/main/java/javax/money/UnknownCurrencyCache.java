@@ -0,0 +1,198 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import javax.money.spi.Bootstrap;
+import javax.money.spi.CurrencyProviderSpi;
+import javax.money.spi.ProviderHealthTracker;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Negative cache of currency codes recently looked up by {@link Monetary} without being found, so repeated lookups
+ * of the same unknown code fail fast, without querying all {@link javax.money.spi.CurrencyProviderSpi} instances
+ * again. Only lookups using the default provider chain are cached, and only while all providers answered, i.e. no
+ * provider is failing or quarantined according to {@link ProviderHealthTracker#getDefault()}: a code missing since
+ * a provider failed is not known to be unknown.
+ * <p>
+ * A separate cache is kept per provider collection returned by the {@link Bootstrap}, compared by identity, e.g.
+ * per class loader if the {@link javax.money.spi.ClassLoaderServiceProvider} is used, so a code missing for one
+ * application is not rejected for another. Use {@link #current()} to access the cache of the current providers.
+ * <p>
+ * Each cache is bounded to {@value #MAX_ENTRIES} codes, and is cleared when full. It is replaced when the
+ * {@link Bootstrap#getEpoch() epoch} changes, and entries expire after {@value #MAX_AGE_SECONDS} seconds, so
+ * currencies added by providers at runtime, or temporarily unavailable, are eventually found.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+final class UnknownCurrencyCache {
+
+    /**
+     * The maximal number of codes cached.
+     */
+    static final int MAX_ENTRIES = 1024;
+    /**
+     * The time after which an entry expires, in seconds.
+     */
+    static final long MAX_AGE_SECONDS = 60;
+
+    private static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(MAX_AGE_SECONDS);
+    /**
+     * The most recently used cache, shared by all threads.
+     */
+    private static volatile WeakReference<UnknownCurrencyCache> recent = new WeakReference<>(null);
+    /**
+     * The caches by the provider collection looked up, compared by identity.
+     */
+    private static final ConcurrentMap<SourceKey, UnknownCurrencyCache> CACHES = new ConcurrentHashMap<>();
+    /**
+     * The keys of {@link #CACHES} whose provider collection was collected.
+     */
+    private static final ReferenceQueue<Collection<CurrencyProviderSpi>> COLLECTED = new ReferenceQueue<>();
+
+    /**
+     * The time the codes were cached, by code.
+     */
+    private final ConcurrentMap<String, Long> codes = new ConcurrentHashMap<>();
+    /**
+     * The epoch the codes were cached in.
+     */
+    private final long epoch;
+    /**
+     * The provider collection the codes were looked up in, held weakly, since it is the key of {@link #CACHES}.
+     */
+    private final WeakReference<Collection<CurrencyProviderSpi>> source;
+
+    /**
+     * Creates a new, empty cache.
+     *
+     * @param source the provider collection, not null.
+     * @param epoch  the current epoch.
+     */
+    private UnknownCurrencyCache(Collection<CurrencyProviderSpi> source, long epoch) {
+        this.source = new WeakReference<>(source);
+        this.epoch = epoch;
+    }
+
+    /**
+     * Access the cache of the {@link javax.money.spi.CurrencyProviderSpi} instances currently returned by the
+     * {@link Bootstrap}, creating it if necessary. The cache should be accessed once per lookup, before the lookup
+     * is performed.
+     *
+     * @return the cache, never null.
+     */
+    static UnknownCurrencyCache current() {
+        long epoch = Bootstrap.getEpoch();
+        Collection<CurrencyProviderSpi> spis = Bootstrap.getServices(CurrencyProviderSpi.class);
+        UnknownCurrencyCache cache = recent.get();
+        if (cache != null && cache.epoch == epoch && cache.source.get() == spis) {
+            return cache;
+        }
+        cache = CACHES.get(new SourceKey(spis, null));
+        if (cache == null || cache.epoch != epoch) {
+            Reference<?> ref;
+            while ((ref = COLLECTED.poll()) != null) {
+                CACHES.remove(ref);
+            }
+            cache = new UnknownCurrencyCache(spis, epoch);
+            CACHES.put(new SourceKey(spis, COLLECTED), cache);
+        }
+        recent = new WeakReference<>(cache);
+        return cache;
+    }
+
+    /**
+     * Checks if the given code is known to be missing.
+     *
+     * @param currencyCode the currency code, not null.
+     * @return true, if a lookup of the code in the current epoch did not find a currency recently.
+     */
+    boolean isUnknown(String currencyCode) {
+        Long since = codes.get(currencyCode);
+        if (since == null || epoch != Bootstrap.getEpoch()) {
+            return false;
+        }
+        if (System.nanoTime() - since > MAX_AGE_NANOS) {
+            codes.remove(currencyCode, since);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a code not found. The code is not cached, if the epoch changed since the lookup was started, or if
+     * any provider is not healthy, so the lookup may have been incomplete.
+     *
+     * @param currencyCode the currency code, not null.
+     * @param lookupEpoch  the {@link Bootstrap#getEpoch() epoch} the lookup was started in.
+     */
+    void add(String currencyCode, long lookupEpoch) {
+        if (lookupEpoch != epoch || epoch != Bootstrap.getEpoch()
+                || !ProviderHealthTracker.getDefault().isHealthy()) {
+            return;
+        }
+        if (codes.size() >= MAX_ENTRIES) {
+            codes.clear();
+        }
+        codes.put(currencyCode, System.nanoTime());
+    }
+
+    /**
+     * Removes all codes cached.
+     */
+    void clear() {
+        codes.clear();
+    }
+
+    /**
+     * Access the number of codes cached.
+     *
+     * @return the number of codes cached.
+     */
+    int size() {
+        return codes.size();
+    }
+
+    /**
+     * Weak key comparing provider collections by identity.
+     */
+    private static final class SourceKey extends WeakReference<Collection<CurrencyProviderSpi>> {
+
+        private final int hash;
+
+        SourceKey(Collection<CurrencyProviderSpi> spis, ReferenceQueue<Collection<CurrencyProviderSpi>> queue) {
+            super(spis, queue);
+            this.hash = System.identityHashCode(spis);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof SourceKey)) {
+                return false;
+            }
+            Collection<CurrencyProviderSpi> spis = get();
+            return spis != null && spis == ((SourceKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -57,6 +57,40 @@ public class UnknownCurrencyException extends MonetaryException {
 		this.currencyCode = null;
 	}
 
+	/**
+	 * Creates a new exception instance when a {@link CurrencyUnit} could not be evaluated given a
+	 * currency code, optionally without stack trace, see
+	 * {@link MonetaryException#MonetaryException(String, boolean)}.
+	 * 
+	 * @see Monetary#findCurrency(String, String...)
+	 * @param code
+	 *            The unknown currency code (the message is constructed automatically), not null.
+	 * @param writableStackTrace
+	 *            {@code false}, to create the instance without stack trace.
+	 */
+	public UnknownCurrencyException(String code, boolean writableStackTrace) {
+		super("Unknown currency code: " + code, writableStackTrace);
+		this.currencyCode = code;
+		this.locale = null;
+	}
+
+	/**
+	 * Creates a new exception instance when a {@link CurrencyUnit} could not be evaluated given a
+	 * (country) {@link java.util.Locale}, optionally without stack trace, see
+	 * {@link MonetaryException#MonetaryException(String, boolean)}.
+	 * 
+	 * @param locale
+	 *            The unknown {@link java.util.Locale}, for which a {@link CurrencyUnit} was queried (the
+	 *            message is constructed automatically), not null.
+	 * @param writableStackTrace
+	 *            {@code false}, to create the instance without stack trace.
+	 */
+	public UnknownCurrencyException(Locale locale, boolean writableStackTrace) {
+		super("No currency for found for Locale: " + locale, writableStackTrace);
+		this.locale = locale;
+		this.currencyCode = null;
+	}
+
 	/**
 	 * Access the invalid currency code.
 	 * 
@@ -0,0 +1,191 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.format;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+/**
+ * Formats many {@link MonetaryAmount} instances into one target, e.g. a column or a table of a report. The
+ * {@link MonetaryAmountFormat} is resolved once, and amounts are written as fields separated by a field separator.
+ * Optionally fields are grouped into records of a fixed size, which are separated by a record separator.
+ * <p>
+ * When used with a {@link CompiledAmountFormat} the currency symbol is only looked up when the currency changes
+ * within the batch. Targets other than {@link StringBuilder} are written in chunks, so a {@link java.io.Writer} is
+ * not accessed per character.
+ * <p>
+ * This class is immutable. It is thread-safe, if the underlying {@link MonetaryAmountFormat} is thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class BatchAmountFormat {
+
+    /**
+     * The number of characters buffered before being flushed to a non {@link StringBuilder} target.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The format used for the single amounts.
+     */
+    private final MonetaryAmountFormat format;
+    /**
+     * The separator written between fields.
+     */
+    private final String fieldSeparator;
+    /**
+     * The number of fields per record, or 0 for writing all fields into one record.
+     */
+    private final int fieldsPerRecord;
+    /**
+     * The separator written between records.
+     */
+    private final String recordSeparator;
+
+    private BatchAmountFormat(MonetaryAmountFormat format, String fieldSeparator, int fieldsPerRecord,
+                              String recordSeparator) {
+        this.format = Objects.requireNonNull(format, "format required.");
+        this.fieldSeparator = Objects.requireNonNull(fieldSeparator, "fieldSeparator required.");
+        this.recordSeparator = Objects.requireNonNull(recordSeparator, "recordSeparator required.");
+        if (fieldsPerRecord < 0) {
+            throw new IllegalArgumentException("fieldsPerRecord must be >= 0: " + fieldsPerRecord);
+        }
+        this.fieldsPerRecord = fieldsPerRecord;
+    }
+
+    /**
+     * Creates a new batch format, writing all amounts separated by the given separator.
+     *
+     * @param format    the format used for the single amounts, not null.
+     * @param separator the separator written between amounts, not null.
+     * @return a new batch format, never null.
+     */
+    public static BatchAmountFormat of(MonetaryAmountFormat format, String separator) {
+        return new BatchAmountFormat(format, separator, 0, "");
+    }
+
+    /**
+     * Creates a new batch format, writing the amounts as records of a fixed number of fields.
+     *
+     * @param format          the format used for the single amounts, not null.
+     * @param fieldSeparator  the separator written between the fields of a record, not null.
+     * @param fieldsPerRecord the number of fields per record, {@code 0} writes all amounts into one record.
+     * @param recordSeparator the separator written between records, e.g. a line separator, not null.
+     * @return a new batch format, never null.
+     */
+    public static BatchAmountFormat of(MonetaryAmountFormat format, String fieldSeparator, int fieldsPerRecord,
+                                       String recordSeparator) {
+        return new BatchAmountFormat(format, fieldSeparator, fieldsPerRecord, recordSeparator);
+    }
+
+    /**
+     * Access the format used for the single amounts.
+     *
+     * @return the format, never null.
+     */
+    public MonetaryAmountFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Formats the given amounts to a String.
+     *
+     * @param amounts the amounts, not null.
+     * @return the formatted amounts.
+     */
+    public String format(MonetaryAmount... amounts) {
+        return format(Arrays.asList(amounts));
+    }
+
+    /**
+     * Formats the given amounts to a String.
+     *
+     * @param amounts the amounts, not null.
+     * @return the formatted amounts.
+     */
+    public String format(Iterable<? extends MonetaryAmount> amounts) {
+        StringBuilder b = new StringBuilder();
+        try {
+            print(b, amounts);
+        } catch (IOException e) {
+            throw new IllegalStateException("Formatting error.", e);
+        }
+        return b.toString();
+    }
+
+    /**
+     * Formats the given amounts to an {@link Appendable}.
+     *
+     * @param appendable the target, not null.
+     * @param amounts    the amounts, not null.
+     * @throws IOException if thrown by the {@code appendable}.
+     */
+    public void print(Appendable appendable, MonetaryAmount... amounts) throws IOException {
+        print(appendable, Arrays.asList(amounts));
+    }
+
+    /**
+     * Formats the given amounts to an {@link Appendable}.
+     *
+     * @param appendable the target, not null.
+     * @param amounts    the amounts, not null.
+     * @throws IOException if thrown by the {@code appendable}.
+     */
+    public void print(Appendable appendable, Iterable<? extends MonetaryAmount> amounts) throws IOException {
+        Objects.requireNonNull(appendable, "appendable required.");
+        Objects.requireNonNull(amounts, "amounts required.");
+        StringBuilder buffer = appendable instanceof StringBuilder ? (StringBuilder) appendable : new StringBuilder(
+                CHUNK_SIZE + 256);
+        CompiledAmountFormat compiled = format instanceof CompiledAmountFormat ? (CompiledAmountFormat) format : null;
+        CurrencyUnit currency = null;
+        String code = null;
+        String symbol = null;
+        int field = 0;
+        for (MonetaryAmount amount : amounts) {
+            Objects.requireNonNull(amount, "amount required.");
+            if (field > 0) {
+                if (fieldsPerRecord > 0 && field % fieldsPerRecord == 0) {
+                    buffer.append(recordSeparator);
+                } else {
+                    buffer.append(fieldSeparator);
+                }
+            }
+            if (compiled == null) {
+                format.print(buffer, amount);
+            } else {
+                CurrencyUnit amountCurrency = amount.getCurrency();
+                if (amountCurrency != currency) {
+                    currency = amountCurrency;
+                    code = currency.getCurrencyCode();
+                    symbol = compiled.getSymbol(currency);
+                }
+                compiled.print(buffer, amount.getNumber().numberValue(BigDecimal.class), code, symbol);
+            }
+            field++;
+            if (buffer != appendable && buffer.length() >= CHUNK_SIZE) {
+                appendable.append(buffer);
+                buffer.setLength(0);
+            }
+        }
+        if (buffer != appendable && buffer.length() > 0) {
+            appendable.append(buffer);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BatchAmountFormat [format=" + format + ", fieldSeparator='" + fieldSeparator + "', fieldsPerRecord=" +
+                fieldsPerRecord + ", recordSeparator='" + recordSeparator + "']";
+    }
+}
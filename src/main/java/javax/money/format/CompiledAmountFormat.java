@@ -0,0 +1,816 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.format;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryAmountFactory;
+import javax.money.UnknownCurrencyException;
+
+/**
+ * A {@link MonetaryAmountFormat} whose pattern, locale symbols and grouping sizes are compiled once from an
+ * {@link AmountFormatContext}. Printing and parsing hereby only walk the precomputed token plan, no {@link Locale}
+ * data is evaluated after construction.
+ * <p>
+ * The pattern is read from the context attribute {@link #KEY_PATTERN}. If not set, the currency pattern of
+ * {@link java.text.DecimalFormat} for the context's {@link Locale} is used. The pattern syntax is the subset of
+ * {@link java.text.DecimalFormat} patterns relevant for amounts:
+ * <ul>
+ * <li>{@code #}, {@code 0}, {@code ,} and {@code .} define the number part, the grouping size and the
+ * minimal/maximal fraction digits,</li>
+ * <li>{@code ¤} prints the currency symbol, {@code ¤¤} the currency code,</li>
+ * <li>{@code ;} separates an optional negative sub-pattern, {@code -} is replaced by the locale's minus sign,</li>
+ * <li>text enclosed in single quotes is printed as is.</li>
+ * </ul>
+ * When parsing, a text prefixed with the locale's minus sign or {@code -} followed by the positive pattern is
+ * accepted as negative amount, also if the pattern defines a negative sub-pattern, such as
+ * {@code (¤#,##0.00)}. So both {@code ($1.00)} and {@code -$1.00} parse to the same amount.
+ * If the context contains a {@link CurrencyUnit} (keyed by its class), it is used for parsing texts that do not
+ * contain any currency information. Parsed amounts are created using {@link AmountFormatContext#getParseFactory()},
+ * or the default {@link MonetaryAmountFactory}, if none is configured.
+ * <p>
+ * This class is immutable and thread-safe, so instances can be shared and reused across threads.
+ *
+ * @author Anatole Tresch
+ */
+public final class CompiledAmountFormat implements MonetaryAmountFormat {
+
+    /**
+     * Key used for the pattern attribute of an {@link AmountFormatContext}.
+     */
+    public static final String KEY_PATTERN = "pattern";
+
+    /**
+     * The currency sign as used in {@link java.text.DecimalFormat} patterns.
+     */
+    private static final char CURRENCY_SIGN = '¤';
+
+    /**
+     * The quote character for literal pattern parts.
+     */
+    private static final char QUOTE = '\'';
+
+    /**
+     * The maximal number of compiled formats kept in {@link #CACHE}. The cache is cleared when full.
+     */
+    private static final int MAX_CACHED_FORMATS = 1024;
+
+    /**
+     * The formats compiled so far, keyed by the context values the compiled plan depends on.
+     */
+    private static final Map<PlanKey, CompiledAmountFormat> CACHE = new ConcurrentHashMap<>();
+
+    private static final int TOKEN_LITERAL = 0;
+    private static final int TOKEN_NUMBER = 1;
+    private static final int TOKEN_SYMBOL = 2;
+    private static final int TOKEN_CODE = 3;
+
+    /**
+     * The context this format was compiled from.
+     */
+    private final AmountFormatContext context;
+    /**
+     * The plan for non negative amounts.
+     */
+    private final Token[] positivePlan;
+    /**
+     * The plan for negative amounts, or {@code null}, if the positive plan prefixed with the minus sign is used.
+     */
+    private final Token[] negativePlan;
+    private final char zeroDigit;
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final char minusSign;
+    private final int groupingSize;
+    private final int minIntegerDigits;
+    private final int minFractionDigits;
+    private final int maxFractionDigits;
+    /**
+     * The currency to be used, when parsing texts without currency information, may be null.
+     */
+    private final CurrencyUnit defaultCurrency;
+    /**
+     * Currency code to symbol table, precomputed for the format's locale.
+     */
+    private final Map<String, String> symbolsByCode;
+    /**
+     * Symbols ordered by length descending, so parsing matches the longest symbol first.
+     */
+    private final String[] parseSymbols;
+    /**
+     * The currency codes corresponding to {@link #parseSymbols}.
+     */
+    private final String[] parseSymbolCodes;
+
+    /**
+     * Compiles a new format.
+     *
+     * @param context the format context, not null.
+     */
+    private CompiledAmountFormat(AmountFormatContext context) {
+        this.context = Objects.requireNonNull(context, "context required.");
+        Locale locale = context.getLocale();
+        if (locale == null) {
+            locale = Locale.ROOT;
+        }
+        String pattern = context.getText(KEY_PATTERN);
+        if (pattern == null) {
+            pattern = defaultPattern(locale);
+        }
+        List<String> subPatterns = splitPattern(pattern);
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.zeroDigit = symbols.getZeroDigit();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.minusSign = symbols.getMinusSign();
+        this.positivePlan = tokenize(subPatterns.get(0));
+        NumberPart numberPart = new NumberPart(positivePlan);
+        this.groupingSize = numberPart.groupingSize;
+        this.minIntegerDigits = numberPart.minIntegerDigits;
+        this.minFractionDigits = numberPart.minFractionDigits;
+        this.maxFractionDigits = numberPart.maxFractionDigits;
+        this.negativePlan = subPatterns.size() > 1 ? tokenize(subPatterns.get(1)) : null;
+        this.decimalSeparator =
+                pattern.indexOf(CURRENCY_SIGN) >= 0 ? symbols.getMonetaryDecimalSeparator() :
+                        symbols.getDecimalSeparator();
+        this.defaultCurrency = context.get(CurrencyUnit.class);
+        this.symbolsByCode = new HashMap<>();
+        Map<String, String> codesBySymbol = new HashMap<>();
+        Set<String> ambiguousSymbols = new HashSet<>();
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            String code = currency.getCurrencyCode();
+            String symbol = currency.getSymbol(locale);
+            symbolsByCode.put(code, symbol);
+            if (!symbol.equals(code) && codesBySymbol.put(symbol, code) != null) {
+                ambiguousSymbols.add(symbol);
+            }
+        }
+        for (String symbol : ambiguousSymbols) {
+            codesBySymbol.remove(symbol);
+        }
+        List<String> orderedSymbols = new ArrayList<>(codesBySymbol.keySet());
+        Collections.sort(orderedSymbols, new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o2.length() - o1.length();
+            }
+        });
+        this.parseSymbols = orderedSymbols.toArray(new String[orderedSymbols.size()]);
+        this.parseSymbolCodes = new String[parseSymbols.length];
+        for (int i = 0; i < parseSymbols.length; i++) {
+            parseSymbolCodes[i] = codesBySymbol.get(parseSymbols[i]);
+        }
+    }
+
+    /**
+     * Creates a format sharing the compiled plan of the given format, for another context with the same locale,
+     * pattern and default currency.
+     *
+     * @param compiled the compiled format, not null.
+     * @param context  the format context, not null.
+     */
+    private CompiledAmountFormat(CompiledAmountFormat compiled, AmountFormatContext context) {
+        this.context = context;
+        this.positivePlan = compiled.positivePlan;
+        this.negativePlan = compiled.negativePlan;
+        this.zeroDigit = compiled.zeroDigit;
+        this.decimalSeparator = compiled.decimalSeparator;
+        this.groupingSeparator = compiled.groupingSeparator;
+        this.minusSign = compiled.minusSign;
+        this.groupingSize = compiled.groupingSize;
+        this.minIntegerDigits = compiled.minIntegerDigits;
+        this.minFractionDigits = compiled.minFractionDigits;
+        this.maxFractionDigits = compiled.maxFractionDigits;
+        this.defaultCurrency = compiled.defaultCurrency;
+        this.symbolsByCode = compiled.symbolsByCode;
+        this.parseSymbols = compiled.parseSymbols;
+        this.parseSymbolCodes = compiled.parseSymbolCodes;
+    }
+
+    /**
+     * Access a {@link CompiledAmountFormat} for the given context. Since compiled formats are immutable, a format
+     * is compiled only once per locale, pattern and default currency, and then shared (up to a fixed maximal number
+     * of formats). Contexts differing in other attributes, e.g. the parse factory, share the compiled plan.
+     *
+     * @param context the {@link AmountFormatContext}, not null.
+     * @return the compiled format, never null.
+     * @throws IllegalArgumentException if the pattern configured is invalid.
+     */
+    public static CompiledAmountFormat of(AmountFormatContext context) {
+        PlanKey key = new PlanKey(Objects.requireNonNull(context, "context required."));
+        CompiledAmountFormat format = CACHE.get(key);
+        if (format == null) {
+            format = new CompiledAmountFormat(context);
+            if (CACHE.size() >= MAX_CACHED_FORMATS) {
+                CACHE.clear();
+            }
+            CACHE.put(key, format);
+            return format;
+        }
+        if (format.context.equals(context)) {
+            return format;
+        }
+        return new CompiledAmountFormat(format, context);
+    }
+
+    @Override
+    public AmountFormatContext getContext() {
+        return context;
+    }
+
+    @Override
+    public String queryFrom(MonetaryAmount amount) {
+        return format(amount);
+    }
+
+    @Override
+    public String format(MonetaryAmount amount) {
+        StringBuilder b = new StringBuilder();
+        try {
+            print(b, amount);
+        } catch (IOException e) {
+            throw new IllegalStateException("Formatting error.", e);
+        }
+        return b.toString();
+    }
+
+    @Override
+    public void print(Appendable appendable, MonetaryAmount amount) throws IOException {
+        Objects.requireNonNull(amount, "amount required.");
+        CurrencyUnit currency = amount.getCurrency();
+        print(appendable, amount.getNumber().numberValue(BigDecimal.class), currency.getCurrencyCode(),
+                getSymbol(currency));
+    }
+
+    /**
+     * Access the currency symbol printed for the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the symbol, never null. Currencies unknown to the JDK are represented by their code.
+     */
+    public String getSymbol(CurrencyUnit currency) {
+        String code = currency.getCurrencyCode();
+        String symbol = symbolsByCode.get(code);
+        if (symbol == null) {
+            return code;
+        }
+        return symbol;
+    }
+
+    /**
+     * Prints a number with an already resolved currency code and symbol by walking the compiled plan.
+     *
+     * @param appendable the target, not null.
+     * @param number     the number, not null.
+     * @param code       the currency code, not null.
+     * @param symbol     the currency symbol, not null.
+     * @throws IOException if thrown by the {@code appendable}.
+     */
+    void print(Appendable appendable, BigDecimal number, String code, String symbol) throws IOException {
+        BigDecimal value = number.setScale(maxFractionDigits, RoundingMode.HALF_EVEN);
+        Token[] plan = positivePlan;
+        if (value.signum() < 0) {
+            if (negativePlan == null) {
+                appendable.append(minusSign);
+            } else {
+                plan = negativePlan;
+            }
+        }
+        for (Token token : plan) {
+            switch (token.type) {
+                case TOKEN_LITERAL:
+                    appendable.append(token.text);
+                    break;
+                case TOKEN_SYMBOL:
+                    appendable.append(symbol);
+                    break;
+                case TOKEN_CODE:
+                    appendable.append(code);
+                    break;
+                default:
+                    printNumber(appendable, value);
+            }
+        }
+    }
+
+    /**
+     * Prints the (absolute) number part.
+     *
+     * @param appendable the target, not null.
+     * @param value      the value, already scaled to {@link #maxFractionDigits}.
+     * @throws IOException if thrown by the {@code appendable}.
+     */
+    private void printNumber(Appendable appendable, BigDecimal value) throws IOException {
+        String digits = value.unscaledValue().abs().toString();
+        int len = digits.length();
+        int fractionDigits = maxFractionDigits;
+        while (fractionDigits > minFractionDigits) {
+            int index = len - 1 - (maxFractionDigits - fractionDigits);
+            if (index >= 0 && digits.charAt(index) != '0') {
+                break;
+            }
+            fractionDigits--;
+        }
+        int integerDigits = len - maxFractionDigits;
+        int printedIntegerDigits = Math.max(integerDigits, minIntegerDigits);
+        if (printedIntegerDigits == 0 && fractionDigits == 0) {
+            printedIntegerDigits = 1;
+        }
+        int offset = zeroDigit - '0';
+        for (int i = printedIntegerDigits; i > 0; i--) {
+            int index = integerDigits - i;
+            appendable.append(index < 0 ? zeroDigit : (char) (digits.charAt(index) + offset));
+            if (groupingSize > 0 && i > 1 && (i - 1) % groupingSize == 0) {
+                appendable.append(groupingSeparator);
+            }
+        }
+        if (fractionDigits > 0) {
+            appendable.append(decimalSeparator);
+            for (int i = 0; i < fractionDigits; i++) {
+                int index = integerDigits + i;
+                appendable.append(index < 0 ? zeroDigit : (char) (digits.charAt(index) + offset));
+            }
+        }
+    }
+
+    @Override
+    public MonetaryAmount parse(CharSequence text) throws MonetaryParseException {
+        Objects.requireNonNull(text, "text required.");
+        ParseState state = new ParseState();
+        boolean negative = false;
+        int errorIndex;
+        if (negativePlan != null) {
+            if (parse(negativePlan, text, 0, state)) {
+                negative = true;
+            } else {
+                errorIndex = state.errorIndex;
+                state = new ParseState();
+                if (!parse(positivePlan, text, 0, state)) {
+                    errorIndex = Math.max(errorIndex, state.errorIndex);
+                    state = new ParseState();
+                    if (!startsWithMinus(text) || !parse(positivePlan, text, 1, state)) {
+                        throw new MonetaryParseException("Unparseable amount: " + text, text,
+                                Math.max(errorIndex, state.errorIndex));
+                    }
+                    negative = true;
+                }
+            }
+        } else {
+            int start = 0;
+            if (startsWithMinus(text)) {
+                negative = true;
+                start = 1;
+            }
+            if (!parse(positivePlan, text, start, state)) {
+                throw new MonetaryParseException("Unparseable amount: " + text, text, state.errorIndex);
+            }
+        }
+        BigDecimal number = new BigDecimal(new BigInteger(state.digits.toString()), state.scale);
+        if (negative) {
+            number = number.negate();
+        }
+        return createAmount(resolveCurrency(state, text), number);
+    }
+
+    /**
+     * Checks if the text starts with the locale's minus sign or {@code -}.
+     *
+     * @param text the input, not null.
+     * @return true, if the text starts with a minus sign.
+     */
+    private boolean startsWithMinus(CharSequence text) {
+        return text.length() > 0 && (text.charAt(0) == minusSign || text.charAt(0) == '-');
+    }
+
+    /**
+     * Parses the text by walking the given plan.
+     *
+     * @param plan  the plan, not null.
+     * @param text  the input, not null.
+     * @param start the start index.
+     * @param state the state to be filled, not null.
+     * @return true, if the full text was matched.
+     */
+    private boolean parse(Token[] plan, CharSequence text, int start, ParseState state) {
+        int pos = start;
+        for (int t = 0; t < plan.length; t++) {
+            Token token = plan[t];
+            switch (token.type) {
+                case TOKEN_LITERAL:
+                    pos = parseLiteral(token.text, text, pos);
+                    break;
+                case TOKEN_SYMBOL:
+                    pos = parseSymbol(text, pos, state);
+                    break;
+                case TOKEN_CODE:
+                    pos = parseCode(text, pos, t + 1 < plan.length ? plan[t + 1] : null, state);
+                    break;
+                default:
+                    pos = parseNumber(text, pos, state);
+            }
+            if (pos < 0) {
+                state.errorIndex = -pos - 1;
+                return false;
+            }
+        }
+        if (pos != text.length()) {
+            state.errorIndex = pos;
+            return false;
+        }
+        return state.digits.length() > 0;
+    }
+
+    private static int parseLiteral(String literal, CharSequence text, int pos) {
+        for (int i = 0; i < literal.length(); i++, pos++) {
+            if (pos >= text.length()) {
+                return -pos - 1;
+            }
+            char expected = literal.charAt(i);
+            char found = text.charAt(pos);
+            if (expected != found && !(Character.isSpaceChar(expected) && Character.isSpaceChar(found))) {
+                return -pos - 1;
+            }
+        }
+        return pos;
+    }
+
+    private int parseSymbol(CharSequence text, int pos, ParseState state) {
+        for (int i = 0; i < parseSymbols.length; i++) {
+            String symbol = parseSymbols[i];
+            if (regionMatches(text, pos, symbol)) {
+                state.currencyCode = parseSymbolCodes[i];
+                state.currencyIndex = pos;
+                return pos + symbol.length();
+            }
+        }
+        if (defaultCurrency != null) {
+            String symbol = getSymbol(defaultCurrency);
+            if (regionMatches(text, pos, symbol)) {
+                state.currencyCode = defaultCurrency.getCurrencyCode();
+                state.currencyIndex = pos;
+                return pos + symbol.length();
+            }
+        }
+        int end = pos;
+        while (end < text.length() && Character.isLetter(text.charAt(end))) {
+            end++;
+        }
+        if (end == pos) {
+            return -pos - 1;
+        }
+        state.currencyCode = text.subSequence(pos, end).toString();
+        state.currencyIndex = pos;
+        return end;
+    }
+
+    private static int parseCode(CharSequence text, int pos, Token next, ParseState state) {
+        int end = pos;
+        if (next != null && next.type == TOKEN_LITERAL) {
+            char stop = next.text.charAt(0);
+            while (end < text.length() && text.charAt(end) != stop &&
+                    !(Character.isSpaceChar(stop) && Character.isSpaceChar(text.charAt(end)))) {
+                end++;
+            }
+        } else {
+            while (end < text.length() && Character.isLetter(text.charAt(end))) {
+                end++;
+            }
+        }
+        if (end == pos) {
+            return -pos - 1;
+        }
+        state.currencyCode = text.subSequence(pos, end).toString();
+        state.currencyIndex = pos;
+        return end;
+    }
+
+    private int parseNumber(CharSequence text, int pos, ParseState state) {
+        boolean decimal = false;
+        int digitCount = 0;
+        while (pos < text.length()) {
+            char ch = text.charAt(pos);
+            int digit = ch - zeroDigit;
+            if (digit < 0 || digit > 9) {
+                digit = ch - '0';
+            }
+            if (digit >= 0 && digit <= 9) {
+                state.digits.append((char) ('0' + digit));
+                digitCount++;
+                if (decimal) {
+                    state.scale++;
+                }
+            } else if (ch == decimalSeparator && !decimal) {
+                decimal = true;
+            } else if (ch == groupingSeparator && !decimal && digitCount > 0 && pos + 1 < text.length() &&
+                    Character.isDigit(text.charAt(pos + 1))) {
+                // grouping separators are skipped
+            } else {
+                break;
+            }
+            pos++;
+        }
+        if (digitCount == 0) {
+            return -pos - 1;
+        }
+        return pos;
+    }
+
+    private static boolean regionMatches(CharSequence text, int pos, String part) {
+        if (pos + part.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < part.length(); i++) {
+            if (text.charAt(pos + i) != part.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates the currency parsed.
+     *
+     * @param state the state of the successful parse run, not null.
+     * @param text  the input text, used for error reporting.
+     * @return the currency, never null.
+     * @throws MonetaryParseException if the currency parsed is not known.
+     */
+    private CurrencyUnit resolveCurrency(ParseState state, CharSequence text) {
+        String code = state.currencyCode;
+        if (code == null) {
+            if (defaultCurrency == null) {
+                throw new MonetaryParseException("No currency in input and no default currency configured: " + text,
+                        text, 0);
+            }
+            return defaultCurrency;
+        }
+        if (defaultCurrency != null && defaultCurrency.getCurrencyCode().equals(code)) {
+            return defaultCurrency;
+        }
+        try {
+            return Monetary.getCurrency(code);
+        } catch (UnknownCurrencyException e) {
+            throw new MonetaryParseException("Unknown currency '" + code + "' in: " + text, text,
+                    state.currencyIndex);
+        }
+    }
+
+    /**
+     * Creates the amount using the configured parse factory. Since factories are not required to be thread-safe,
+     * the access to a shared factory instance is synchronized.
+     *
+     * @param currency the currency, not null.
+     * @param number   the number, not null.
+     * @return the new amount.
+     */
+    private MonetaryAmount createAmount(CurrencyUnit currency, BigDecimal number) {
+        MonetaryAmountFactory<?> factory = context.getParseFactory();
+        if (factory == null) {
+            return Monetary.getDefaultAmountFactory().setCurrency(currency).setNumber(number).create();
+        }
+        synchronized (factory) {
+            return factory.setCurrency(currency).setNumber(number).create();
+        }
+    }
+
+    /**
+     * Evaluates the default currency pattern for the given locale.
+     *
+     * @param locale the locale, not null.
+     * @return the pattern, never null.
+     */
+    private static String defaultPattern(Locale locale) {
+        NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+        if (format instanceof DecimalFormat) {
+            return ((DecimalFormat) format).toPattern();
+        }
+        return "¤ #,##0.00";
+    }
+
+    /**
+     * Splits the pattern into its positive and (optional) negative sub-patterns.
+     *
+     * @param pattern the pattern, not null.
+     * @return the sub-patterns, never empty.
+     */
+    private static List<String> splitPattern(String pattern) {
+        List<String> result = new ArrayList<>(2);
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == QUOTE) {
+                quoted = !quoted;
+            } else if (ch == ';' && !quoted) {
+                result.add(pattern.substring(start, i));
+                start = i + 1;
+            }
+        }
+        result.add(pattern.substring(start));
+        if (result.size() > 2) {
+            throw new IllegalArgumentException("Invalid pattern, too many sub-patterns: " + pattern);
+        }
+        return result;
+    }
+
+    /**
+     * Tokenizes a (sub-)pattern into its literal, number and currency parts.
+     *
+     * @param pattern the sub-pattern, not null.
+     * @return the tokens, never null.
+     */
+    private Token[] tokenize(String pattern) {
+        List<Token> tokens = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        boolean numberFound = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            char ch = pattern.charAt(i);
+            if (ch == QUOTE) {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == QUOTE) {
+                    literal.append(QUOTE);
+                    i += 2;
+                    continue;
+                }
+                quoted = !quoted;
+                i++;
+            } else if (quoted) {
+                literal.append(ch);
+                i++;
+            } else if (ch == CURRENCY_SIGN) {
+                flushLiteral(literal, tokens);
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == CURRENCY_SIGN) {
+                    tokens.add(new Token(TOKEN_CODE, null));
+                    i += 2;
+                } else {
+                    tokens.add(new Token(TOKEN_SYMBOL, null));
+                    i++;
+                }
+            } else if (NumberPart.isNumberChar(ch)) {
+                if (numberFound) {
+                    throw new IllegalArgumentException("Invalid pattern, multiple number parts: " + pattern);
+                }
+                flushLiteral(literal, tokens);
+                int start = i;
+                while (i < pattern.length() && NumberPart.isNumberChar(pattern.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TOKEN_NUMBER, pattern.substring(start, i)));
+                numberFound = true;
+            } else if (ch == '-') {
+                literal.append(minusSign);
+                i++;
+            } else {
+                literal.append(ch);
+                i++;
+            }
+        }
+        flushLiteral(literal, tokens);
+        if (!numberFound) {
+            throw new IllegalArgumentException("Invalid pattern, no number part: " + pattern);
+        }
+        return tokens.toArray(new Token[tokens.size()]);
+    }
+
+    private static void flushLiteral(StringBuilder literal, List<Token> tokens) {
+        if (literal.length() > 0) {
+            tokens.add(new Token(TOKEN_LITERAL, literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledAmountFormat [context=" + context + ']';
+    }
+
+    /**
+     * Key of {@link #CACHE}, consisting of the context values the compiled plan depends on.
+     */
+    private static final class PlanKey {
+        private final Locale locale;
+        private final String pattern;
+        private final CurrencyUnit defaultCurrency;
+
+        PlanKey(AmountFormatContext context) {
+            this.locale = context.getLocale();
+            this.pattern = context.getText(KEY_PATTERN);
+            this.defaultCurrency = context.get(CurrencyUnit.class);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey other = (PlanKey) obj;
+            return Objects.equals(locale, other.locale) && Objects.equals(pattern, other.pattern)
+                    && Objects.equals(defaultCurrency, other.defaultCurrency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locale, pattern, defaultCurrency);
+        }
+    }
+
+    /**
+     * A single step of a compiled plan.
+     */
+    private static final class Token {
+        private final int type;
+        private final String text;
+
+        Token(int type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    /**
+     * The number settings as defined by the number token of a tokenized pattern, so
+     * number characters in quoted literals are ignored.
+     */
+    private static final class NumberPart {
+        private int groupingSize;
+        private int minIntegerDigits;
+        private int minFractionDigits;
+        private int maxFractionDigits;
+
+        NumberPart(Token[] plan) {
+            String number = "";
+            for (Token token : plan) {
+                if (token.type == TOKEN_NUMBER) {
+                    number = token.text;
+                }
+            }
+            int decimalIndex = number.indexOf('.');
+            String integerPart = decimalIndex < 0 ? number : number.substring(0, decimalIndex);
+            int groupingIndex = integerPart.lastIndexOf(',');
+            if (groupingIndex >= 0) {
+                groupingSize = integerPart.length() - groupingIndex - 1;
+            }
+            for (int i = 0; i < integerPart.length(); i++) {
+                if (integerPart.charAt(i) == '0') {
+                    minIntegerDigits++;
+                }
+            }
+            if (decimalIndex >= 0) {
+                for (int i = decimalIndex + 1; i < number.length(); i++) {
+                    char ch = number.charAt(i);
+                    if (ch == '0') {
+                        minFractionDigits++;
+                        maxFractionDigits++;
+                    } else if (ch == '#') {
+                        maxFractionDigits++;
+                    }
+                }
+            }
+        }
+
+        static boolean isNumberChar(char ch) {
+            return ch == '#' || ch == '0' || ch == ',' || ch == '.';
+        }
+    }
+
+    /**
+     * The mutable state of a single parse run.
+     */
+    private static final class ParseState {
+        private final StringBuilder digits = new StringBuilder();
+        private String currencyCode;
+        private int currencyIndex;
+        private int scale;
+        private int errorIndex;
+    }
+}
@@ -8,15 +8,29 @@
  */
 package javax.money.format;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -152,12 +166,28 @@ public final class MonetaryFormats {
         return getAmountFormat(AmountFormatQueryBuilder.of(formatName).setProviderNames(providers).build());
     }
 
+    /**
+     * Access a {@link BatchAmountFormat} for formatting many amounts at once given a {@link java.util.Locale}. The
+     * underlying {@link MonetaryAmountFormat} is resolved only once for the whole batch.
+     *
+     * @param locale    the target {@link java.util.Locale}, not {@code null}.
+     * @param separator the separator written between the amounts, not {@code null}.
+     * @param providers The providers to be queried, if not set the providers as defined by #getDefaultRoundingProviderChain()
+     *                  are queried.
+     * @return the matching {@link BatchAmountFormat}
+     * @throws MonetaryException if no registered {@link javax.money.spi.MonetaryAmountFormatProviderSpi} can provide a
+     *                           corresponding {@link MonetaryAmountFormat} instance.
+     */
+    public static BatchAmountFormat getBatchAmountFormat(Locale locale, String separator, String... providers) {
+        return BatchAmountFormat.of(getAmountFormat(locale, providers), separator);
+    }
+
     /**
      * Get all available locales. This equals to {@link javax.money.spi.MonetaryAmountFormatProviderSpi#getAvailableLocales()}.
      *
      * @param providers The providers to be used, if not set the providers as defined by #getDefaultRoundingProviderChain() are
      *                  used.
-     * @return all available locales, never {@code null}.
+     * @return all available locales, a new mutable set, never {@code null}.
      */
     public static Set<Locale> getAvailableLocales(String... providers) {
         return monetaryFormatsSingletonSpi().getAvailableLocales(providers);
@@ -189,6 +219,86 @@ public final class MonetaryFormats {
         return monetaryFormatsSingletonSpi().getDefaultProviderChain();
     }
 
+    /**
+     * Eagerly initializes the format infrastructure for the given locales, e.g. during application startup. For
+     * each locale the registered {@link javax.money.spi.MonetaryAmountFormatProviderSpi} instances are loaded and
+     * queried for the locale's default format and the given format names, and the locale's
+     * {@link CompiledAmountFormat} is compiled and cached. Locales are processed in parallel on a bounded number
+     * of threads, which are released when this method returns.
+     * <p>
+     * Failures are logged and do not abort the warm-up of the other locales.
+     *
+     * @param locales     the locales to be warmed up, not {@code null}.
+     * @param formatNames the (optional) format names to be warmed up for each locale, not {@code null}.
+     * @param parallelism the maximal number of threads used, must be {@code > 0}.
+     * @return the warm-up duration in nanoseconds per locale, in the order of {@code locales}.
+     */
+    public static Map<Locale, Long> warmUp(Collection<Locale> locales, Collection<String> formatNames,
+                                           int parallelism) {
+        Objects.requireNonNull(locales, "locales required.");
+        Objects.requireNonNull(formatNames, "formatNames required.");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0: " + parallelism);
+        }
+        Map<Locale, Long> result = new LinkedHashMap<>();
+        if (locales.isEmpty()) {
+            return result;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, locales.size()),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "MonetaryFormats-warmUp");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        try {
+            Map<Locale, Future<Long>> futures = new LinkedHashMap<>();
+            for (Locale locale : locales) {
+                futures.put(locale, executor.submit(new WarmUpTask(locale, formatNames)));
+            }
+            for (Map.Entry<Locale, Future<Long>> en : futures.entrySet()) {
+                try {
+                    result.put(en.getKey(), en.getValue().get());
+                } catch (ExecutionException e) {
+                    Logger.getLogger(MonetaryFormats.class.getName())
+                            .log(Level.WARNING, "Failed to warm up formats for locale: " + en.getKey(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    /**
+     * Task warming up the formats of a single locale.
+     */
+    private static final class WarmUpTask implements Callable<Long> {
+
+        private final Locale locale;
+        private final Collection<String> formatNames;
+
+        WarmUpTask(Locale locale, Collection<String> formatNames) {
+            this.locale = locale;
+            this.formatNames = formatNames;
+        }
+
+        @Override
+        public Long call() {
+            long start = System.nanoTime();
+            getAmountFormats(AmountFormatQueryBuilder.of(locale).build());
+            for (String formatName : formatNames) {
+                getAmountFormats(AmountFormatQueryBuilder.of(formatName).setLocale(locale).build());
+            }
+            CompiledAmountFormat.of(AmountFormatContextBuilder.of(locale).build());
+            return System.nanoTime() - start;
+        }
+    }
+
     /**
      * This class models the singleton accessor for {@link MonetaryAmountFormat} instances.
      * <p>
@@ -199,10 +309,25 @@ public final class MonetaryFormats {
      */
     public static final class DefaultMonetaryFormatsSingletonSpi implements MonetaryFormatsSingletonSpi {
 
+        /**
+         * The most recently used index of the locales declared by the loaded providers, shared by all instances.
+         */
+        private static volatile WeakReference<LocaleIndex> localeIndex = new WeakReference<>(null);
+        /**
+         * The locale indexes by the provider collection indexed, compared by identity, e.g. per class loader if the
+         * {@link javax.money.spi.ClassLoaderServiceProvider} is used.
+         */
+        private static final ConcurrentMap<SourceKey, LocaleIndex> LOCALE_INDEXES = new ConcurrentHashMap<>();
+        /**
+         * The keys of {@link #LOCALE_INDEXES} whose provider collection was collected.
+         */
+        private static final ReferenceQueue<Collection<MonetaryAmountFormatProviderSpi>> COLLECTED =
+                new ReferenceQueue<>();
 
         /**
          * Access an {@link MonetaryAmountFormat} given a {@link javax.money.format
-         * .AmountFormatContext}.
+         * .AmountFormatContext}. If the query defines a locale, the providers declaring this locale as available
+         * are queried first.
          *
          * @param formatQuery The format query defining the requirements of the formatter.
          * @return the corresponding {@link MonetaryAmountFormat}
@@ -212,7 +337,7 @@ public final class MonetaryFormats {
          */
         public Collection<MonetaryAmountFormat> getAmountFormats(AmountFormatQuery formatQuery) {
             Collection<MonetaryAmountFormat> result = new ArrayList<>();
-            for (MonetaryAmountFormatProviderSpi spi : Bootstrap.getServices(MonetaryAmountFormatProviderSpi.class)) {
+            for (MonetaryAmountFormatProviderSpi spi : getLocaleIndex().getProviders(formatQuery.getLocale())) {
                 Collection<MonetaryAmountFormat> formats = spi.getAmountFormats(formatQuery);
                 if (formats!=null) {
                     result.addAll(formats);
@@ -223,67 +348,71 @@ public final class MonetaryFormats {
 
         @Override
         public Set<String> getProviderNames() {
-            return getSpisAsMap().keySet();
+            return getLocaleIndex().providerNames;
         }
 
         /**
-         * This default implementation simply returns all providers defined in arbitrary order.
+         * This default implementation simply returns the names of all providers defined, sorted by name. The
+         * chain is evaluated once, when the providers are indexed.
          *
-         * @return the default provider chain, never null.
+         * @return the default provider chain, immutable, never null.
          */
         @Override
         public List<String> getDefaultProviderChain() {
-            List<String> list = new ArrayList<>();
-            list.addAll(getProviderNames());
-            Collections.sort(list);
-            return list;
+            return getLocaleIndex().defaultProviderChain;
         }
 
 
         /**
          * Get all available locales. This equals to {@link javax.money.spi
-         * .MonetaryAmountFormatProviderSpi#getAvailableLocales()}.
+         * .MonetaryAmountFormatProviderSpi#getAvailableLocales()}. The locales are read from the locale index,
+         * without querying the providers again.
          *
-         * @return all available locales, never {@code null}.
+         * @return all available locales, a new mutable set owned by the caller, never {@code null}.
          */
         public Set<Locale> getAvailableLocales(String... providerNames) {
+            LocaleIndex index = getLocaleIndex();
+            if (providerNames.length == 0) {
+                return new HashSet<>(index.locales);
+            }
             Set<Locale> locales = new HashSet<>();
-            Collection<MonetaryAmountFormatProviderSpi> spis = getSpis(providerNames);
-            for (MonetaryAmountFormatProviderSpi spi : spis) {
-                locales.addAll(spi.getAvailableLocales());
+            for (String provName : providerNames) {
+                Set<Locale> provLocales = index.localesByProvider.get(provName);
+                if (provLocales == null) {
+                    throw new IllegalArgumentException("MonetaryAmountFormatProviderSpi not found: " + provName);
+                }
+                locales.addAll(provLocales);
             }
             return locales;
         }
 
-        private Map<String, MonetaryAmountFormatProviderSpi> getSpisAsMap() {
-            Map<String, MonetaryAmountFormatProviderSpi> spis = new ConcurrentHashMap<>();
-            for (MonetaryAmountFormatProviderSpi spi : Bootstrap.getServices(MonetaryAmountFormatProviderSpi.class)) {
-                if (spi.getProviderName() == null) {
-                    Logger.getLogger(MonetaryFormats.class.getName()).warning("MonetaryAmountFormatProviderSpi " +
-                            "returns null for " +
-                            "getProviderName: " +
-                            spi.getClass().getName());
-                }
-                spis.put(spi.getProviderName(), spi);
+        /**
+         * Access the locale index for the currently loaded providers. The index is rebuilt, if a new
+         * {@link javax.money.spi.ServiceProvider} was installed since, as indicated by the
+         * {@link Bootstrap#getEpoch() epoch}. Indexes are kept per provider collection returned by the
+         * {@link Bootstrap}, so applications with isolated providers do not invalidate each other's index.
+         *
+         * @return the current index, never null.
+         */
+        private static LocaleIndex getLocaleIndex() {
+            long epoch = Bootstrap.getEpoch();
+            Collection<MonetaryAmountFormatProviderSpi> spis =
+                    Bootstrap.getServices(MonetaryAmountFormatProviderSpi.class);
+            LocaleIndex index = localeIndex.get();
+            if (index != null && index.epoch == epoch && index.source.get() == spis) {
+                return index;
             }
-            return spis;
-        }
-
-        private Collection<MonetaryAmountFormatProviderSpi> getSpis(String... providerNames) {
-            List<MonetaryAmountFormatProviderSpi> providers = new ArrayList<>();
-            Map<String, MonetaryAmountFormatProviderSpi> spis = getSpisAsMap();
-            if (providerNames.length == 0) {
-                providers.addAll(spis.values());
-            } else {
-                for (String provName : providerNames) {
-                    MonetaryAmountFormatProviderSpi spi = spis.get(provName);
-                    if (spi==null) {
-                        throw new IllegalArgumentException("MonetaryAmountFormatProviderSpi not found: " + provName);
-                    }
-                    providers.add(spi);
+            index = LOCALE_INDEXES.get(new SourceKey(spis, null));
+            if (index == null || index.epoch != epoch) {
+                Reference<?> ref;
+                while ((ref = COLLECTED.poll()) != null) {
+                    LOCALE_INDEXES.remove(ref);
                 }
+                index = new LocaleIndex(spis, epoch);
+                LOCALE_INDEXES.put(new SourceKey(spis, COLLECTED), index);
             }
-            return providers;
+            localeIndex = new WeakReference<>(index);
+            return index;
         }
 
         /**
@@ -297,11 +426,27 @@ public final class MonetaryFormats {
          *                                       corresponding {@link MonetaryAmountFormat} instance.
          */
         public MonetaryAmountFormat getAmountFormat(AmountFormatQuery formatQuery) {
-            Collection<MonetaryAmountFormat> formats = getAmountFormats(formatQuery);
-            if (formats.isEmpty()) {
+            MonetaryAmountFormat format = findAmountFormat(formatQuery);
+            if (format == null) {
                 throw new MonetaryException("No MonetaryAmountFormat for AmountFormatQuery " + formatQuery);
             }
-            return formats.iterator().next();
+            return format;
+        }
+
+        /**
+         * Queries the providers for the given query, stopping at the first provider returning a format.
+         *
+         * @param formatQuery The format query defining the requirements of the formatter.
+         * @return the first matching format, or {@code null}.
+         */
+        private MonetaryAmountFormat findAmountFormat(AmountFormatQuery formatQuery) {
+            for (MonetaryAmountFormatProviderSpi spi : getLocaleIndex().getProviders(formatQuery.getLocale())) {
+                Collection<MonetaryAmountFormat> formats = spi.getAmountFormats(formatQuery);
+                if (formats != null && !formats.isEmpty()) {
+                    return formats.iterator().next();
+                }
+            }
+            return null;
         }
 
         /**
@@ -312,18 +457,33 @@ public final class MonetaryFormats {
          * @return true, if a t least one {@link MonetaryAmountFormat} is matching the query.
          */
         public boolean isAvailable(AmountFormatQuery formatQuery) {
-            return !getAmountFormats(formatQuery).isEmpty();
+            return findAmountFormat(formatQuery) != null;
         }
 
         /**
          * Checks if a {@link MonetaryAmountFormat} is available given a {@link javax.money.format
-         * .AmountFormatQuery}.
+         * .AmountFormatQuery}. Locales declared as available by the providers are looked up in the locale index,
+         * other locales are checked by querying the providers, as before, so providers declaring no or only some of
+         * their locales are still found.
          *
          * @param locale    the target {@link java.util.Locale}, not {@code null}.
          * @param providers The (optional) providers to be used, oredered correspondingly.
          * @return true, if a t least one {@link MonetaryAmountFormat} is matching the query.
          */
         public boolean isAvailable(Locale locale, String... providers) {
+            List<MonetaryAmountFormatProviderSpi> localeProviders = getLocaleIndex().providersByLocale.get(locale);
+            if (localeProviders != null) {
+                if (providers.length == 0) {
+                    return true;
+                }
+                for (MonetaryAmountFormatProviderSpi spi : localeProviders) {
+                    for (String provName : providers) {
+                        if (provName.equals(spi.getProviderName())) {
+                            return true;
+                        }
+                    }
+                }
+            }
             return isAvailable(AmountFormatQuery.of(locale, providers));
         }
 
@@ -352,5 +512,136 @@ public final class MonetaryFormats {
         public MonetaryAmountFormat getAmountFormat(String formatName, String... providers) {
             return getAmountFormat(AmountFormatQueryBuilder.of(formatName).setProviderNames(providers).build());
         }
+
+        /**
+         * Weak key comparing provider collections by identity.
+         */
+        private static final class SourceKey extends WeakReference<Collection<MonetaryAmountFormatProviderSpi>> {
+
+            private final int hash;
+
+            SourceKey(Collection<MonetaryAmountFormatProviderSpi> spis,
+                      ReferenceQueue<Collection<MonetaryAmountFormatProviderSpi>> queue) {
+                super(spis, queue);
+                this.hash = System.identityHashCode(spis);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (obj == this) {
+                    return true;
+                }
+                if (!(obj instanceof SourceKey)) {
+                    return false;
+                }
+                Collection<MonetaryAmountFormatProviderSpi> spis = get();
+                return spis != null && spis == ((SourceKey) obj).get();
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+        }
+
+        /**
+         * Immutable index of the locales declared available by a given list of providers.
+         */
+        private static final class LocaleIndex {
+
+            /**
+             * The {@link Bootstrap#getEpoch() epoch} this index was built in.
+             */
+            final long epoch;
+            /**
+             * The provider collection indexed, held weakly, since it is the key of {@link #LOCALE_INDEXES}.
+             */
+            final WeakReference<Collection<MonetaryAmountFormatProviderSpi>> source;
+            /**
+             * The providers indexed, in order.
+             */
+            private final MonetaryAmountFormatProviderSpi[] providers;
+            /**
+             * The providers declaring a locale as available, in order.
+             */
+            private final Map<Locale, List<MonetaryAmountFormatProviderSpi>> providersByLocale = new HashMap<>();
+            /**
+             * The locales declared available, by provider name.
+             */
+            private final Map<String, Set<Locale>> localesByProvider = new HashMap<>();
+            /**
+             * All locales declared available.
+             */
+            private final Set<Locale> locales;
+            /**
+             * The names of the providers indexed.
+             */
+            private final Set<String> providerNames;
+            /**
+             * The names of the providers indexed, sorted.
+             */
+            private final List<String> defaultProviderChain;
+
+            LocaleIndex(Collection<MonetaryAmountFormatProviderSpi> spis, long epoch) {
+                this.epoch = epoch;
+                this.source = new WeakReference<>(spis);
+                this.providers = spis.toArray(new MonetaryAmountFormatProviderSpi[spis.size()]);
+                Set<String> names = new HashSet<>();
+                for (MonetaryAmountFormatProviderSpi spi : providers) {
+                    if (spi.getProviderName() == null) {
+                        Logger.getLogger(MonetaryFormats.class.getName()).warning(
+                                "MonetaryAmountFormatProviderSpi returns null for getProviderName: " +
+                                        spi.getClass().getName());
+                    } else {
+                        names.add(spi.getProviderName());
+                    }
+                    Set<Locale> spiLocales = spi.getAvailableLocales();
+                    if (spiLocales == null) {
+                        spiLocales = Collections.emptySet();
+                    }
+                    Set<Locale> provLocales = localesByProvider.get(spi.getProviderName());
+                    if (provLocales == null) {
+                        provLocales = new HashSet<>();
+                        localesByProvider.put(spi.getProviderName(), provLocales);
+                    }
+                    provLocales.addAll(spiLocales);
+                    for (Locale locale : spiLocales) {
+                        List<MonetaryAmountFormatProviderSpi> list = providersByLocale.get(locale);
+                        if (list == null) {
+                            list = new ArrayList<>();
+                            providersByLocale.put(locale, list);
+                        }
+                        list.add(spi);
+                    }
+                }
+                this.locales = Collections.unmodifiableSet(new HashSet<>(providersByLocale.keySet()));
+                this.providerNames = Collections.unmodifiableSet(names);
+                List<String> chain = new ArrayList<>(names);
+                Collections.sort(chain);
+                this.defaultProviderChain = Collections.unmodifiableList(chain);
+            }
+
+            /**
+             * Evaluates the providers to be queried for a locale: the providers declaring the locale as
+             * available first, followed by all other providers.
+             *
+             * @param locale the target locale, may be null.
+             * @return the providers in query order.
+             */
+            List<MonetaryAmountFormatProviderSpi> getProviders(Locale locale) {
+                List<MonetaryAmountFormatProviderSpi> localeProviders =
+                        locale == null ? null : providersByLocale.get(locale);
+                if (localeProviders == null || localeProviders.size() == providers.length) {
+                    return Arrays.asList(providers);
+                }
+                List<MonetaryAmountFormatProviderSpi> result = new ArrayList<>(localeProviders);
+                for (MonetaryAmountFormatProviderSpi spi : providers) {
+                    if (!localeProviders.contains(spi)) {
+                        result.add(spi);
+                    }
+                }
+                return result;
+            }
+        }
     }
 }
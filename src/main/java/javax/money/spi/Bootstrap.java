@@ -10,11 +10,12 @@ package javax.money.spi;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -34,6 +35,14 @@ public final class Bootstrap {
      * The shared lock instance user.
      */
     private static final Object LOCK = new Object();
+    /**
+     * The configuration epoch, incremented on each provider change, guarded by {@link #LOCK} for writes.
+     */
+    private static volatile long epoch;
+    /**
+     * The listeners notified on provider changes.
+     */
+    private static final CopyOnWriteArrayList<BootstrapListener> LISTENERS = new CopyOnWriteArrayList<>();
 
     /**
      * Private singletons constructor.
@@ -42,12 +51,28 @@ public final class Bootstrap {
     }
 
     /**
-     * Load the {@link ServiceProvider} to be used.
+     * Load the {@link ServiceProvider} to be used: a {@link ClassLoaderServiceProvider}, if enabled by system
+     * property, or else the provider listed in the {@link ServiceIndex service index}, or else as found by the
+     * {@link ServiceLoader}.
      *
      * @return {@link ServiceProvider} to be used for loading the services.
      */
     @SuppressWarnings("LoopStatementThatDoesntLoop")
     private static ServiceProvider loadDefaultServiceProvider() {
+        if (Boolean.getBoolean(ClassLoaderServiceProvider.ENABLED_PROPERTY)) {
+            return new ClassLoaderServiceProvider();
+        }
+        List<String> indexed = ServiceIndex.load(DefaultServiceProvider.getClassLoader())
+                .get(ServiceProvider.class.getName());
+        if (indexed != null && !indexed.isEmpty()) {
+            try {
+                return ServiceProvider.class.cast(
+                        Class.forName(indexed.get(0), true, DefaultServiceProvider.getClassLoader()).newInstance());
+            } catch (Exception | LinkageError e) {
+                Logger.getLogger(Bootstrap.class.getName())
+                        .warning("Indexed ServiceProvider not loaded, using ServiceLoader: " + e);
+            }
+        }
         try {
             for (ServiceProvider sp : ServiceLoader.load(ServiceProvider.class)) {
                 return sp;
@@ -59,27 +84,68 @@ public final class Bootstrap {
     }
 
     /**
-     * Replace the current {@link ServiceProvider} in use.
+     * Replace the current {@link ServiceProvider} in use. The {@link #getEpoch() epoch} is incremented and the
+     * {@link BootstrapListener listeners} registered are notified.
      *
      * @param serviceProvider the new {@link ServiceProvider}
      * @return the removed , or null.
      */
     public static ServiceProvider init(ServiceProvider serviceProvider) {
         Objects.requireNonNull(serviceProvider);
+        ServiceProvider prevProvider;
+        long newEpoch;
         synchronized (LOCK) {
-            if (Bootstrap.serviceProviderDelegate==null) {
-                Bootstrap.serviceProviderDelegate = serviceProvider;
+            prevProvider = Bootstrap.serviceProviderDelegate;
+            Bootstrap.serviceProviderDelegate = serviceProvider;
+            newEpoch = ++epoch;
+            if (prevProvider==null) {
                 Logger.getLogger(Bootstrap.class.getName())
                         .info("Money Bootstrap: new ServiceProvider set: " + serviceProvider.getClass().getName());
-                return null;
             } else {
-                ServiceProvider prevProvider = Bootstrap.serviceProviderDelegate;
-                Bootstrap.serviceProviderDelegate = serviceProvider;
                 Logger.getLogger(Bootstrap.class.getName())
                         .warning("Money Bootstrap: ServiceProvider replaced: " + serviceProvider.getClass().getName());
-                return prevProvider;
             }
         }
+        for (BootstrapListener listener : LISTENERS) {
+            try {
+                listener.serviceProviderChanged(prevProvider, serviceProvider, newEpoch);
+            } catch (Exception e) {
+                Logger.getLogger(Bootstrap.class.getName())
+                        .log(Level.WARNING, "Money Bootstrap: listener failed: " + listener, e);
+            }
+        }
+        return prevProvider;
+    }
+
+    /**
+     * Access the configuration epoch, which is incremented each time the {@link ServiceProvider} is replaced by
+     * {@link #init(ServiceProvider)}. Caches of data loaded from services can store the epoch they were built
+     * in, and validate themselves with a single volatile read on access.
+     *
+     * @return the current epoch.
+     */
+    public static long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Registers a listener notified when the {@link ServiceProvider} is replaced. Listeners are held strongly,
+     * until removed.
+     *
+     * @param listener the listener, not null.
+     */
+    public static void addListener(BootstrapListener listener) {
+        LISTENERS.addIfAbsent(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Removes a listener registered before.
+     *
+     * @param listener the listener, not null.
+     * @return true, if the listener was registered.
+     */
+    public static boolean removeListener(BootstrapListener listener) {
+        return LISTENERS.remove(Objects.requireNonNull(listener));
     }
 
     /**
@@ -91,7 +157,9 @@ public final class Bootstrap {
         if (serviceProviderDelegate==null) {
             synchronized (LOCK) {
                 if (serviceProviderDelegate==null) {
+                    long start = BootstrapStatistics.getInstance().start();
                     serviceProviderDelegate = loadDefaultServiceProvider();
+                    BootstrapStatistics.getInstance().recordServiceProvider(serviceProviderDelegate, start);
                 }
             }
         }
@@ -106,6 +174,7 @@ public final class Bootstrap {
      * @see ServiceProvider#getServices(Class)
      */
     public static <T> Collection<T> getServices(Class<T> serviceType) {
+        BootstrapStatistics.getInstance().recordLookup(serviceType, BootstrapStatistics.LOOKUP_SERVICES);
         return getServiceProvider().getServices(serviceType);
     }
 
@@ -117,18 +186,75 @@ public final class Bootstrap {
      * @see ServiceProvider#getServices(Class)
      */
     public static <T> T getService(Class<T> serviceType) {
+        BootstrapStatistics.getInstance().recordLookup(serviceType, BootstrapStatistics.LOOKUP_SERVICE);
         List<T> services = getServiceProvider().getServices(serviceType);
         if(services.isEmpty()){
             return null;
         }
-        services = new ArrayList<>(services);
-        Collections.sort(services, new Comparator<T>() {
-            @Override
-            public int compare(T o1, T o2) {
-                return o1.getClass().getSimpleName().compareTo(o2.getClass().getSimpleName());
+        T selected = null;
+        String selectedName = null;
+        for (T service : services) {
+            String name = service.getClass().getSimpleName();
+            if (selected == null || name.compareTo(selectedName) < 0) {
+                selected = service;
+                selectedName = name;
             }
-        });
-        return services.get(0);
+        }
+        return selected;
+    }
+
+    /**
+     * Access handles to the services of the given type. With the default {@link ServiceProvider}, services are
+     * instantiated on first access of their handle only, so services can be selected e.g. by their
+     * {@link ServiceHandle#getProviderName() provider name}, without instantiating the others. With other
+     * {@link ServiceProvider} implementations, the handles wrap the instances returned by
+     * {@link ServiceProvider#getServices(Class)}.
+     *
+     * @param serviceType the service type.
+     * @return the handles, in the same order as {@link #getServices(Class)}, never {@code null}.
+     */
+    public static <T> List<ServiceHandle<T>> getServiceHandles(Class<T> serviceType) {
+        BootstrapStatistics.getInstance().recordLookup(serviceType, BootstrapStatistics.LOOKUP_SERVICE_HANDLES);
+        ServiceProvider provider = getServiceProvider();
+        if (provider instanceof DefaultServiceProvider) {
+            return ((DefaultServiceProvider) provider).getServiceHandles(serviceType);
+        }
+        if (provider instanceof ClassLoaderServiceProvider) {
+            return ((ClassLoaderServiceProvider) provider).getServiceHandles(serviceType);
+        }
+        List<ServiceHandle<T>> handles = new ArrayList<>();
+        for (T service : provider.getServices(serviceType)) {
+            handles.add(new ServiceHandle<>(serviceType, service));
+        }
+        return handles;
     }
 
+    /**
+     * Eagerly initializes the monetary services, e.g. during application startup, so the initialization cost is
+     * not paid by the first request. The service handles of all SPI types are looked up, each provider is
+     * instantiated and queried for the data it provides, and finally the default currency, rounding, format and
+     * conversion tables are loaded. The steps of each of these phases are run in parallel on a bounded number of
+     * threads, which are released when this method returns.
+     * <p>
+     * Failures are logged and do not abort the other steps.
+     *
+     * @param parallelism the maximal number of threads used, must be {@code > 0}.
+     * @return the duration in nanoseconds per step, in order of execution. Steps are named by the simple name of
+     * the SPI type, by the simple name of the SPI type and the provider name separated by {@code '/'}, followed by
+     * {@code '/'} and the implementation class name if several providers of a type share a name, or
+     * {@code currencies}, {@code roundings}, {@code formats} and {@code conversions} for the tables.
+     */
+    public static Map<String, Long> warmUp(int parallelism) {
+        return new WarmUp(parallelism).run();
+    }
+
+    /**
+     * Access the statistics of the services loaded and looked up. Recording is disabled by default, see
+     * {@link BootstrapStatistics}.
+     *
+     * @return the statistics, never {@code null}.
+     */
+    public static BootstrapStatistics getStatistics() {
+        return BootstrapStatistics.getInstance();
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+/**
+ * Listener notified by {@link Bootstrap}, when the {@link ServiceProvider} in use is replaced, e.g. to flush
+ * caches of services loaded from the previous provider. Caches validated on access can compare the
+ * {@link Bootstrap#getEpoch() epoch} instead.
+ *
+ * @author Anatole Tresch
+ * @see Bootstrap#addListener(BootstrapListener)
+ */
+public interface BootstrapListener {
+
+    /**
+     * Called after the {@link ServiceProvider} was replaced, on the thread calling
+     * {@link Bootstrap#init(ServiceProvider)}.
+     *
+     * @param previous the previous provider, or null, if none was loaded before.
+     * @param current  the new provider, not null.
+     * @param epoch    the new {@link Bootstrap#getEpoch() epoch}.
+     */
+    void serviceProviderChanged(ServiceProvider previous, ServiceProvider current, long epoch);
+}
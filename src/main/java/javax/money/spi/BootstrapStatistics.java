@@ -0,0 +1,328 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in statistics of the services loaded by {@link Bootstrap} and the default {@link ServiceProvider}: the time
+ * taken to load the {@link ServiceProvider}, the services per type and each service implementation, the number of
+ * instances and the class loader per type, and the number of lookups through {@link Bootstrap} per type.
+ * <p>
+ * Recording is disabled by default, it is enabled by calling {@link #setEnabled(boolean)}, or by setting the system
+ * property {@value #ENABLED_PROPERTY} to {@code true}, which also registers this instance with the platform
+ * {@link MBeanServer}, see {@link #registerMBean()}. Services loaded before recording was enabled are not
+ * reported.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Anatole Tresch
+ * @see Bootstrap#getStatistics()
+ */
+public final class BootstrapStatistics implements BootstrapStatisticsMXBean {
+
+    /**
+     * The system property enabling the statistics on startup.
+     */
+    public static final String ENABLED_PROPERTY = "javax.money.spi.statistics";
+    /**
+     * The object name this instance is registered with.
+     */
+    public static final String OBJECT_NAME = "javax.money:type=BootstrapStatistics";
+
+    /**
+     * Lookup through {@link Bootstrap#getService(Class)}.
+     */
+    static final int LOOKUP_SERVICE = 0;
+    /**
+     * Lookup through {@link Bootstrap#getServices(Class)}.
+     */
+    static final int LOOKUP_SERVICES = 1;
+    /**
+     * Lookup through {@link Bootstrap#getServiceHandles(Class)}.
+     */
+    static final int LOOKUP_SERVICE_HANDLES = 2;
+    /**
+     * The start time returned by {@link #start()} if not enabled. {@link System#nanoTime()} may return any value,
+     * including {@code 0}, so the smallest value is used as marker.
+     */
+    static final long NOT_STARTED = Long.MIN_VALUE;
+
+    /**
+     * The shared instance.
+     */
+    private static final BootstrapStatistics INSTANCE = new BootstrapStatistics();
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            INSTANCE.setEnabled(true);
+            try {
+                INSTANCE.registerMBean();
+            } catch (JMException | RuntimeException e) {
+                Logger.getLogger(BootstrapStatistics.class.getName())
+                        .log(Level.WARNING, "Failed to register " + OBJECT_NAME, e);
+            }
+        }
+    }
+
+    private volatile boolean enabled;
+    private volatile String serviceProviderClass;
+    private volatile long serviceProviderLoadTime = -1L;
+    private final ConcurrentMap<String, TypeStatistics> types = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> instantiationTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Singleton constructor.
+     */
+    private BootstrapStatistics() {
+    }
+
+    /**
+     * Access the shared instance.
+     *
+     * @return the shared instance, never null.
+     */
+    static BootstrapStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers this instance with the platform {@link MBeanServer} as {@value #OBJECT_NAME}, if not yet
+     * registered.
+     *
+     * @return the object name, never null.
+     * @throws JMException if the registration fails.
+     */
+    public ObjectName registerMBean() throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        synchronized (this) {
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        }
+        return name;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public String getServiceProviderClass() {
+        return serviceProviderClass;
+    }
+
+    @Override
+    public long getServiceProviderLoadTime() {
+        return serviceProviderLoadTime;
+    }
+
+    @Override
+    public Map<String, Long> getLoadTimes() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, TypeStatistics> en : types.entrySet()) {
+            if (en.getValue().loadTime >= 0) {
+                result.put(en.getKey(), en.getValue().loadTime);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Integer> getInstanceCounts() {
+        Map<String, Integer> result = new TreeMap<>();
+        for (Map.Entry<String, TypeStatistics> en : types.entrySet()) {
+            if (en.getValue().loadTime >= 0) {
+                result.put(en.getKey(), en.getValue().instanceCount);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, String> getClassLoaders() {
+        Map<String, String> result = new TreeMap<>();
+        for (Map.Entry<String, TypeStatistics> en : types.entrySet()) {
+            if (en.getValue().classLoader != null) {
+                result.put(en.getKey(), en.getValue().classLoader);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getLookupCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, TypeStatistics> en : types.entrySet()) {
+            long count = 0L;
+            for (int i = 0; i < en.getValue().lookups.length(); i++) {
+                count += en.getValue().lookups.get(i);
+            }
+            if (count > 0) {
+                result.put(en.getKey(), count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getServiceLookupCounts() {
+        return getLookupCounts(LOOKUP_SERVICE);
+    }
+
+    @Override
+    public Map<String, Long> getServicesLookupCounts() {
+        return getLookupCounts(LOOKUP_SERVICES);
+    }
+
+    @Override
+    public Map<String, Long> getServiceHandleLookupCounts() {
+        return getLookupCounts(LOOKUP_SERVICE_HANDLES);
+    }
+
+    private Map<String, Long> getLookupCounts(int lookup) {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, TypeStatistics> en : types.entrySet()) {
+            long count = en.getValue().lookups.get(lookup);
+            if (count > 0) {
+                result.put(en.getKey(), count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getInstantiationTimes() {
+        return new TreeMap<>(instantiationTimes);
+    }
+
+    @Override
+    public void reset() {
+        serviceProviderClass = null;
+        serviceProviderLoadTime = -1L;
+        types.clear();
+        instantiationTimes.clear();
+    }
+
+    /**
+     * Evaluates the start time of an operation to be recorded.
+     *
+     * @return the start time, or {@link #NOT_STARTED}, if not enabled.
+     */
+    long start() {
+        return enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Records the loading of the {@link ServiceProvider}.
+     *
+     * @param serviceProvider the provider loaded, not null.
+     * @param start           the start time, as returned by {@link #start()}.
+     */
+    void recordServiceProvider(ServiceProvider serviceProvider, long start) {
+        if (enabled && start != NOT_STARTED) {
+            serviceProviderLoadTime = System.nanoTime() - start;
+            serviceProviderClass = serviceProvider.getClass().getName();
+        }
+    }
+
+    /**
+     * Records a lookup of a service type through {@link Bootstrap}.
+     *
+     * @param serviceType the service type, not null.
+     * @param lookup      the method called, {@link #LOOKUP_SERVICE}, {@link #LOOKUP_SERVICES} or
+     *                    {@link #LOOKUP_SERVICE_HANDLES}.
+     */
+    void recordLookup(Class<?> serviceType, int lookup) {
+        if (enabled) {
+            getTypeStatistics(serviceType).lookups.incrementAndGet(lookup);
+        }
+    }
+
+    /**
+     * Records the loading of the services of a type.
+     *
+     * @param serviceType   the service type, not null.
+     * @param instanceCount the number of services loaded.
+     * @param classLoader   the class loader used, or null.
+     * @param start         the start time, as returned by {@link #start()}.
+     */
+    void recordLoad(Class<?> serviceType, int instanceCount, ClassLoader classLoader, long start) {
+        if (enabled && start != NOT_STARTED) {
+            TypeStatistics stats = getTypeStatistics(serviceType);
+            stats.instanceCount = instanceCount;
+            stats.classLoader = String.valueOf(classLoader);
+            stats.loadTime = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Records the instantiation of a service implementation.
+     *
+     * @param implementationName the implementation class name, not null.
+     * @param start              the start time, as returned by {@link #start()}.
+     */
+    void recordInstantiation(String implementationName, long start) {
+        if (enabled && start != NOT_STARTED) {
+            instantiationTimes.put(implementationName, System.nanoTime() - start);
+        }
+    }
+
+    private TypeStatistics getTypeStatistics(Class<?> serviceType) {
+        String key = Objects.requireNonNull(serviceType).getName();
+        TypeStatistics stats = types.get(key);
+        if (stats == null) {
+            stats = new TypeStatistics();
+            TypeStatistics previous = types.putIfAbsent(key, stats);
+            if (previous != null) {
+                stats = previous;
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return "BootstrapStatistics [enabled=" + enabled + ", serviceProvider=" + serviceProviderClass
+                + ", loadTimes=" + getLoadTimes() + ", lookupCounts=" + getLookupCounts() + ']';
+    }
+
+    /**
+     * Statistics of a service type.
+     */
+    private static final class TypeStatistics {
+        /**
+         * The number of lookups, indexed by {@link #LOOKUP_SERVICE}, {@link #LOOKUP_SERVICES} and
+         * {@link #LOOKUP_SERVICE_HANDLES}.
+         */
+        final AtomicLongArray lookups = new AtomicLongArray(3);
+        volatile long loadTime = -1L;
+        volatile int instanceCount;
+        volatile String classLoader;
+    }
+}
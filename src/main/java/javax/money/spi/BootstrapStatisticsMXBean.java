@@ -0,0 +1,111 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link BootstrapStatistics}, registered as {@value BootstrapStatistics#OBJECT_NAME}.
+ * Service types and implementations are identified by their class names, durations are in nanoseconds.
+ *
+ * @author Anatole Tresch
+ */
+public interface BootstrapStatisticsMXBean {
+
+    /**
+     * Checks if statistics are recorded.
+     *
+     * @return true, if statistics are recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables recording of statistics. Statistics recorded before are kept.
+     *
+     * @param enabled true, to record statistics.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Access the class name of the {@link ServiceProvider} loaded by {@link Bootstrap}.
+     *
+     * @return the class name, or null, if not loaded while enabled.
+     */
+    String getServiceProviderClass();
+
+    /**
+     * Access the time taken to load the {@link ServiceProvider}.
+     *
+     * @return the duration, or {@code -1}, if not loaded while enabled.
+     */
+    long getServiceProviderLoadTime();
+
+    /**
+     * Access the time taken to load the services, per service type.
+     *
+     * @return the durations, never null.
+     */
+    Map<String, Long> getLoadTimes();
+
+    /**
+     * Access the number of services loaded, per service type.
+     *
+     * @return the instance counts, never null.
+     */
+    Map<String, Integer> getInstanceCounts();
+
+    /**
+     * Access the class loader used to load the services, per service type.
+     *
+     * @return the class loader descriptions, never null.
+     */
+    Map<String, String> getClassLoaders();
+
+    /**
+     * Access the number of lookups through {@link Bootstrap}, per service type, i.e. the sum of the calls of
+     * {@link Bootstrap#getService(Class)}, {@link Bootstrap#getServices(Class)} and
+     * {@link Bootstrap#getServiceHandles(Class)}.
+     *
+     * @return the lookup counts, never null.
+     */
+    Map<String, Long> getLookupCounts();
+
+    /**
+     * Access the number of calls of {@link Bootstrap#getService(Class)}, per service type.
+     *
+     * @return the lookup counts, never null.
+     */
+    Map<String, Long> getServiceLookupCounts();
+
+    /**
+     * Access the number of calls of {@link Bootstrap#getServices(Class)}, per service type.
+     *
+     * @return the lookup counts, never null.
+     */
+    Map<String, Long> getServicesLookupCounts();
+
+    /**
+     * Access the number of calls of {@link Bootstrap#getServiceHandles(Class)}, per service type.
+     *
+     * @return the lookup counts, never null.
+     */
+    Map<String, Long> getServiceHandleLookupCounts();
+
+    /**
+     * Access the time taken to instantiate each service implementation.
+     *
+     * @return the durations, by implementation class name, never null.
+     */
+    Map<String, Long> getInstantiationTimes();
+
+    /**
+     * Removes all statistics recorded.
+     */
+    void reset();
+}
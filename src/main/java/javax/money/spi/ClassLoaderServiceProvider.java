@@ -0,0 +1,173 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link ServiceProvider} isolating the services per class loader, e.g. per application deployed in a container.
+ * Services are loaded from the context class loader of the calling thread, and cached in a separate registry per
+ * class loader, so applications see their own providers only, and looking up services of one application does
+ * not contend with the others.
+ * <p>
+ * Class loaders are held weakly and registries softly, so the registry of an undeployed application, and with it
+ * its class loader, is reclaimed at the latest when memory runs low. Containers should call
+ * {@link #release(ClassLoader)} on undeployment, to release the registry immediately.
+ * <p>
+ * This provider is enabled by installing it with {@link Bootstrap#init(ServiceProvider)}, by registering it as
+ * {@link ServiceProvider} service, or by setting the system property {@value #ENABLED_PROPERTY} to {@code true}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class ClassLoaderServiceProvider implements ServiceProvider {
+
+    /**
+     * The system property enabling this provider by default.
+     */
+    public static final String ENABLED_PROPERTY = "javax.money.spi.classLoaderIsolation";
+
+    /**
+     * The registries, per class loader.
+     */
+    private final ConcurrentMap<LoaderKey, SoftReference<DefaultServiceProvider>> registries =
+            new ConcurrentHashMap<>();
+    /**
+     * The queue of class loaders collected.
+     */
+    private final ReferenceQueue<ClassLoader> collected = new ReferenceQueue<>();
+
+    @Override
+    public int getPriority() {
+        return 0;
+    }
+
+    @Override
+    public <T> List<T> getServices(Class<T> serviceType) {
+        return getRegistry().getServices(serviceType);
+    }
+
+    @Override
+    public <T> T getService(Class<T> serviceType) {
+        return getRegistry().getService(serviceType);
+    }
+
+    /**
+     * Access handles to the services of the given type of the current class loader, see
+     * {@link Bootstrap#getServiceHandles(Class)}.
+     *
+     * @param serviceType the service type.
+     * @param <T>         the concrete type.
+     * @return the handles, never {@code null}.
+     */
+    <T> List<ServiceHandle<T>> getServiceHandles(Class<T> serviceType) {
+        return getRegistry().getServiceHandles(serviceType);
+    }
+
+    /**
+     * Releases the registry of the given class loader, e.g. when the application is undeployed.
+     *
+     * @param classLoader the class loader, not null.
+     * @return true, if a registry was released.
+     */
+    public boolean release(ClassLoader classLoader) {
+        return registries.remove(new LoaderKey(Objects.requireNonNull(classLoader), null)) != null;
+    }
+
+    /**
+     * Access the number of registries currently held.
+     *
+     * @return the number of registries.
+     */
+    public int getRegistryCount() {
+        expungeCollected();
+        return registries.size();
+    }
+
+    /**
+     * Access the registry of the current context class loader, creating it if necessary.
+     *
+     * @return the registry, never null.
+     */
+    DefaultServiceProvider getRegistry() {
+        ClassLoader classLoader = DefaultServiceProvider.getClassLoader();
+        SoftReference<DefaultServiceProvider> ref = registries.get(new LoaderKey(classLoader, null));
+        DefaultServiceProvider registry = ref == null ? null : ref.get();
+        if (registry == null) {
+            expungeCollected();
+            registry = new DefaultServiceProvider(classLoader);
+            SoftReference<DefaultServiceProvider> newRef = new SoftReference<>(registry);
+            LoaderKey key = new LoaderKey(classLoader, collected);
+            while (true) {
+                SoftReference<DefaultServiceProvider> previous = registries.putIfAbsent(key, newRef);
+                if (previous == null) {
+                    break;
+                }
+                DefaultServiceProvider existing = previous.get();
+                if (existing != null) {
+                    return existing;
+                }
+                if (registries.replace(key, previous, newRef)) {
+                    break;
+                }
+            }
+        }
+        return registry;
+    }
+
+    private void expungeCollected() {
+        Reference<? extends ClassLoader> ref;
+        while ((ref = collected.poll()) != null) {
+            registries.remove(ref);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ClassLoaderServiceProvider [registries=" + registries.size() + ']';
+    }
+
+    /**
+     * Weak key comparing class loaders by identity.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hash;
+
+        LoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hash = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof LoaderKey)) {
+                return false;
+            }
+            ClassLoader classLoader = get();
+            return classLoader != null && classLoader == ((LoaderKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
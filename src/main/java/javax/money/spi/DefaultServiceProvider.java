@@ -8,9 +8,11 @@
  */
 package javax.money.spi;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
@@ -18,13 +20,46 @@ import java.util.logging.Logger;
 
 /**
  * This class implements the (default) {@link ServiceProvider} interface and hereby uses the JDK
- * {@link java.util.ServiceLoader} to load the services required.
+ * {@link java.util.ServiceLoader} to load the services required. Service types listed in the build time
+ * {@link ServiceIndex service index} are instantiated directly instead. Services are instantiated on first access
+ * of their {@link ServiceHandle}, see {@link #getServiceHandles(Class)}; services which cannot be instantiated are
+ * logged and skipped, without affecting the other services of the same type.
  *
  * @author Anatole Tresch
  */
 class DefaultServiceProvider implements ServiceProvider {
     /** List of services loaded, per class. */
-    private final ConcurrentHashMap<Class, List<Object>> servicesLoaded = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, List<Object>> servicesLoaded = new ConcurrentHashMap<>();
+    /** List of service handles, per class. */
+    private final ConcurrentHashMap<Class<?>, List<ServiceHandle<?>>> handlesLoaded = new ConcurrentHashMap<>();
+    /** The service index, read on first access. */
+    private volatile Map<String, List<String>> serviceIndex;
+    /** The class loader the services are loaded from, or null for the current context class loader. */
+    private final ClassLoader classLoader;
+    /** Creates the service handles of a type. */
+    private final Platform.Factory<Class<?>, List<ServiceHandle<?>>> handlesFactory =
+            new Platform.Factory<Class<?>, List<ServiceHandle<?>>>() {
+                @Override
+                public List<ServiceHandle<?>> create(Class<?> serviceType) {
+                    return createServiceHandles(serviceType);
+                }
+            };
+
+    /**
+     * Creates a new instance, loading services from the context class loader of the calling thread.
+     */
+    DefaultServiceProvider() {
+        this(null);
+    }
+
+    /**
+     * Creates a new instance, loading services from the given class loader.
+     *
+     * @param classLoader the class loader, or null for the context class loader of the calling thread.
+     */
+    DefaultServiceProvider(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
 
     @Override
     public int getPriority() {
@@ -60,6 +95,22 @@ class DefaultServiceProvider implements ServiceProvider {
         return servicesFound.get(0);
     }
 
+    /**
+     * Access handles to the services of the given type, which are instantiated on first access only. The
+     * handles share their instances with {@link #getServices(Class)}. Once the services were loaded, handles of
+     * services which could not be instantiated are no longer returned.
+     *
+     * @param   serviceType  The service type.
+     * @param   <T>          the concrete type.
+     *
+     * @return  the handles, in the same order as {@link #getServices(Class)}, never {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<ServiceHandle<T>> getServiceHandles(final Class<T> serviceType) {
+        List<ServiceHandle<?>> found = Platform.computeIfAbsent(handlesLoaded, serviceType, handlesFactory);
+        return (List<ServiceHandle<T>>) (List<?>) found;
+    }
+
     /**
      * Loads and registers services.
      *
@@ -68,20 +119,84 @@ class DefaultServiceProvider implements ServiceProvider {
      *
      * @return  the items found, never {@code null}.
      */
+    @SuppressWarnings("unchecked")
     private <T> List<T> loadServices(final Class<T> serviceType) {
-        List<T> services = new ArrayList<>();
-        try {
-            for (T t : ServiceLoader.load(serviceType)) {
-                services.add(t);
+        long start = BootstrapStatistics.getInstance().start();
+        List<ServiceHandle<T>> handles = getServiceHandles(serviceType);
+        List<T> services = new ArrayList<>(handles.size());
+        List<ServiceHandle<?>> loaded = new ArrayList<>(handles.size());
+        for (ServiceHandle<T> handle : handles) {
+            try {
+                services.add(handle.get());
+                loaded.add(handle);
+            } catch (Exception e) {
+                Logger.getLogger(DefaultServiceProvider.class.getName()).log(Level.WARNING,
+                        "Error loading service " + handle.getImplementationName() + " of type " + serviceType
+                                + ", skipped.", e);
+            }
+        }
+        if (loaded.size() < handles.size()) {
+            handlesLoaded.replace(serviceType, (List<ServiceHandle<?>>) (List<?>) handles,
+                    Platform.immutableList(loaded));
+        }
+        BootstrapStatistics.getInstance().recordLoad(serviceType, services.size(), getServiceClassLoader(), start);
+        services = Platform.immutableList(services);
+        final List<T> previousServices = (List<T>) servicesLoaded.putIfAbsent(serviceType, (List<Object>) services);
+        return previousServices != null ? previousServices : services;
+    }
+
+    /**
+     * Creates the handles of the services listed in the service index, or else registered in
+     * {@code META-INF/services}.
+     *
+     * @param   serviceType  The service type.
+     * @param   <T>          the concrete type.
+     *
+     * @return  the handles, never {@code null}.
+     */
+    private <T> List<ServiceHandle<?>> createServiceHandles(final Class<T> serviceType) {
+        ClassLoader classLoader = getServiceClassLoader();
+        Map<String, List<String>> index = serviceIndex;
+        if (index == null) {
+            index = ServiceIndex.load(classLoader);
+            serviceIndex = index;
+        }
+        List<String> implementations = index.get(serviceType.getName());
+        if (implementations == null) {
+            try {
+                implementations = ServiceIndex.readRegistrations(classLoader, serviceType.getName());
+            } catch (IOException e) {
+                Logger.getLogger(DefaultServiceProvider.class.getName()).log(Level.WARNING,
+                        "Error reading registrations of type " + serviceType, e);
+                implementations = Collections.emptyList();
             }
-            @SuppressWarnings("unchecked")
-            final List<T> previousServices = (List<T>) servicesLoaded.putIfAbsent(serviceType, (List<Object>) services);
-            return Collections.unmodifiableList(previousServices != null ? previousServices : services);
-        } catch (Exception e) {
-            Logger.getLogger(DefaultServiceProvider.class.getName()).log(Level.WARNING,
-                                                                         "Error loading services of type " + serviceType, e);
-            return services;
         }
+        List<ServiceHandle<?>> handles = new ArrayList<>(implementations.size());
+        for (String implementation : implementations) {
+            handles.add(new ServiceHandle<>(serviceType, implementation, classLoader));
+        }
+        return Platform.immutableList(handles);
     }
 
-}
\ No newline at end of file
+    /**
+     * Evaluates the class loader the services are loaded from.
+     *
+     * @return the class loader, never {@code null}.
+     */
+    ClassLoader getServiceClassLoader() {
+        return classLoader != null ? classLoader : getClassLoader();
+    }
+
+    /**
+     * Evaluates the class loader used, the same as used by {@link ServiceLoader#load(Class)}.
+     *
+     * @return the class loader, never {@code null}.
+     */
+    static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ClassLoader.getSystemClassLoader();
+        }
+        return classLoader;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import javax.money.FastAmount;
+import javax.money.FastAmountFactory;
+import javax.money.MonetaryAmountFactory;
+import javax.money.MonetaryContext;
+
+/**
+ * {@link MonetaryAmountFactoryProviderSpi} for {@link FastAmount}. The provider is not registered by this module,
+ * since the choice of amount types is left to the implementation: register it by adding
+ * {@code javax.money.spi.FastAmountFactoryProvider} to
+ * {@code META-INF/services/javax.money.spi.MonetaryAmountFactoryProviderSpi}.
+ * <p>
+ * This module contains no default {@link MonetaryAmountsSingletonQuerySpi}, so whether {@link FastAmount} is
+ * returned for a {@link javax.money.MonetaryAmountFactoryQuery} is up to the query SPI registered by the
+ * implementation, based on the contexts declared by this provider.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class FastAmountFactoryProvider implements MonetaryAmountFactoryProviderSpi<FastAmount> {
+
+    @Override
+    public QueryInclusionPolicy getQueryInclusionPolicy() {
+        return QueryInclusionPolicy.ALWAYS;
+    }
+
+    @Override
+    public Class<FastAmount> getAmountType() {
+        return FastAmount.class;
+    }
+
+    @Override
+    public MonetaryAmountFactory<FastAmount> createMonetaryAmountFactory() {
+        return new FastAmountFactory();
+    }
+
+    @Override
+    public MonetaryContext getDefaultMonetaryContext() {
+        return getMaximalMonetaryContext();
+    }
+
+    @Override
+    public MonetaryContext getMaximalMonetaryContext() {
+        return new FastAmountFactory().getMaximalMonetaryContext();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collection operations shared by the {@link Bootstrap} and the {@link DefaultServiceProvider}, written against the
+ * Java 7 API.
+ *
+ * @author Anatole Tresch
+ */
+final class Platform {
+
+    /**
+     * Singleton constructor.
+     */
+    private Platform() {
+    }
+
+    /**
+     * Creates the value of a key, see {@link #computeIfAbsent(ConcurrentMap, Object, Factory)}.
+     *
+     * @param <K> the key type.
+     * @param <V> the value type.
+     */
+    interface Factory<K, V> {
+
+        /**
+         * Creates the value of a key.
+         *
+         * @param key the key, not null.
+         * @return the value, not null.
+         */
+        V create(K key);
+    }
+
+    /**
+     * Access the value of a key, creating and adding it if absent. The factory may be called concurrently for the
+     * same key, only one of the values created is added. The factory must not access the map.
+     *
+     * @param map     the map, not null.
+     * @param key     the key, not null.
+     * @param factory the factory, not null.
+     * @param <K>     the key type.
+     * @param <V>     the value type.
+     * @return the value contained in the map, never null.
+     */
+    static <K, V> V computeIfAbsent(ConcurrentMap<K, V> map, K key, Factory<? super K, ? extends V> factory) {
+        V value = map.get(key);
+        if (value == null) {
+            V created = factory.create(key);
+            value = map.putIfAbsent(key, created);
+            if (value == null) {
+                value = created;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Creates an immutable copy of the given elements. The list accepts null arguments, e.g. to
+     * {@link List#contains(Object)}, as required by the contract of {@link ServiceProvider#getServices(Class)}.
+     *
+     * @param elements the elements, not null.
+     * @param <T>      the element type.
+     * @return the immutable list, never null.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> immutableList(Collection<? extends T> elements) {
+        return Collections.unmodifiableList(Arrays.asList((T[]) elements.toArray()));
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tracks the health of providers, e.g. {@link CurrencyProviderSpi} or {@link RoundingProviderSpi} instances, and
+ * quarantines a provider after {@link #getFailureThreshold() repeated failures}. A quarantined provider is skipped
+ * until its backoff delay has elapsed, then a single call is let through as trial: if it succeeds the provider is
+ * healthy again, if it fails the provider is quarantined again, with the backoff delay doubled, up to a maximal
+ * delay. If the outcome of a trial call is never recorded, e.g. since the caller skipped the call or an
+ * {@link Error} was thrown, the next trial call is let through after another backoff delay.
+ * <p>
+ * Only the first of consecutive failures is logged with its stack trace, further failures are logged at
+ * {@link Level#FINE}, quarantining a provider is logged once as warning.
+ * <p>
+ * Typical usage is:
+ * <pre>
+ * if (tracker.isAvailable(provider)) {
+ *     try {
+ *         ... // call the provider
+ *         tracker.recordSuccess(provider);
+ *     } catch (Exception e) {
+ *         tracker.recordFailure(provider, "getCurrencies", e);
+ *     }
+ * }
+ * </pre>
+ * Providers are held weakly. Providers which never failed are not tracked, so tracking healthy providers costs a
+ * single map lookup per call, without allocation, and no lookup at all while no provider has failed.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Anatole Tresch
+ */
+public final class ProviderHealthTracker {
+
+    /**
+     * The shared instance, used by the default singleton SPI implementations.
+     */
+    private static final ProviderHealthTracker DEFAULT = new ProviderHealthTracker(3, 1000L, 300000L);
+
+    private final int failureThreshold;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final ConcurrentMap<ProviderKey, ProviderState> states = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Creates a new tracker.
+     *
+     * @param failureThreshold    the number of consecutive failures quarantining a provider, must be {@code > 0}.
+     * @param initialBackoffMillis the initial quarantine delay in milliseconds, must be {@code > 0}.
+     * @param maxBackoffMillis     the maximal quarantine delay in milliseconds, must be
+     *                             {@code >= initialBackoffMillis}.
+     */
+    public ProviderHealthTracker(int failureThreshold, long initialBackoffMillis, long maxBackoffMillis) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold must be > 0: " + failureThreshold);
+        }
+        if (initialBackoffMillis <= 0 || maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException(
+                    "Invalid backoff: initial=" + initialBackoffMillis + ", max=" + maxBackoffMillis);
+        }
+        this.failureThreshold = failureThreshold;
+        this.initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(initialBackoffMillis);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffMillis);
+    }
+
+    /**
+     * Access the shared instance, used by the default singleton SPI implementations. It quarantines a provider
+     * after 3 consecutive failures, for 1 second initially, and for 5 minutes at most.
+     *
+     * @return the shared instance, never null.
+     */
+    public static ProviderHealthTracker getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Access the number of consecutive failures quarantining a provider.
+     *
+     * @return the failure threshold.
+     */
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Checks if the given provider should be called. While a provider is quarantined, this method returns false,
+     * except once per elapsed backoff delay, for the trial call.
+     *
+     * @param provider the provider, not null.
+     * @return true, if the provider should be called.
+     */
+    public boolean isAvailable(Object provider) {
+        ProviderState state = lookup(provider);
+        return state == null || state.tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * Records a successful call of the given provider, making it healthy again.
+     *
+     * @param provider the provider, not null.
+     */
+    public void recordSuccess(Object provider) {
+        ProviderState state = lookup(provider);
+        if (state != null) {
+            state.recordSuccess();
+        }
+    }
+
+    /**
+     * Records a failed call of the given provider, and logs it.
+     *
+     * @param provider  the provider, not null.
+     * @param operation the operation called, used for logging, not null.
+     * @param failure   the failure, not null.
+     */
+    public void recordFailure(Object provider, String operation, Exception failure) {
+        Objects.requireNonNull(failure);
+        ProviderState state = getState(provider);
+        state.recordFailure(operation, failure, System.nanoTime());
+    }
+
+    /**
+     * Access the health of the given provider.
+     *
+     * @param provider the provider, not null.
+     * @return the health, never null.
+     */
+    public Health getHealth(Object provider) {
+        ProviderState state = lookup(provider);
+        if (state == null) {
+            return new Health(provider.getClass().getName(), State.HEALTHY, 0, 0L, 0L, null);
+        }
+        return state.getHealth(System.nanoTime());
+    }
+
+    /**
+     * Checks if all providers tracked are healthy, i.e. none of them has failed since its last successful call.
+     * Callers may use this to decide if the result of a lookup across all providers is complete, e.g. before
+     * caching a negative result.
+     *
+     * @return true, if no provider is {@link State#FAILING failing} or {@link State#QUARANTINED quarantined}.
+     */
+    public boolean isHealthy() {
+        for (Map.Entry<ProviderKey, ProviderState> en : states.entrySet()) {
+            if (en.getKey().get() != null && !en.getValue().isHealthy()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Access the health of all providers which have failed, and are still alive.
+     *
+     * @return the health, by provider class name and identity hash code, never null.
+     */
+    public Map<String, Health> getHealth() {
+        expungeCollected();
+        Map<String, Health> result = new TreeMap<>();
+        long now = System.nanoTime();
+        for (Map.Entry<ProviderKey, ProviderState> en : states.entrySet()) {
+            Object provider = en.getKey().get();
+            if (provider != null) {
+                result.put(provider.getClass().getName() + '@' + Integer.toHexString(en.getKey().hash),
+                        en.getValue().getHealth(now));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forgets all failures recorded, making all providers healthy again.
+     */
+    public void reset() {
+        states.clear();
+    }
+
+    /**
+     * Access the state of the given provider, if tracked.
+     *
+     * @param provider the provider, not null.
+     * @return the state, or null.
+     */
+    private ProviderState lookup(Object provider) {
+        Objects.requireNonNull(provider);
+        if (states.isEmpty()) {
+            return null;
+        }
+        return states.get(new ProviderProbe(provider));
+    }
+
+    private ProviderState getState(Object provider) {
+        ProviderState state = lookup(provider);
+        if (state == null) {
+            expungeCollected();
+            state = new ProviderState(provider.getClass().getName());
+            ProviderState previous = states.putIfAbsent(new ProviderKey(provider, collected), state);
+            if (previous != null) {
+                state = previous;
+            }
+        }
+        return state;
+    }
+
+    private void expungeCollected() {
+        Reference<?> ref;
+        while ((ref = collected.poll()) != null) {
+            states.remove(ref);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProviderHealthTracker [failureThreshold=" + failureThreshold + ", tracked=" + states.size() + ']';
+    }
+
+    /**
+     * The health state of a provider.
+     */
+    public enum State {
+        /**
+         * The provider has not failed since its last successful call.
+         */
+        HEALTHY,
+        /**
+         * The provider has failed, but less than the failure threshold times in a row.
+         */
+        FAILING,
+        /**
+         * The provider is skipped until its backoff delay has elapsed.
+         */
+        QUARANTINED
+    }
+
+    /**
+     * Immutable snapshot of the health of a provider.
+     */
+    public static final class Health {
+
+        private final String provider;
+        private final State state;
+        private final int consecutiveFailures;
+        private final long totalFailures;
+        private final long retryDelayMillis;
+        private final String lastFailure;
+
+        Health(String provider, State state, int consecutiveFailures, long totalFailures, long retryDelayMillis,
+               String lastFailure) {
+            this.provider = provider;
+            this.state = state;
+            this.consecutiveFailures = consecutiveFailures;
+            this.totalFailures = totalFailures;
+            this.retryDelayMillis = retryDelayMillis;
+            this.lastFailure = lastFailure;
+        }
+
+        /**
+         * Access the class name of the provider.
+         *
+         * @return the class name, never null.
+         */
+        public String getProvider() {
+            return provider;
+        }
+
+        /**
+         * Access the health state.
+         *
+         * @return the state, never null.
+         */
+        public State getState() {
+            return state;
+        }
+
+        /**
+         * Access the number of failures since the last successful call.
+         *
+         * @return the number of consecutive failures.
+         */
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        /**
+         * Access the number of failures recorded in total.
+         *
+         * @return the number of failures.
+         */
+        public long getTotalFailures() {
+            return totalFailures;
+        }
+
+        /**
+         * Access the remaining time until the next trial call, if quarantined.
+         *
+         * @return the remaining delay in milliseconds, {@code 0} if not quarantined or the trial is due.
+         */
+        public long getRetryDelayMillis() {
+            return retryDelayMillis;
+        }
+
+        /**
+         * Access the description of the last failure.
+         *
+         * @return the last failure, or null.
+         */
+        public String getLastFailure() {
+            return lastFailure;
+        }
+
+        @Override
+        public String toString() {
+            return "Health [provider=" + provider + ", state=" + state + ", consecutiveFailures="
+                    + consecutiveFailures + ", totalFailures=" + totalFailures + ", retryDelayMillis="
+                    + retryDelayMillis + ", lastFailure=" + lastFailure + ']';
+        }
+    }
+
+    /**
+     * The mutable state of a provider, guarded by its monitor.
+     */
+    private final class ProviderState {
+
+        private final String provider;
+        private int consecutiveFailures;
+        private long totalFailures;
+        private long backoffNanos;
+        private long quarantinedUntil;
+        private boolean quarantined;
+        /**
+         * True, if a trial call was let through since the provider was quarantined. The trial call is due to
+         * complete until {@link #quarantinedUntil}, which is advanced when the trial is granted.
+         */
+        private boolean trial;
+        private String lastFailure;
+
+        ProviderState(String provider) {
+            this.provider = provider;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            if (!quarantined) {
+                return true;
+            }
+            if (now - quarantinedUntil < 0) {
+                return false;
+            }
+            quarantinedUntil = now + backoffNanos;
+            trial = true;
+            return true;
+        }
+
+        synchronized void recordSuccess() {
+            if (quarantined) {
+                Logger.getLogger(ProviderHealthTracker.class.getName())
+                        .info("Provider recovered, quarantine lifted: " + provider);
+            }
+            consecutiveFailures = 0;
+            backoffNanos = 0L;
+            quarantined = false;
+            trial = false;
+        }
+
+        synchronized void recordFailure(String operation, Exception failure, long now) {
+            consecutiveFailures++;
+            totalFailures++;
+            lastFailure = failure.toString();
+            Logger logger = Logger.getLogger(ProviderHealthTracker.class.getName());
+            if (consecutiveFailures == 1) {
+                logger.log(Level.SEVERE, "Error in " + operation + " of provider " + provider, failure);
+            } else {
+                logger.log(Level.FINE, "Error in " + operation + " of provider " + provider, failure);
+            }
+            if (trial || (!quarantined && consecutiveFailures >= failureThreshold)) {
+                backoffNanos = backoffNanos == 0L ? initialBackoffNanos : Math.min(backoffNanos * 2, maxBackoffNanos);
+                quarantinedUntil = now + backoffNanos;
+                quarantined = true;
+                trial = false;
+                logger.warning("Provider quarantined for " + TimeUnit.NANOSECONDS.toMillis(backoffNanos)
+                        + "ms after " + consecutiveFailures + " consecutive failures: " + provider);
+            }
+        }
+
+        synchronized boolean isHealthy() {
+            return consecutiveFailures == 0;
+        }
+
+        synchronized Health getHealth(long now) {
+            State state;
+            long retryDelay = 0L;
+            if (quarantined) {
+                state = State.QUARANTINED;
+                retryDelay = Math.max(0L, TimeUnit.NANOSECONDS.toMillis(quarantinedUntil - now));
+            } else {
+                state = consecutiveFailures > 0 ? State.FAILING : State.HEALTHY;
+            }
+            return new Health(provider, state, consecutiveFailures, totalFailures, retryDelay, lastFailure);
+        }
+    }
+
+    /**
+     * Weak key comparing providers by identity.
+     */
+    private static final class ProviderKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        ProviderKey(Object provider, ReferenceQueue<Object> queue) {
+            super(Objects.requireNonNull(provider), queue);
+            this.hash = System.identityHashCode(provider);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj instanceof ProviderProbe) {
+                return ((ProviderProbe) obj).equals(this);
+            }
+            if (!(obj instanceof ProviderKey)) {
+                return false;
+            }
+            Object provider = get();
+            return provider != null && provider == ((ProviderKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Strongly referencing key used to look up the {@link ProviderKey} of a provider, equal to it as long as the
+     * provider was not collected. Unlike a {@link ProviderKey}, it is not a {@link Reference}, so it is cheap to
+     * create and may be eliminated by the JIT compiler.
+     */
+    private static final class ProviderProbe {
+
+        private final Object provider;
+        private final int hash;
+
+        ProviderProbe(Object provider) {
+            this.provider = provider;
+            this.hash = System.identityHashCode(provider);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj instanceof ProviderProbe) {
+                return provider == ((ProviderProbe) obj).provider;
+            }
+            return obj instanceof ProviderKey && provider == ((ProviderKey) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
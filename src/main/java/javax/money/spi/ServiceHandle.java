@@ -0,0 +1,175 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.util.Objects;
+
+import javax.money.MonetaryException;
+
+/**
+ * Handle to a service implementation, which is instantiated on first access only. The provider name and priority
+ * are evaluated from the {@link ServiceMetadata} annotation of the implementation class, if present, so services
+ * can be selected by name without instantiating the ones not selected.
+ * <p>
+ * The benefit is opt-in: services not annotated are instantiated as soon as their name is required, and lookups
+ * using the default provider chains, e.g. {@link Bootstrap#getServices(Class)}, instantiate all services as before.
+ * <p>
+ * This class is thread-safe, the implementation is instantiated at most once.
+ *
+ * @param <T> the service type.
+ * @author Anatole Tresch
+ * @see Bootstrap#getServiceHandles(Class)
+ */
+public final class ServiceHandle<T> {
+
+    private final Class<T> serviceType;
+    private final String implementationName;
+    private final ClassLoader classLoader;
+    /**
+     * The implementation class, loaded but not initialized on first access.
+     */
+    private volatile Class<?> implementationClass;
+    /**
+     * The instance, created on first access.
+     */
+    private volatile T instance;
+
+    /**
+     * Creates a new handle, instantiating the implementation on first access.
+     *
+     * @param serviceType        the service type, not null.
+     * @param implementationName the implementation class name, not null.
+     * @param classLoader        the class loader, not null.
+     */
+    ServiceHandle(Class<T> serviceType, String implementationName, ClassLoader classLoader) {
+        this.serviceType = Objects.requireNonNull(serviceType);
+        this.implementationName = Objects.requireNonNull(implementationName);
+        this.classLoader = Objects.requireNonNull(classLoader);
+    }
+
+    /**
+     * Creates a new handle for an existing instance.
+     *
+     * @param serviceType the service type, not null.
+     * @param instance    the instance, not null.
+     */
+    ServiceHandle(Class<T> serviceType, T instance) {
+        this.serviceType = Objects.requireNonNull(serviceType);
+        this.instance = Objects.requireNonNull(instance);
+        this.implementationClass = instance.getClass();
+        this.implementationName = implementationClass.getName();
+        this.classLoader = null;
+    }
+
+    /**
+     * Access the service type.
+     *
+     * @return the service type, never null.
+     */
+    public Class<T> getServiceType() {
+        return serviceType;
+    }
+
+    /**
+     * Access the class name of the implementation.
+     *
+     * @return the class name, never null.
+     */
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    /**
+     * Access the provider name declared by the {@link ServiceMetadata} of the implementation. This does not
+     * instantiate the implementation.
+     *
+     * @return the provider name, or null, if not declared.
+     * @throws MonetaryException if the implementation class cannot be loaded.
+     */
+    public String getProviderName() {
+        ServiceMetadata metadata = getMetadata();
+        return metadata == null ? null : metadata.name();
+    }
+
+    /**
+     * Access the priority declared by the {@link ServiceMetadata} of the implementation. This does not
+     * instantiate the implementation.
+     *
+     * @return the priority, {@code 0} if not declared.
+     * @throws MonetaryException if the implementation class cannot be loaded.
+     */
+    public int getPriority() {
+        ServiceMetadata metadata = getMetadata();
+        return metadata == null ? 0 : metadata.priority();
+    }
+
+    /**
+     * Checks if the implementation has been instantiated.
+     *
+     * @return true, if {@link #get()} has returned the instance.
+     */
+    public boolean isLoaded() {
+        return instance != null;
+    }
+
+    /**
+     * Access the instance, instantiating the implementation if not yet done.
+     *
+     * @return the instance, never null.
+     * @throws MonetaryException if the implementation cannot be instantiated.
+     */
+    public T get() {
+        T result = instance;
+        if (result == null) {
+            synchronized (this) {
+                result = instance;
+                if (result == null) {
+                    long start = BootstrapStatistics.getInstance().start();
+                    try {
+                        result = serviceType.cast(getImplementationClass().newInstance());
+                    } catch (MonetaryException e) {
+                        throw e;
+                    } catch (Exception | LinkageError e) {
+                        throw new MonetaryException("Cannot instantiate " + implementationName + " as "
+                                + serviceType.getName(), e);
+                    }
+                    BootstrapStatistics.getInstance().recordInstantiation(implementationName, start);
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private ServiceMetadata getMetadata() {
+        return getImplementationClass().getAnnotation(ServiceMetadata.class);
+    }
+
+    private Class<?> getImplementationClass() {
+        Class<?> result = implementationClass;
+        if (result == null) {
+            try {
+                result = Class.forName(implementationName, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new MonetaryException("Cannot load " + implementationName, e);
+            }
+            if (!serviceType.isAssignableFrom(result)) {
+                throw new MonetaryException(implementationName + " is not a " + serviceType.getName());
+            }
+            implementationClass = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceHandle [serviceType=" + serviceType.getName() + ", implementation=" + implementationName
+                + ", loaded=" + isLoaded() + ']';
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads the service index generated at build time by {@link ServiceIndexGenerator}. The index lists the
+ * implementation class names per service type, so services can be instantiated directly, without
+ * {@link java.util.ServiceLoader} scanning all {@code META-INF/services} resources on the classpath.
+ * <p>
+ * The index is a UTF-8 text resource located at {@value #RESOURCE}, containing one line per service type of the
+ * form {@code serviceType=implementation1,implementation2}. Empty lines and lines starting with {@code #} are
+ * ignored.
+ * <p>
+ * The index replaces the {@code META-INF/services} registrations of the types it lists, so it must be generated
+ * for the whole application, e.g. when assembling a single archive containing all providers. Libraries must not
+ * ship an index, since registrations of other archives would be hidden. Hence only a single index resource is
+ * supported: if several are visible, none of them is used, and all services are looked up from their
+ * registrations.
+ *
+ * @author Anatole Tresch
+ */
+final class ServiceIndex {
+
+    /**
+     * The location of the index resource.
+     */
+    static final String RESOURCE = "META-INF/javamoney/services.index";
+
+    /**
+     * Singleton constructor.
+     */
+    private ServiceIndex() {
+    }
+
+    /**
+     * Loads the index resource visible to the given class loader.
+     *
+     * @param classLoader the class loader, not null.
+     * @return the implementation class names, by service type name, empty if no or several index resources are
+     * visible, never null.
+     */
+    static Map<String, List<String>> load(ClassLoader classLoader) {
+        Map<String, List<String>> index = new LinkedHashMap<>();
+        try {
+            List<URL> resources = Collections.list(classLoader.getResources(RESOURCE));
+            if (resources.size() > 1) {
+                Logger.getLogger(ServiceIndex.class.getName()).warning(
+                        "Several service indexes found, using ServiceLoader registrations instead: " + resources);
+                return Collections.emptyMap();
+            }
+            for (URL url : resources) {
+                try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+                    read(reader, index);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Logger.getLogger(ServiceIndex.class.getName()).log(Level.WARNING,
+                    "Error reading service index " + RESOURCE + ", using ServiceLoader.", e);
+            return Collections.emptyMap();
+        }
+        return index;
+    }
+
+    /**
+     * Reads an index, adding its entries to {@code index}. Implementations already contained are ignored.
+     *
+     * @param reader the reader, not null.
+     * @param index  the index to add the entries to, not null.
+     * @throws IOException if reading fails.
+     */
+    static void read(Reader reader, Map<String, List<String>> index) throws IOException {
+        BufferedReader in = new BufferedReader(reader);
+        String line;
+        while ((line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int sep = line.indexOf('=');
+            if (sep <= 0) {
+                throw new IOException("Invalid service index entry: " + line);
+            }
+            String serviceType = line.substring(0, sep).trim();
+            List<String> implementations = index.get(serviceType);
+            if (implementations == null) {
+                implementations = new ArrayList<>();
+                index.put(serviceType, implementations);
+            }
+            for (String implementation : line.substring(sep + 1).split(",")) {
+                implementation = implementation.trim();
+                if (!implementation.isEmpty() && !implementations.contains(implementation)) {
+                    implementations.add(implementation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the registrations of a service type, in classpath order, as {@link java.util.ServiceLoader} does.
+     *
+     * @param classLoader the class loader, not null.
+     * @param serviceType the service type name, not null.
+     * @return the implementation class names, never null.
+     * @throws IOException if reading the registrations fails.
+     */
+    static List<String> readRegistrations(ClassLoader classLoader, String serviceType) throws IOException {
+        List<String> implementations = new ArrayList<>();
+        Enumeration<URL> resources = classLoader.getResources("META-INF/services/" + serviceType);
+        while (resources.hasMoreElements()) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    if (comment >= 0) {
+                        line = line.substring(0, comment);
+                    }
+                    line = line.trim();
+                    if (!line.isEmpty() && !implementations.contains(line)) {
+                        implementations.add(line);
+                    }
+                }
+            }
+        }
+        return implementations;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generates the service index read by the default {@link ServiceProvider}, by collecting the
+ * {@code META-INF/services} registrations of the given service types visible on the classpath. This generator
+ * must be run as part of the build of an application assembled into a single archive, see the
+ * {@code service-index} profile of this project, writing to {@code META-INF/javamoney/services.index} in the
+ * output directory. It must not be used for libraries, since only a single index is supported at runtime, see
+ * {@link ServiceIndex}.
+ * <p>
+ * Usage: {@code ServiceIndexGenerator <outputFile> [serviceType...]}. If no service types are passed, the SPIs
+ * of this API are indexed.
+ *
+ * @author Anatole Tresch
+ */
+public final class ServiceIndexGenerator {
+
+    /**
+     * The service types indexed by default.
+     */
+    static final List<String> DEFAULT_SERVICE_TYPES = Collections.unmodifiableList(Arrays.asList(
+            ServiceProvider.class.getName(),
+            CurrencyProviderSpi.class.getName(),
+            RoundingProviderSpi.class.getName(),
+            MonetaryAmountFormatProviderSpi.class.getName(),
+            MonetaryAmountFactoryProviderSpi.class.getName(),
+            "javax.money.convert.ExchangeRateProvider",
+            MonetaryAmountsSingletonSpi.class.getName(),
+            MonetaryAmountsSingletonQuerySpi.class.getName(),
+            MonetaryCurrenciesSingletonSpi.class.getName(),
+            MonetaryRoundingsSingletonSpi.class.getName(),
+            MonetaryFormatsSingletonSpi.class.getName(),
+            MonetaryConversionsSingletonSpi.class.getName()));
+
+    /**
+     * Singleton constructor.
+     */
+    private ServiceIndexGenerator() {
+    }
+
+    /**
+     * Writes the service index.
+     *
+     * @param args the output file, followed by the service types to be indexed, if not the default ones.
+     * @throws IOException if reading the registrations or writing the index fails.
+     */
+    public static void main(String... args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException(
+                    "Usage: " + ServiceIndexGenerator.class.getName() + " <outputFile> [serviceType...]");
+        }
+        List<String> serviceTypes = args.length > 1 ? Arrays.asList(args).subList(1, args.length) :
+                DEFAULT_SERVICE_TYPES;
+        File file = new File(args[0]);
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create directory " + dir);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ServiceIndexGenerator.class.getClassLoader();
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            write(classLoader, serviceTypes, writer);
+        }
+    }
+
+    /**
+     * Writes the index entries for the given service types. Types without any registration are omitted, so they
+     * are still looked up using {@link java.util.ServiceLoader} at runtime.
+     *
+     * @param classLoader  the class loader, used to look up the registrations, not null.
+     * @param serviceTypes the service type names, not null.
+     * @param writer       the writer, not null.
+     * @throws IOException if reading the registrations or writing the index fails.
+     */
+    static void write(ClassLoader classLoader, List<String> serviceTypes, Writer writer) throws IOException {
+        writer.write("# Generated by " + ServiceIndexGenerator.class.getName() + ", do not edit.\n");
+        for (String serviceType : serviceTypes) {
+            List<String> implementations = ServiceIndex.readRegistrations(classLoader, serviceType);
+            if (implementations.isEmpty()) {
+                continue;
+            }
+            writer.write(serviceType);
+            writer.write('=');
+            for (int i = 0; i < implementations.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(implementations.get(i));
+            }
+            writer.write('\n');
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the provider name and priority of a service implementation, so they can be evaluated from its
+ * {@link ServiceHandle} without instantiating it. The values declared must match the ones returned by the
+ * instance, e.g. by {@link RoundingProviderSpi#getProviderName()}.
+ *
+ * @author Anatole Tresch
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ServiceMetadata {
+
+    /**
+     * The provider name.
+     *
+     * @return the provider name, not empty.
+     */
+    String name();
+
+    /**
+     * The priority, higher values take precedence.
+     *
+     * @return the priority, by default {@code 0}.
+     */
+    int priority() default 0;
+}
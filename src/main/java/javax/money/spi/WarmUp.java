@@ -0,0 +1,324 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.money.CurrencyOrdinals;
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.convert.MonetaryConversions;
+import javax.money.format.MonetaryFormats;
+
+/**
+ * Warm-up of the SPIs, their providers and the default currency and rounding tables, as run by
+ * {@link Bootstrap#warmUp(int)}. The warm-up runs in three phases, the steps of each phase are run in parallel:
+ * <ol>
+ * <li>the service handles of each SPI type are looked up,</li>
+ * <li>each provider is instantiated and queried, e.g. for its currencies,</li>
+ * <li>the currency, rounding, format and conversion tables are loaded through the singleton accessors.</li>
+ * </ol>
+ *
+ * @author Anatole Tresch
+ */
+final class WarmUp {
+
+    /**
+     * The SPI types warmed up, in order.
+     */
+    private static final List<Class<?>> SERVICE_TYPES = Collections.unmodifiableList(Arrays.<Class<?>>asList(
+            MonetaryCurrenciesSingletonSpi.class,
+            MonetaryRoundingsSingletonSpi.class,
+            MonetaryAmountsSingletonSpi.class,
+            MonetaryAmountsSingletonQuerySpi.class,
+            MonetaryFormatsSingletonSpi.class,
+            MonetaryConversionsSingletonSpi.class,
+            CurrencyProviderSpi.class,
+            RoundingProviderSpi.class,
+            MonetaryAmountFactoryProviderSpi.class,
+            MonetaryAmountFormatProviderSpi.class,
+            ExchangeRateProvider.class));
+
+    private final int parallelism;
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+
+    /**
+     * Creates a new warm-up.
+     *
+     * @param parallelism the maximal number of threads used, must be {@code > 0}.
+     */
+    WarmUp(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs the warm-up. Failing steps are logged and do not abort the other steps.
+     *
+     * @return the duration in nanoseconds per step, in order of execution.
+     */
+    Map<String, Long> run() {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "Bootstrap-warmUp");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Step> steps = new ArrayList<>();
+            List<HandlesStep> handlesSteps = new ArrayList<>();
+            for (Class<?> serviceType : SERVICE_TYPES) {
+                HandlesStep step = new HandlesStep(serviceType);
+                handlesSteps.add(step);
+                steps.add(step);
+            }
+            execute(executor, steps);
+            steps.clear();
+            for (HandlesStep handlesStep : handlesSteps) {
+                for (ServiceHandle<?> handle : handlesStep.handles) {
+                    steps.add(new ProviderStep(handlesStep.serviceType, handle));
+                }
+            }
+            execute(executor, steps);
+            steps.clear();
+            steps.add(new CurrenciesStep());
+            steps.add(new RoundingsStep());
+            steps.add(new FormatsStep());
+            steps.add(new ConversionsStep());
+            execute(executor, steps);
+            for (HandlesStep handlesStep : handlesSteps) {
+                Bootstrap.getServices(handlesStep.serviceType);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return durations;
+    }
+
+    private void execute(ExecutorService executor, List<Step> steps) throws InterruptedException {
+        List<Future<Long>> futures = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            futures.add(executor.submit(step));
+        }
+        Long[] results = new Long[steps.size()];
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (int i = 0; i < steps.size(); i++) {
+            try {
+                results[i] = futures.get(i).get();
+                String name = steps.get(i).getName();
+                Integer count = nameCounts.get(name);
+                nameCounts.put(name, count == null ? 1 : count + 1);
+            } catch (ExecutionException e) {
+                Logger.getLogger(Bootstrap.class.getName())
+                        .log(Level.WARNING, "Failed to warm up: " + steps.get(i).getName(), e.getCause());
+            }
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            if (results[i] != null) {
+                Step step = steps.get(i);
+                String name = step.getName();
+                durations.put(nameCounts.get(name) > 1 ? step.getQualifiedName() : name, results[i]);
+            }
+        }
+    }
+
+    /**
+     * A timed warm-up step.
+     */
+    private abstract static class Step implements Callable<Long> {
+
+        abstract String getName();
+
+        /**
+         * Access the name used if several steps of a phase have the same {@link #getName() name}.
+         *
+         * @return the qualified name, by default the name.
+         */
+        String getQualifiedName() {
+            return getName();
+        }
+
+        abstract void warmUp() throws Exception;
+
+        @Override
+        public Long call() throws Exception {
+            long start = System.nanoTime();
+            warmUp();
+            return System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Looks up the service handles of an SPI type.
+     */
+    private static final class HandlesStep extends Step {
+
+        private final Class<?> serviceType;
+        private volatile List<? extends ServiceHandle<?>> handles = Collections.emptyList();
+
+        HandlesStep(Class<?> serviceType) {
+            this.serviceType = serviceType;
+        }
+
+        @Override
+        String getName() {
+            return serviceType.getSimpleName();
+        }
+
+        @Override
+        void warmUp() {
+            handles = Bootstrap.getServiceHandles(serviceType);
+        }
+    }
+
+    /**
+     * Instantiates a provider and queries the data it provides.
+     */
+    private static final class ProviderStep extends Step {
+
+        private final Class<?> serviceType;
+        private final ServiceHandle<?> handle;
+        private volatile String providerName;
+
+        ProviderStep(Class<?> serviceType, ServiceHandle<?> handle) {
+            this.serviceType = serviceType;
+            this.handle = handle;
+        }
+
+        @Override
+        String getName() {
+            String name = providerName;
+            if (name == null) {
+                name = handle.getImplementationName();
+            }
+            return serviceType.getSimpleName() + '/' + name;
+        }
+
+        @Override
+        String getQualifiedName() {
+            return getName() + '/' + handle.getImplementationName();
+        }
+
+        @Override
+        void warmUp() {
+            Object provider = handle.get();
+            String name = provider.getClass().getSimpleName();
+            if (provider instanceof CurrencyProviderSpi) {
+                CurrencyProviderSpi spi = (CurrencyProviderSpi) provider;
+                name = spi.getProviderName();
+                spi.getCurrencies(CurrencyQueryBuilder.of().build());
+            } else if (provider instanceof RoundingProviderSpi) {
+                RoundingProviderSpi spi = (RoundingProviderSpi) provider;
+                name = spi.getProviderName();
+                spi.getRoundingNames();
+            } else if (provider instanceof MonetaryAmountFormatProviderSpi) {
+                MonetaryAmountFormatProviderSpi spi = (MonetaryAmountFormatProviderSpi) provider;
+                name = spi.getProviderName();
+                spi.getAvailableLocales();
+            } else if (provider instanceof ExchangeRateProvider) {
+                name = ((ExchangeRateProvider) provider).getContext().getProviderName();
+            }
+            providerName = name;
+        }
+    }
+
+    /**
+     * Loads the currencies of the default providers and assigns their {@link CurrencyOrdinals ordinals}.
+     */
+    private static final class CurrenciesStep extends Step {
+
+        @Override
+        String getName() {
+            return "currencies";
+        }
+
+        @Override
+        void warmUp() {
+            Monetary.getCurrencies();
+            CurrencyOrdinals.size();
+        }
+    }
+
+    /**
+     * Loads the default rounding and the roundings of the currencies of the default providers.
+     */
+    private static final class RoundingsStep extends Step {
+
+        @Override
+        String getName() {
+            return "roundings";
+        }
+
+        @Override
+        void warmUp() {
+            Monetary.getDefaultRounding();
+            Collection<CurrencyUnit> currencies = Monetary.getCurrencies();
+            for (CurrencyUnit currency : currencies) {
+                if (Monetary.isRoundingAvailable(currency)) {
+                    Monetary.getRounding(currency);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the locales supported by the format providers.
+     */
+    private static final class FormatsStep extends Step {
+
+        @Override
+        String getName() {
+            return "formats";
+        }
+
+        @Override
+        void warmUp() {
+            MonetaryFormats.getAvailableLocales();
+        }
+    }
+
+    /**
+     * Loads the default conversion provider chain.
+     */
+    private static final class ConversionsStep extends Step {
+
+        @Override
+        String getName() {
+            return "conversions";
+        }
+
+        @Override
+        void warmUp() {
+            MonetaryConversions.getDefaultConversionProviderChain();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ConcurrentMonetaryAmountAccumulator}.
+ */
+public class ConcurrentMonetaryAmountAccumulatorTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit JPY = TestCurrency.of("JPY");
+
+    @Test
+    public void testAdd() {
+        ConcurrentMonetaryAmountAccumulator accumulator = new ConcurrentMonetaryAmountAccumulator(3);
+        accumulator.add(FastAmount.of(new BigDecimal("1.5"), CHF)).add(DecimalAmount.of(new BigDecimal("0.25"), CHF))
+                .add(CHF, new BigDecimal("0.0000001")).add(JPY, 7).add(CHF, new BigDecimal("1E+30"));
+        assertEquals(accumulator.getCurrencies().size(), 2);
+        assertEquals(accumulator.sum(CHF).numberValue(BigDecimal.class).compareTo(
+                new BigDecimal("1000000000000000000000000000001.7500001")), 0);
+        assertEquals(accumulator.sum(JPY, FastAmount.of(0, JPY).getFactory()), FastAmount.of(7, JPY));
+        assertEquals(accumulator.sum(TestCurrency.of("USD")).intValue(), 0);
+        Map<CurrencyUnit, MonetaryAmount> sums = accumulator.sums(DecimalAmount.of(0, CHF).getFactory());
+        assertEquals(sums.get(JPY).getNumber().intValue(), 7);
+        accumulator.clear();
+        assertTrue(accumulator.getCurrencies().isEmpty());
+    }
+
+    @Test
+    public void testAdd_Overflow() {
+        ConcurrentMonetaryAmountAccumulator accumulator = new ConcurrentMonetaryAmountAccumulator(1);
+        accumulator.add(FastAmount.ofUnscaled(Long.MAX_VALUE, CHF)).add(FastAmount.ofUnscaled(Long.MAX_VALUE, CHF))
+                .add(FastAmount.ofUnscaled(1, CHF));
+        assertEquals(accumulator.sum(CHF).numberValue(BigDecimal.class), BigDecimal.valueOf(Long.MAX_VALUE, 5)
+                .multiply(BigDecimal.valueOf(2)).add(new BigDecimal("0.00001")));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidStripes() {
+        new ConcurrentMonetaryAmountAccumulator(0);
+    }
+
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        final ConcurrentMonetaryAmountAccumulator accumulator = new ConcurrentMonetaryAmountAccumulator(4);
+        final CountDownLatch start = new CountDownLatch(1);
+        final FastAmount amount = FastAmount.of(new BigDecimal("0.01"), CHF);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 10000; j++) {
+                        accumulator.add(amount);
+                        accumulator.add(JPY, 1);
+                    }
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(accumulator.sum(CHF).numberValue(BigDecimal.class).compareTo(new BigDecimal("800")), 0);
+        assertEquals(accumulator.sum(JPY).longValue(), 80000L);
+    }
+}
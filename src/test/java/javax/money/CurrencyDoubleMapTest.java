@@ -0,0 +1,39 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link CurrencyDoubleMap}.
+ */
+public class CurrencyDoubleMapTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit EUR = TestCurrency.of("EUR");
+
+    @Test
+    public void testMap() {
+        CurrencyDoubleMap map = new CurrencyDoubleMap();
+        assertEquals(map.get(CHF), 0d);
+        assertEquals(map.get(CHF, Double.NaN), Double.NaN);
+        assertEquals(map.add(CHF, 0.5d), 0.5d);
+        assertEquals(map.add(TestCurrency.of("CHF"), 1.25d), 1.75d);
+        assertEquals(map.put(EUR, 3d), 0d);
+        assertEquals(map.size(), 2);
+        assertTrue(map.containsKey(EUR));
+        assertTrue(map.remove(EUR));
+        assertFalse(map.containsKey(EUR));
+        assertEquals(map.getCurrencies().iterator().next(), CHF);
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+}
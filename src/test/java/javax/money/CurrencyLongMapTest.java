@@ -0,0 +1,63 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link CurrencyLongMap}.
+ */
+public class CurrencyLongMapTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit EUR = TestCurrency.of("EUR");
+
+    @Test
+    public void testMap() {
+        CurrencyLongMap map = new CurrencyLongMap();
+        assertEquals(map.get(CHF), 0L);
+        assertEquals(map.get(CHF, -1L), -1L);
+        assertEquals(map.add(CHF, 5L), 5L);
+        assertEquals(map.add(TestCurrency.of("CHF"), 7L), 12L);
+        assertEquals(map.put(EUR, 3L), 0L);
+        assertEquals(map.size(), 2);
+        assertTrue(map.containsKey(EUR));
+        assertEquals(map.getCurrencies().size(), 2);
+        assertEquals(map.toString().length(), "{CHF=12, EUR=3}".length());
+        assertTrue(map.remove(EUR));
+        assertFalse(map.remove(EUR));
+        assertFalse(map.containsKey(EUR));
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAdd_Overflow() {
+        CurrencyLongMap map = new CurrencyLongMap();
+        map.put(CHF, Long.MAX_VALUE);
+        map.add(CHF, 1L);
+    }
+
+    @Test
+    public void testAdd_OverflowKeepsValue() {
+        CurrencyLongMap map = new CurrencyLongMap();
+        map.put(CHF, Long.MAX_VALUE);
+        try {
+            map.add(CHF, 1L);
+            fail("ArithmeticException expected.");
+        } catch (ArithmeticException e) {
+            assertEquals(map.get(CHF), Long.MAX_VALUE);
+            assertEquals(map.size(), 1);
+        }
+        assertEquals(map.add(TestCurrency.of("XTS"), -5L), -5L);
+        assertEquals(map.size(), 2);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link CurrencyMap}.
+ */
+public class CurrencyMapTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit EUR = TestCurrency.of("EUR");
+
+    @Test
+    public void testPutGetRemove() {
+        CurrencyMap<String> map = new CurrencyMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(CHF, "franc"));
+        assertEquals(map.put(TestCurrency.of("CHF"), "Franken"), "franc");
+        map.put(EUR, "euro");
+        assertEquals(map.size(), 2);
+        assertEquals(map.get(CHF), "Franken");
+        assertTrue(map.containsKey(EUR));
+        assertTrue(map.containsValue("euro"));
+        assertFalse(map.containsKey("EUR"));
+        assertNull(map.get(TestCurrency.of("XPD")));
+        assertEquals(map.remove(EUR), "euro");
+        assertNull(map.remove(EUR));
+        assertEquals(map.size(), 1);
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testMapContract() {
+        Map<CurrencyUnit, Integer> expected = new HashMap<>();
+        expected.put(CHF, 1);
+        expected.put(EUR, 2);
+        CurrencyMap<Integer> map = new CurrencyMap<>(expected);
+        assertEquals(map, expected);
+        assertEquals(map.hashCode(), expected.hashCode());
+        for (Map.Entry<CurrencyUnit, Integer> entry : map.entrySet()) {
+            entry.setValue(entry.getValue() * 10);
+        }
+        assertEquals(map.get(EUR), Integer.valueOf(20));
+        Iterator<CurrencyUnit> iterator = map.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(map.size(), 1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testPut_NullValue() {
+        new CurrencyMap<String>().put(CHF, null);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link CurrencyOrdinals}.
+ */
+public class CurrencyOrdinalsTest {
+
+    @Test
+    public void testOrdinal() {
+        CurrencyUnit currency = TestCurrency.of("XAU");
+        int ordinal = CurrencyOrdinals.ordinal(currency);
+        assertTrue(ordinal >= 0);
+        assertTrue(ordinal < CurrencyOrdinals.size());
+        assertEquals(CurrencyOrdinals.ordinal(TestCurrency.of("XAU")), ordinal);
+        assertEquals(CurrencyOrdinals.ordinal("XAU"), ordinal);
+        assertEquals(CurrencyOrdinals.getCurrency(ordinal).getCurrencyCode(), "XAU");
+        int other = CurrencyOrdinals.ordinal(TestCurrency.of("XAG"));
+        assertNotEquals(other, ordinal);
+        assertEquals(CurrencyOrdinals.ordinal("XOV-unknown"), -1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testGetCurrency_InvalidOrdinal() {
+        CurrencyOrdinals.getCurrency(CurrencyOrdinals.size());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testOrdinal_Null() {
+        CurrencyOrdinals.ordinal((CurrencyUnit) null);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link DecimalAmount}.
+ */
+public class DecimalAmountTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+
+    @Test
+    public void testArithmetic() {
+        DecimalAmount a = DecimalAmount.of(new BigDecimal("1000000000000000000000.5"), CHF);
+        assertEquals(a.add(FastAmount.of(1, CHF)).getNumber().numberValue(BigDecimal.class),
+                new BigDecimal("1000000000000000000001.50000"));
+        assertEquals(a.multiply(2).getNumber().numberValue(BigDecimal.class),
+                new BigDecimal("2000000000000000000001.0"));
+        assertEquals(DecimalAmount.of(1, CHF).divide(3).getNumber().numberValue(BigDecimal.class).precision(), 34);
+        assertEquals(a.negate().abs(), a);
+        assertEquals(DecimalAmount.of(new BigDecimal("1.500"), CHF).stripTrailingZeros().getNumber()
+                .numberValue(BigDecimal.class), new BigDecimal("1.5"));
+        assertTrue(a.isGreaterThan(FastAmount.of(1, CHF)));
+        assertEquals(a.getContext().getPrecision(), 0);
+        assertEquals(a.getContext().getAmountType(), DecimalAmount.class);
+    }
+
+    @Test
+    public void testFactory() {
+        MonetaryAmountFactory<DecimalAmount> factory = DecimalAmount.of(1, CHF).getFactory();
+        assertNull(factory.getMaxNumber());
+        assertEquals(factory.setNumber(new BigDecimal("0.0000001")).create(),
+                DecimalAmount.of(new BigDecimal("0.0000001"), CHF));
+    }
+
+    @Test
+    public void testNumberValue() {
+        NumberValue number = DecimalAmount.of(new BigDecimal("-12.345"), CHF).getNumber();
+        assertEquals(number.getAmountFractionNumerator(), -345L);
+        assertEquals(number.getAmountFractionDenominator(), 1000L);
+        assertEquals(number.longValue(), -12L);
+        assertEquals(number.getScale(), 3);
+        assertEquals(number.getPrecision(), 5);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link FastAmount} and {@link FastAmountFactory}.
+ */
+public class FastAmountTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit EUR = TestCurrency.of("EUR");
+
+    @Test
+    public void testOf() {
+        FastAmount amount = FastAmount.of(new BigDecimal("12.345"), CHF);
+        assertEquals(amount.getUnscaledValue(), 1234500L);
+        assertEquals(amount.getCurrency(), CHF);
+        assertEquals(amount.getNumber().numberValue(BigDecimal.class), new BigDecimal("12.34500"));
+        assertEquals(FastAmount.of(12.345d, CHF), amount);
+        assertEquals(FastAmount.ofUnscaled(1234500L, CHF), amount);
+        assertEquals(amount.getContext().getMaxScale(), FastAmount.SCALE);
+        assertTrue(amount.getContext().isFixedScale());
+        assertEquals(amount.toString(), "CHF 12.34500");
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOf_TooManyFractionDigits() {
+        FastAmount.of(new BigDecimal("0.000001"), CHF);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOf_OutOfRange() {
+        FastAmount.of(new BigDecimal("100000000000000"), CHF);
+    }
+
+    @Test
+    public void testAddSubtract() {
+        FastAmount a = FastAmount.of(10, CHF);
+        FastAmount b = FastAmount.of(new BigDecimal("0.5"), CHF);
+        assertEquals(a.add(b), FastAmount.of(new BigDecimal("10.5"), CHF));
+        assertEquals(a.subtract(b), FastAmount.of(new BigDecimal("9.5"), CHF));
+        assertSame(a.add(FastAmount.of(0, CHF)), a);
+    }
+
+    @Test
+    public void testAdd_OverflowFallsBackToDecimal() {
+        FastAmount max = FastAmount.ofUnscaled(Long.MAX_VALUE, CHF);
+        MonetaryAmount result = max.add(FastAmount.ofUnscaled(1, CHF));
+        assertTrue(result instanceof DecimalAmount);
+        assertEquals(result.getNumber().numberValue(BigDecimal.class),
+                BigDecimal.valueOf(Long.MAX_VALUE, 5).add(new BigDecimal("0.00001")));
+        result = FastAmount.ofUnscaled(Long.MIN_VALUE, CHF).subtract(FastAmount.ofUnscaled(1, CHF));
+        assertTrue(result instanceof DecimalAmount);
+        assertTrue(FastAmount.ofUnscaled(Long.MIN_VALUE, CHF).negate() instanceof DecimalAmount);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAdd_CurrencyMismatch() {
+        FastAmount.of(1, CHF).add(FastAmount.of(1, EUR));
+    }
+
+    @Test
+    public void testMultiply() {
+        FastAmount a = FastAmount.of(new BigDecimal("1.5"), CHF);
+        assertEquals(a.multiply(3), FastAmount.of(new BigDecimal("4.5"), CHF));
+        assertEquals(a.multiply(0.5d), FastAmount.of(new BigDecimal("0.75"), CHF));
+        assertEquals(a.multiply(new BigDecimal("0.000001")), FastAmount.of(0, CHF));
+        assertEquals(a.multiply(new BigDecimal("0.000005")), FastAmount.of(new BigDecimal("0.00001"), CHF));
+        MonetaryAmount big = FastAmount.of(new BigDecimal("90000000000000"), CHF).multiply(2);
+        assertTrue(big instanceof DecimalAmount);
+        assertEquals(big.getNumber().numberValue(BigDecimal.class).compareTo(new BigDecimal("180000000000000")), 0);
+    }
+
+    @Test
+    public void testDivide() {
+        FastAmount a = FastAmount.of(1, CHF);
+        assertEquals(a.divide(3), FastAmount.of(new BigDecimal("0.33333"), CHF));
+        assertEquals(FastAmount.of(2, CHF).divide(3), FastAmount.of(new BigDecimal("0.66667"), CHF));
+        assertEquals(FastAmount.of(-2, CHF).divide(3), FastAmount.of(new BigDecimal("-0.66667"), CHF));
+        // HALF_EVEN
+        assertEquals(FastAmount.ofUnscaled(5, CHF).divide(2), FastAmount.ofUnscaled(2, CHF));
+        assertEquals(FastAmount.ofUnscaled(15, CHF).divide(2), FastAmount.ofUnscaled(8, CHF));
+        assertEquals(FastAmount.ofUnscaled(-15, CHF).divide(-2), FastAmount.ofUnscaled(8, CHF));
+        assertEquals(a.divide(new BigDecimal("0.5")), FastAmount.of(2, CHF));
+        assertEquals(a.divide(4d), FastAmount.of(new BigDecimal("0.25"), CHF));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivide_ByZero() {
+        FastAmount.of(1, CHF).divide(0);
+    }
+
+    @Test
+    public void testRemainderAndIntegralValue() {
+        FastAmount a = FastAmount.of(new BigDecimal("10.5"), CHF);
+        assertEquals(a.remainder(3), FastAmount.of(new BigDecimal("1.5"), CHF));
+        assertEquals(a.divideToIntegralValue(3), FastAmount.of(3, CHF));
+        MonetaryAmount[] result = a.divideAndRemainder(4);
+        assertEquals(result[0], FastAmount.of(2, CHF));
+        assertEquals(result[1], FastAmount.of(new BigDecimal("2.5"), CHF));
+        assertEquals(a.remainder(new BigDecimal("0.4")), FastAmount.of(new BigDecimal("0.1"), CHF));
+        assertSame(a.remainder(Long.MAX_VALUE), a);
+    }
+
+    @Test
+    public void testDivideToIntegralValue_Overflow() {
+        MonetaryAmount result = FastAmount.ofUnscaled(Long.MIN_VALUE, CHF).divideToIntegralValue(-1);
+        assertEquals(result.getNumber().numberValue(BigDecimal.class), new BigDecimal("92233720368547"));
+    }
+
+    @Test
+    public void testToUnits() {
+        assertEquals(FastAmount.toUnits(new BigDecimal("1.5")), 150000L);
+        assertEquals(FastAmount.toUnits(BigDecimal.valueOf(Long.MAX_VALUE, 5)), Long.MAX_VALUE);
+        try {
+            FastAmount.toUnits(BigDecimal.valueOf(Long.MAX_VALUE, 5).add(new BigDecimal("0.00001")));
+            fail("ArithmeticException expected.");
+        } catch (ArithmeticException e) {
+            // expected
+        }
+        try {
+            FastAmount.toUnits(new BigDecimal("0.000001"));
+            fail("ArithmeticException expected.");
+        } catch (ArithmeticException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCompare() {
+        FastAmount a = FastAmount.of(1, CHF);
+        FastAmount b = FastAmount.of(2, CHF);
+        assertTrue(a.isLessThan(b));
+        assertTrue(b.isGreaterThan(a));
+        assertTrue(a.isEqualTo(DecimalAmount.of(new BigDecimal("1.0"), CHF)));
+        assertTrue(a.compareTo(FastAmount.of(0, EUR)) < 0);
+        assertTrue(a.isPositive());
+        assertTrue(a.negate().isNegative());
+        assertEquals(a.negate().abs(), a);
+        assertTrue(FastAmount.of(0, CHF).isZero());
+    }
+
+    @Test
+    public void testFactory() {
+        FastAmountFactory factory = new FastAmountFactory();
+        assertEquals(factory.getMaxNumber().numberValue(BigDecimal.class), BigDecimal.valueOf(Long.MAX_VALUE, 5));
+        assertEquals(factory.getMinNumber().numberValue(BigDecimal.class), BigDecimal.valueOf(Long.MIN_VALUE, 5));
+        assertEquals(factory.getAmountType(), FastAmount.class);
+        FastAmount amount = factory.setCurrency(CHF).setNumber(new BigDecimal("1.25")).create();
+        assertEquals(amount, FastAmount.of(new BigDecimal("1.25"), CHF));
+        assertEquals(amount.getFactory().setNumber(2).create(), FastAmount.of(2, CHF));
+        factory.setContext(MonetaryContextBuilder.of(FastAmount.class).setPrecision(10).setMaxScale(2).build());
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testFactory_ContextExceeded() {
+        new FastAmountFactory().setContext(MonetaryContextBuilder.of(FastAmount.class).setPrecision(10)
+                .setMaxScale(6).build());
+    }
+
+    @Test
+    public void testFactory_SetAmount() {
+        FastAmount fast = FastAmount.of(new BigDecimal("1.25"), CHF);
+        assertTrue(DecimalAmount.of(0, CHF).getFactory().setAmount(fast).create().isEqualTo(fast));
+        try {
+            new FastAmountFactory().setAmount(DecimalAmount.of(new BigDecimal("1.25"), CHF));
+            fail("MonetaryException expected.");
+        } catch (MonetaryException e) {
+            // expected, the unbounded context of DecimalAmount is not supported
+        }
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testFactory_CurrencyRequired() {
+        new FastAmountFactory().setNumber(1).create();
+    }
+
+    @Test
+    public void testCrossTypeFastPaths() {
+        DecimalAmount decimal = DecimalAmount.of(new BigDecimal("1.25"), CHF);
+        FastAmount amount = FastAmount.of(new BigDecimal("1.25"), CHF);
+        assertTrue(amount.isEqualTo(decimal));
+        assertTrue(amount.isLessThan(DecimalAmount.of(new BigDecimal("1E+30"), CHF)));
+        assertTrue(amount.isGreaterThan(DecimalAmount.of(new BigDecimal("1.2499999"), CHF)));
+        assertEquals(FastAmount.from(decimal), amount);
+        assertEquals(FastAmount.from(DecimalAmount.of(new BigDecimal("12E+3"), CHF)), FastAmount.of(12000, CHF));
+        assertEquals(amount.add(decimal), FastAmount.of(new BigDecimal("2.5"), CHF));
+        assertEquals(amount.subtract(decimal), FastAmount.of(0, CHF));
+        assertTrue(amount.add(DecimalAmount.of(new BigDecimal("0.000001"), CHF)) instanceof FastAmount);
+        assertTrue(amount.getNumber().isScaledLong());
+        assertEquals(amount.getNumber().getUnscaledLong(), 125000L);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link MonetaryAggregations}.
+ */
+public class MonetaryAggregationsTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit JPY = TestCurrency.of("JPY");
+
+    private static List<MonetaryAmount> createAmounts(int size) {
+        List<MonetaryAmount> amounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 0) {
+                amounts.add(FastAmount.of(i, JPY));
+            } else {
+                amounts.add(FastAmount.of(BigDecimal.valueOf(i, 2), CHF));
+            }
+        }
+        return amounts;
+    }
+
+    @Test
+    public void testSumByCurrency() {
+        List<MonetaryAmount> amounts = createAmounts(100000);
+        amounts.add(DecimalAmount.of(new BigDecimal("1E+30"), CHF));
+        BigDecimal chf = new BigDecimal("1E+30");
+        BigDecimal jpy = BigDecimal.ZERO;
+        for (int i = 0; i < 100000; i++) {
+            if (i % 3 == 0) {
+                jpy = jpy.add(BigDecimal.valueOf(i));
+            } else {
+                chf = chf.add(BigDecimal.valueOf(i, 2));
+            }
+        }
+        Map<CurrencyUnit, MonetaryAmount> sums = MonetaryAggregations.sumByCurrency(amounts,
+                DecimalAmount.of(0, CHF).getFactory(), new ForkJoinPool(4));
+        Iterator<CurrencyUnit> currencies = sums.keySet().iterator();
+        assertSame(currencies.next(), JPY);
+        assertSame(currencies.next(), CHF);
+        assertEquals(sums.get(CHF).getNumber().numberValue(BigDecimal.class).compareTo(chf), 0);
+        assertEquals(sums.get(JPY).getNumber().numberValue(BigDecimal.class).compareTo(jpy), 0);
+        assertEquals(MonetaryAggregations.sumByCurrency(new LinkedList<>(amounts),
+                DecimalAmount.of(0, CHF).getFactory()), sums);
+        assertEquals(MonetaryAggregations.sumByCurrency(amounts.toArray(new MonetaryAmount[amounts.size()]),
+                DecimalAmount.of(0, CHF).getFactory()), sums);
+    }
+
+    @Test
+    public void testMinMaxByCurrency() {
+        List<MonetaryAmount> amounts = createAmounts(50000);
+        Collections.shuffle(amounts);
+        Map<CurrencyUnit, MonetaryAmount> min = MonetaryAggregations.minByCurrency(amounts);
+        Map<CurrencyUnit, MonetaryAmount> max = MonetaryAggregations.maxByCurrency(amounts);
+        assertEquals(min.get(JPY), FastAmount.of(0, JPY));
+        assertEquals(min.get(CHF), FastAmount.of(new BigDecimal("0.01"), CHF));
+        assertEquals(max.get(JPY), FastAmount.of(49998, JPY));
+        assertEquals(max.get(CHF), FastAmount.of(new BigDecimal("499.99"), CHF));
+    }
+
+    @Test
+    public void testAverageByCurrency() {
+        List<MonetaryAmount> amounts = new ArrayList<>();
+        amounts.add(FastAmount.of(1, CHF));
+        amounts.add(FastAmount.of(2, CHF));
+        amounts.add(FastAmount.of(2, CHF));
+        Map<CurrencyUnit, MonetaryAmount> average = MonetaryAggregations.averageByCurrency(amounts,
+                DecimalAmount.of(0, CHF).getFactory());
+        assertEquals(average.get(CHF).getNumber().numberValue(BigDecimal.class),
+                new BigDecimal(5).divide(new BigDecimal(3), MathContext.DECIMAL128));
+        assertTrue(MonetaryAggregations.averageByCurrency(new ArrayList<MonetaryAmount>(),
+                DecimalAmount.of(0, CHF).getFactory()).isEmpty());
+    }
+
+    @Test
+    public void testArrays() {
+        MonetaryAmount[] amounts = {FastAmount.of(3, CHF), FastAmount.of(1, JPY), FastAmount.of(1, CHF)};
+        assertEquals(MonetaryAggregations.minByCurrency(amounts).get(CHF), FastAmount.of(1, CHF));
+        assertEquals(MonetaryAggregations.maxByCurrency(amounts).get(CHF), FastAmount.of(3, CHF));
+        assertEquals(MonetaryAggregations.maxByCurrency(amounts).get(JPY), FastAmount.of(1, JPY));
+        assertEquals(MonetaryAggregations.averageByCurrency(amounts, FastAmount.of(0, CHF).getFactory()).get(CHF),
+                FastAmount.of(2, CHF));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testSumByCurrency_NullAmount() {
+        List<MonetaryAmount> amounts = createAmounts(10);
+        amounts.add(null);
+        MonetaryAggregations.sumByCurrency(amounts, DecimalAmount.of(0, CHF).getFactory());
+    }
+}
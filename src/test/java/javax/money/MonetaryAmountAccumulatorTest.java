@@ -0,0 +1,83 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link MonetaryAmountAccumulator}.
+ */
+public class MonetaryAmountAccumulatorTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit JPY = TestCurrency.of("JPY");
+
+    @Test
+    public void testAdd() {
+        MonetaryAmountAccumulator accumulator = new MonetaryAmountAccumulator();
+        accumulator.add(FastAmount.of(new BigDecimal("1.5"), CHF)).add(FastAmount.of(100, JPY))
+                .add(DecimalAmount.of(new BigDecimal("0.25"), CHF)).add(CHF, 3).add(JPY, new BigDecimal("0.5"))
+                .add(CHF, FastAmount.of(2, CHF).getNumber());
+        assertEquals(accumulator.getCount(CHF), 4L);
+        assertEquals(accumulator.getCount(JPY), 2L);
+        assertEquals(accumulator.getCount(TestCurrency.of("USD")), 0L);
+        Iterator<CurrencyUnit> currencies = accumulator.getCurrencies().iterator();
+        assertSame(currencies.next(), CHF);
+        assertSame(currencies.next(), JPY);
+        assertEquals(accumulator.getNumber(CHF).numberValue(BigDecimal.class).compareTo(new BigDecimal("6.75")), 0);
+        assertEquals(accumulator.getSum(JPY, FastAmount.of(0, JPY).getFactory()),
+                FastAmount.of(new BigDecimal("100.5"), JPY));
+        assertEquals(accumulator.getSum(TestCurrency.of("USD"), FastAmount.of(0, JPY).getFactory()),
+                FastAmount.of(0, TestCurrency.of("USD")));
+    }
+
+    @Test
+    public void testAdd_Exact() {
+        MonetaryAmountAccumulator accumulator = new MonetaryAmountAccumulator();
+        accumulator.add(CHF, new BigDecimal("0.0000001")).add(CHF, new BigDecimal("1E+30"))
+                .add(FastAmount.ofUnscaled(Long.MAX_VALUE, CHF)).add(FastAmount.ofUnscaled(Long.MAX_VALUE, CHF))
+                .add(CHF, Long.MAX_VALUE);
+        BigDecimal expected = new BigDecimal("0.0000001").add(new BigDecimal("1E+30"))
+                .add(BigDecimal.valueOf(Long.MAX_VALUE, 5).multiply(BigDecimal.valueOf(2)))
+                .add(BigDecimal.valueOf(Long.MAX_VALUE));
+        assertEquals(accumulator.getNumber(CHF).numberValue(BigDecimal.class).compareTo(expected), 0);
+        MonetaryAmount sum = accumulator.getSum(CHF, DecimalAmount.of(0, CHF).getFactory());
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class).compareTo(expected), 0);
+    }
+
+    @Test
+    public void testAddAll() {
+        MonetaryAmountAccumulator first = new MonetaryAmountAccumulator().addAll(Arrays.asList(
+                FastAmount.of(1, CHF), FastAmount.of(2, JPY)));
+        MonetaryAmountAccumulator second = new MonetaryAmountAccumulator().add(CHF, new BigDecimal("1E+30"))
+                .add(FastAmount.of(3, CHF));
+        first.addAll(second);
+        assertEquals(first.getCount(CHF), 3L);
+        assertEquals(first.getNumber(CHF).numberValue(BigDecimal.class).compareTo(new BigDecimal("1E+30")
+                .add(BigDecimal.valueOf(4))), 0);
+        Map<CurrencyUnit, MonetaryAmount> sums = first.getSums(DecimalAmount.of(0, CHF).getFactory());
+        assertEquals(sums.size(), 2);
+        assertEquals(sums.get(JPY).getNumber().intValue(), 2);
+        first.clear();
+        assertTrue(first.getCurrencies().isEmpty());
+        assertEquals(first.toString(), "MonetaryAmountAccumulator []");
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAdd_NaN() {
+        new MonetaryAmountAccumulator().add(CHF, Double.NaN);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link MonetaryAmountCache}.
+ */
+public class MonetaryAmountCacheTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+
+    @Test
+    public void testFactoryCaching() {
+        MonetaryAmountFactory<FastAmount> factory = FastAmount.of(0, CHF).getFactory();
+        FastAmount zero = factory.setCurrency(CHF).setNumber(0).create();
+        assertSame(factory.setNumber(0L).create(), zero);
+        assertSame(FastAmount.of(5, CHF).getFactory().setCurrency(CHF).setNumber(-128).create(),
+                factory.setNumber(BigDecimal.valueOf(-128)).create());
+        assertNotSame(factory.setNumber(128).create(), factory.setNumber(128).create());
+        assertNotSame(factory.setNumber(new BigDecimal("0.5")).create(),
+                factory.setNumber(new BigDecimal("0.5")).create());
+        MonetaryAmountFactory<DecimalAmount> decimalFactory = DecimalAmount.of(0, CHF).getFactory();
+        DecimalAmount one = decimalFactory.setCurrency(CHF).setNumber(1).create();
+        assertSame(decimalFactory.setNumber(1).create(), one);
+        assertNotSame(decimalFactory.setNumber(new BigDecimal("1.0")).create(), one);
+        assertEquals(decimalFactory.setNumber(new BigDecimal("1.0")).create().getNumber()
+                .numberValue(BigDecimal.class).scale(), 1);
+    }
+
+    @Test
+    public void testGetPut() {
+        CurrencyUnit currency = TestCurrency.of("XAU");
+        MonetaryContext context = FastAmount.MONETARY_CONTEXT;
+        assertNull(MonetaryAmountCache.get(FastAmount.class, currency, context, 3));
+        FastAmount three = FastAmount.of(3, currency);
+        assertSame(MonetaryAmountCache.put(three, context, 3), three);
+        assertSame(MonetaryAmountCache.put(FastAmount.of(3, currency), context, 3), three);
+        assertSame(MonetaryAmountCache.get(FastAmount.class, currency, context, 3), three);
+        assertNull(MonetaryAmountCache.get(DecimalAmount.class, currency, context, 3));
+        assertNull(MonetaryAmountCache.get(FastAmount.class, currency, context, 1000));
+        FastAmount large = FastAmount.of(1000, currency);
+        assertSame(MonetaryAmountCache.put(large, context, 1000), large);
+        assertTrue(MonetaryAmountCache.isCacheable(MonetaryAmountCache.MAX_VALUE));
+        assertFalse(MonetaryAmountCache.isCacheable(MonetaryAmountCache.MIN_VALUE - 1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testPut_NumberMismatch() {
+        MonetaryAmountCache.put(FastAmount.of(5, CHF), FastAmount.MONETARY_CONTEXT, 0);
+    }
+}
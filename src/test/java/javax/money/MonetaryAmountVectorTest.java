@@ -0,0 +1,165 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link MonetaryAmountVector}.
+ */
+public class MonetaryAmountVectorTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+    private static final CurrencyUnit JPY = TestCurrency.of("JPY");
+
+    private static FastAmount chf(String number) {
+        return FastAmount.of(new BigDecimal(number), CHF);
+    }
+
+    @Test
+    public void testAppendAndGet() {
+        MonetaryAmountVector vector = new MonetaryAmountVector(1);
+        for (int i = 0; i < 100; i++) {
+            vector.append(FastAmount.of(i, i % 2 == 0 ? CHF : JPY));
+        }
+        vector.append(DecimalAmount.of(new BigDecimal("0.5"), CHF));
+        assertEquals(vector.size(), 101);
+        assertEquals(vector.get(3), FastAmount.of(3, JPY));
+        assertEquals(vector.getUnscaledValue(100), 50000L);
+        assertSame(vector.getCurrency(100), CHF);
+        int count = 0;
+        for (MonetaryAmount amount : vector) {
+            assertNotNull(amount);
+            count++;
+        }
+        assertEquals(count, 101);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testGet_InvalidIndex() {
+        new MonetaryAmountVector().get(0);
+    }
+
+    @Test
+    public void testBulkArithmetic() {
+        MonetaryAmountVector vector = MonetaryAmountVector.of(Arrays.asList(chf("1.5"), chf("-2"), chf("0.1")));
+        vector.add(MonetaryAmountVector.of(Arrays.asList(chf("1"), chf("1"), chf("1")))).multiply(3).negate();
+        assertEquals(vector.get(0), chf("-7.5"));
+        assertEquals(vector.get(1), chf("3"));
+        assertEquals(vector.get(2), chf("-3.3"));
+        vector.multiply(new BigDecimal("0.5"));
+        assertEquals(vector.get(0), chf("-3.75"));
+        assertEquals(vector.get(2), chf("-1.65"));
+        vector.multiply(new BigDecimal("0.00001"));
+        assertEquals(vector.get(0), chf("-0.00004"));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAdd_CurrencyMismatch() {
+        MonetaryAmountVector.of(Arrays.asList(chf("1"))).add(MonetaryAmountVector.of(
+                Arrays.asList(FastAmount.of(1, JPY))));
+    }
+
+    @Test
+    public void testAdd_Scalar() {
+        MonetaryAmountVector vector = MonetaryAmountVector.of(Arrays.asList(chf("1.5"), chf("-2")));
+        vector.add(chf("0.5"));
+        assertEquals(vector.size(), 2);
+        assertEquals(vector.get(0), chf("2"));
+        assertEquals(vector.get(1), chf("-1.5"));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAdd_ScalarCurrencyMismatch() {
+        MonetaryAmountVector.of(Arrays.asList(chf("1"))).add(FastAmount.of(1, JPY));
+    }
+
+    @Test
+    public void testAdd_ScalarFailureLeavesVectorUnchanged() {
+        MonetaryAmountVector vector = MonetaryAmountVector.of(Arrays.asList(chf("1"), FastAmount.of(1, JPY)));
+        try {
+            vector.add(chf("1"));
+            fail("MonetaryException expected.");
+        } catch (MonetaryException e) {
+            assertEquals(vector.get(0), chf("1"));
+        }
+        vector = new MonetaryAmountVector().appendUnscaled(1, CHF).appendUnscaled(Long.MAX_VALUE, CHF);
+        try {
+            vector.add(FastAmount.ofUnscaled(1, CHF));
+            fail("ArithmeticException expected.");
+        } catch (ArithmeticException e) {
+            assertEquals(vector.getUnscaledValue(0), 1L);
+            assertEquals(vector.getUnscaledValue(1), Long.MAX_VALUE);
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testMultiply_Overflow() {
+        new MonetaryAmountVector().appendUnscaled(Long.MAX_VALUE / 2, CHF).multiply(3);
+    }
+
+    @Test
+    public void testRound() {
+        MonetaryAmountVector vector = MonetaryAmountVector.of(Arrays.asList(chf("1.005"), chf("1.015"),
+                chf("-1.005"), FastAmount.of(new BigDecimal("12.5"), JPY)));
+        MonetaryAmountVector copy = MonetaryAmountVector.of(vector);
+        vector.round(2, RoundingMode.HALF_EVEN);
+        assertEquals(vector.get(0), chf("1.00"));
+        assertEquals(vector.get(1), chf("1.02"));
+        assertEquals(vector.get(2), chf("-1.00"));
+        copy.round(RoundingMode.HALF_UP);
+        assertEquals(copy.get(0), chf("1.01"));
+        assertEquals(copy.get(2), chf("-1.01"));
+        assertEquals(copy.get(3), FastAmount.of(13, JPY));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testRound_Unnecessary() {
+        MonetaryAmountVector.of(Arrays.asList(chf("1.005"))).round(2, RoundingMode.UNNECESSARY);
+    }
+
+    @Test
+    public void testWith() {
+        MonetaryAmountVector vector = MonetaryAmountVector.of(Arrays.asList(chf("1"), chf("2")));
+        vector.with(new MonetaryOperator() {
+            @Override
+            public MonetaryAmount apply(MonetaryAmount amount) {
+                return amount.multiply(10);
+            }
+        });
+        assertEquals(vector.get(1), chf("20"));
+    }
+
+    @Test
+    public void testSumByCurrency() {
+        MonetaryAmountVector vector = new MonetaryAmountVector();
+        vector.append(chf("1.5")).append(FastAmount.of(100, JPY)).append(chf("2.5"));
+        Map<CurrencyUnit, MonetaryAmount> sums = vector.sumByCurrency();
+        Iterator<CurrencyUnit> currencies = sums.keySet().iterator();
+        assertSame(currencies.next(), CHF);
+        assertSame(currencies.next(), JPY);
+        assertEquals(sums.get(CHF), chf("4"));
+        assertEquals(sums.get(JPY), FastAmount.of(100, JPY));
+
+        vector = new MonetaryAmountVector().appendUnscaled(Long.MAX_VALUE, CHF).appendUnscaled(Long.MAX_VALUE, CHF)
+                .appendUnscaled(1, CHF);
+        MonetaryAmount sum = vector.sumByCurrency().get(CHF);
+        assertTrue(sum instanceof DecimalAmount);
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class), BigDecimal.valueOf(Long.MAX_VALUE, 5)
+                .multiply(BigDecimal.valueOf(2)).add(new BigDecimal("0.00001")));
+    }
+}
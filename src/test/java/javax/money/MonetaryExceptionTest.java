@@ -37,4 +37,13 @@ public class MonetaryExceptionTest{
         assertTrue(e.getCause().getMessage().equals("Test"));
 
     }
+
+    @Test
+    public void testStackless() throws Exception{
+        MonetaryException e = new  MonetaryException("message1", false);
+        assertTrue(e.getMessage().contains("message1"));
+        assertNull(e.getCause());
+        assertEquals(e.getStackTrace().length, 0);
+        assertTrue(new MonetaryException("message1", true).getStackTrace().length > 0);
+    }
 }
@@ -14,12 +14,21 @@ package javax.money;
 
 import org.testng.annotations.Test;
 
+import javax.money.spi.Bootstrap;
+import javax.money.spi.ProviderHealthTracker;
+import javax.money.spi.RoundingProviderSpi;
+import javax.money.spi.BootstrapTest;
+import javax.money.spi.ServiceProvider;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertFalse;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class MonetaryRoundingsTest {
@@ -86,6 +95,46 @@ public class MonetaryRoundingsTest {
         assertFalse(chain.isEmpty());
     }
 
+    @Test
+    public void testGetDefaultProviderChain_Cached() {
+        List<String> chain = Monetary.getDefaultRoundingProviderChain();
+        assertSame(Monetary.getDefaultRoundingProviderChain(), chain);
+        ServiceProvider provider = Bootstrap.init(new BootstrapTest.TestServiceProvider());
+        Bootstrap.init(provider);
+        assertNotSame(Monetary.getDefaultRoundingProviderChain(), chain);
+        assertEquals(Monetary.getDefaultRoundingProviderChain(), chain);
+    }
+
+    @Test
+    public void testGetDefaultProviderChain_Partial() {
+        ProviderHealthTracker health = ProviderHealthTracker.getDefault();
+        RoundingProviderSpi spi = Bootstrap.getService(RoundingProviderSpi.class);
+        try {
+            for (int i = 0; i < health.getFailureThreshold(); i++) {
+                health.recordFailure(spi, "test", new IllegalStateException("test"));
+            }
+            ServiceProvider provider = Bootstrap.init(new BootstrapTest.TestServiceProvider());
+            Bootstrap.init(provider);
+            List<String> chain = Monetary.getDefaultRoundingProviderChain();
+            assertTrue(chain.isEmpty());
+            // cached until the provider is due for its trial call
+            assertSame(Monetary.getDefaultRoundingProviderChain(), chain);
+        } finally {
+            health.reset();
+            ServiceProvider provider = Bootstrap.init(new BootstrapTest.TestServiceProvider());
+            Bootstrap.init(provider);
+        }
+        assertEquals(Monetary.getDefaultRoundingProviderChain(), Collections.singletonList("TestRoundingProvider"));
+    }
+
+    @Test
+    public void testMonetaryRoundingsGetCustomRoundingIds_Pattern() {
+        assertEquals(Monetary.getRoundingNames("TestRounding.*").size(), 2);
+        assertEquals(Monetary.getRoundingNames("TestRoundingProvider").size(), 2);
+        assertTrue(Monetary.getRoundingNames("Foo.*").isEmpty());
+        assertTrue(Monetary.getRoundingNames("TestRounding[").isEmpty());
+    }
+
     @Test
     public void testMonetaryRoundingsGetCustomRoundingIds() {
         Set<String> ids = Monetary.getRoundingNames();
@@ -14,7 +14,12 @@ package javax.money;
 
 import org.testng.annotations.Test;
 
+import javax.money.spi.Bootstrap;
+import javax.money.spi.BootstrapTest;
+import javax.money.spi.ProviderHealthTracker;
+import javax.money.spi.ServiceProvider;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -54,6 +59,41 @@ public class MonetaryTest {
         Monetary.getCurrency("testGetInstanceCurrency_NA");
     }
 
+    @Test
+    public void testgetCurrencyString_NACached() {
+        ProviderHealthTracker.getDefault().reset();
+        try {
+            Monetary.getCurrency("testGetInstanceCurrency_NACached");
+            fail("UnknownCurrencyException expected.");
+        } catch (UnknownCurrencyException e) {
+            assertTrue(e.getStackTrace().length > 0);
+        }
+        try {
+            Monetary.getCurrency("testGetInstanceCurrency_NACached");
+            fail("UnknownCurrencyException expected.");
+        } catch (UnknownCurrencyException e) {
+            assertEquals(e.getCurrencyCode(), "testGetInstanceCurrency_NACached");
+            assertTrue(e.getStackTrace().length > 0);
+        }
+        assertTrue(UnknownCurrencyCache.current().isUnknown("testGetInstanceCurrency_NACached"));
+        assertFalse(Monetary.isCurrencyAvailable("testGetInstanceCurrency_NACached"));
+    }
+
+    @Test
+    public void testFindCurrency() {
+        CurrencyUnit cur = Monetary.findCurrency("test1");
+        assertNotNull(cur);
+        assertEquals(cur.getCurrencyCode(), "test1");
+        assertEquals(Monetary.findCurrency("test1", "test"), cur);
+    }
+
+    @Test
+    public void testFindCurrency_NA() {
+        assertNull(Monetary.findCurrency("testFindCurrency_NA"));
+        assertNull(Monetary.findCurrency("testFindCurrency_NA"));
+        assertNull(Monetary.findCurrency("testFindCurrency_NA", "test"));
+    }
+
     @Test
     public void testgetCurrencyLocale() {
         Collection<CurrencyUnit> curs = Monetary.getCurrencies(new Locale("", "TEST1L"));
@@ -102,6 +142,17 @@ public class MonetaryTest {
         assertNotNull(chain);
     }
 
+    @Test
+    public void testGetDefaultProviderChain_Cached() {
+        List<String> chain = Monetary.getDefaultCurrencyProviderChain();
+        assertEquals(chain, Collections.singletonList("test"));
+        assertSame(Monetary.getDefaultCurrencyProviderChain(), chain);
+        ServiceProvider provider = Bootstrap.init(new BootstrapTest.TestServiceProvider());
+        Bootstrap.init(provider);
+        assertNotSame(Monetary.getDefaultCurrencyProviderChain(), chain);
+        assertEquals(Monetary.getDefaultCurrencyProviderChain(), chain);
+    }
+
     @Test
     public void testgetCurrencyLocale_Empty() {
         Collection<CurrencyUnit> curs = Monetary.getCurrencies(Locale.CHINA);
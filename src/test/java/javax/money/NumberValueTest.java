@@ -4,7 +4,11 @@ import org.testng.annotations.Test;
 
 import javax.money.convert.TestNumberValue;
 
+import java.math.BigDecimal;
+
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
 
 public class NumberValueTest {
 
@@ -19,4 +23,92 @@ public class NumberValueTest {
         assertEquals(nv1a.compareTo(nv1b), 0);
         assertEquals(nv2.compareTo(nv2), 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testIsScaledLong() throws Exception {
+        NumberValue number = new TestNumberValue(new BigDecimal("-12.345"));
+        assertTrue(number.isScaledLong());
+        assertEquals(number.getUnscaledLong(), -12345L);
+        assertTrue(new TestNumberValue(new BigDecimal("9223372036854775807")).isScaledLong());
+        assertFalse(new TestNumberValue(new BigDecimal("9223372036854775808")).isScaledLong());
+        assertEquals(new TestNumberValue(new BigDecimal("1E+30")).getUnscaledLong(), 1L);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testGetUnscaledLong_Overflow() throws Exception {
+        new TestNumberValue(new BigDecimal("92233720368547758.08")).getUnscaledLong();
+    }
+
+    @Test
+    public void testCompareTo_Scaled() throws Exception {
+        assertEquals(new TestNumberValue(new BigDecimal("1.50")).compareTo(
+                new TestNumberValue(new BigDecimal("1.5"))), 0);
+        assertEquals(new TestNumberValue(new BigDecimal("1.49")).compareTo(
+                new TestNumberValue(new BigDecimal("1.5"))), -1);
+        assertEquals(new TestNumberValue(new BigDecimal("9223372036854775807")).compareTo(
+                new TestNumberValue(new BigDecimal("0.1"))), 1);
+        assertEquals(new TestNumberValue(new BigDecimal("1E+20")).compareTo(
+                new TestNumberValue(new BigDecimal("99999999999999999999.9"))), 1);
+    }
+
+    @Test
+    public void testIsCheapScaledLong() throws Exception {
+        assertFalse(NumberValue.isCheapScaledLong(new TestNumberValue(new BigDecimal("1.5"))));
+        assertTrue(NumberValue.isCheapScaledLong(new UnitsNumberValue(15, 1)));
+        assertTrue(NumberValue.isCheapScaledLong(new ScaledNumberValue(15, 1)));
+    }
+
+    @Test
+    public void testCompareTo_CheapScaledLong() throws Exception {
+        UnitsNumberValue a = new UnitsNumberValue(150, 2);
+        UnitsNumberValue b = new UnitsNumberValue(16, 1);
+        assertEquals(a.compareTo(b), -1);
+        assertEquals(new ScaledNumberValue(15, 1).compareTo(a), 0);
+        assertEquals(FastAmount.toUnits(a), 150000L);
+        assertEquals(a.conversions + b.conversions, 0);
+    }
+
+    @Test
+    public void testCompareScaled() throws Exception {
+        assertEquals(NumberValue.compareScaled(150, 2, 15, 1), 0);
+        assertEquals(NumberValue.compareScaled(-1, 0, 1, 40), -1);
+        assertEquals(NumberValue.compareScaled(Long.MAX_VALUE, 0, Long.MAX_VALUE, 1), 1);
+        assertEquals(NumberValue.compareScaled(Long.MIN_VALUE, 3, Long.MIN_VALUE, 0), 1);
+    }
+
+    /**
+     * Number providing its unscaled value without conversion, counting the conversions performed.
+     */
+    private static final class UnitsNumberValue extends TestNumberValue {
+        private final long unscaled;
+        private final int scale;
+        int conversions;
+
+        UnitsNumberValue(long unscaled, int scale) {
+            super(BigDecimal.valueOf(unscaled, scale));
+            this.unscaled = unscaled;
+            this.scale = scale;
+        }
+
+        @Override
+        public int getScale() {
+            return scale;
+        }
+
+        @Override
+        public boolean isScaledLong() {
+            return true;
+        }
+
+        @Override
+        public long getUnscaledLong() {
+            return unscaled;
+        }
+
+        @Override
+        public <T extends Number> T numberValue(Class<T> numberType) {
+            conversions++;
+            return super.numberValue(numberType);
+        }
+    }
+}
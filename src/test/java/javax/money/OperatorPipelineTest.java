@@ -0,0 +1,122 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link OperatorPipeline} and {@link OperatorPipelineBuilder}.
+ */
+public class OperatorPipelineTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+
+    private static final MonetaryOperator DOUBLE = new MonetaryOperator() {
+        @Override
+        public MonetaryAmount apply(MonetaryAmount amount) {
+            return amount.multiply(2);
+        }
+    };
+
+    @Test
+    public void testFusedSteps() {
+        OperatorPipeline pipeline = OperatorPipelineBuilder.of().percent(90).multiply(new BigDecimal("1.077"))
+                .add(FastAmount.of(new BigDecimal("0.5"), CHF)).round(2, RoundingMode.HALF_UP).build();
+        assertEquals(pipeline.getMaterializationCount(), 1);
+        MonetaryAmount result = FastAmount.of(100, CHF).with(pipeline);
+        assertEquals(result, FastAmount.of(new BigDecimal("97.43"), CHF));
+        assertEquals(DecimalAmount.of(100, CHF).with(pipeline).getNumber().numberValue(BigDecimal.class),
+                new BigDecimal("97.43"));
+    }
+
+    @Test
+    public void testCombinedSteps() {
+        OperatorPipeline pipeline = OperatorPipelineBuilder.of().multiply(2).multiply(3).negate().abs().abs()
+                .add(FastAmount.of(1, CHF)).subtract(FastAmount.of(3, CHF)).build();
+        assertEquals(pipeline.toString(), "OperatorPipeline [[multiply -6, abs, add CHF -2.00000]]");
+        assertEquals(FastAmount.of(-2, CHF).with(pipeline), FastAmount.of(10, CHF));
+    }
+
+    @Test
+    public void testOperatorSegments() {
+        OperatorPipeline inner = OperatorPipelineBuilder.of().divide(3).build();
+        OperatorPipeline pipeline = OperatorPipelineBuilder.of().multiply(10).apply(DOUBLE).apply(inner)
+                .round(RoundingMode.HALF_EVEN).setMathContext(MathContext.DECIMAL64).build();
+        assertEquals(pipeline.getMaterializationCount(), 2);
+        assertEquals(FastAmount.of(1, CHF).with(pipeline), FastAmount.of(new BigDecimal("6.67"), CHF));
+        assertEquals(DecimalAmount.of(1, CHF).with(OperatorPipelineBuilder.of().divide(3).build()).getNumber()
+                .getPrecision(), 34);
+        assertEquals(FastAmount.of(1, CHF).with(OperatorPipelineBuilder.of().divide(3).build()),
+                FastAmount.of(new BigDecimal("0.33333"), CHF));
+        assertEquals(OperatorPipelineBuilder.of().apply(DOUBLE).build().getMaterializationCount(), 0);
+    }
+
+    @Test
+    public void testNestedPipeline_MathContext() {
+        OperatorPipeline inner = OperatorPipelineBuilder.of().divide(3).build();
+        assertEquals(OperatorPipelineBuilder.of().multiply(2).apply(inner).build().getMaterializationCount(), 1);
+        OperatorPipeline pipeline = OperatorPipelineBuilder.of().multiply(2).apply(inner)
+                .setMathContext(MathContext.DECIMAL32).build();
+        assertEquals(pipeline.getMaterializationCount(), 1);
+        assertTrue(pipeline.toString().startsWith("OperatorPipeline [[multiply 2], OperatorPipeline"));
+        assertEquals(DecimalAmount.of(1, CHF).with(pipeline).getNumber().getPrecision(), 34);
+    }
+
+    @Test
+    public void testOverflow() {
+        MonetaryAmount result = FastAmount.ofUnscaled(Long.MAX_VALUE, CHF)
+                .with(OperatorPipelineBuilder.of().multiply(10).build());
+        assertTrue(result instanceof DecimalAmount);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAdd_CurrencyMismatch() {
+        FastAmount.of(1, TestCurrency.of("EUR")).with(OperatorPipelineBuilder.of().add(FastAmount.of(1, CHF)).build());
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivide_Zero() {
+        OperatorPipelineBuilder.of().divide(0);
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        final OperatorPipeline pipeline = OperatorPipelineBuilder.of().percent(50).add(FastAmount.of(1, CHF)).build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<MonetaryAmount>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final int value = i;
+                results.add(executor.submit(new Callable<MonetaryAmount>() {
+                    @Override
+                    public MonetaryAmount call() {
+                        return FastAmount.of(value * 2, CHF).with(pipeline);
+                    }
+                }));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(results.get(i).get(), FastAmount.of(i + 1, CHF));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
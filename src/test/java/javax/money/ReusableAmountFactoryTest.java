@@ -0,0 +1,104 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import javax.money.spi.Bootstrap;
+import javax.money.spi.BootstrapTest;
+import javax.money.spi.ServiceProvider;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ReusableAmountFactory}.
+ */
+public class ReusableAmountFactoryTest {
+
+    private static final CurrencyUnit CHF = TestCurrency.of("CHF");
+
+    @Test
+    public void testCreate() {
+        ReusableAmountFactory<FastAmount> factory = new ReusableAmountFactory<>(FastAmount.of(0, CHF).getFactory());
+        assertEquals(factory.getAmountType(), FastAmount.class);
+        assertEquals(factory.create(CHF, 5L), FastAmount.of(5, CHF));
+        assertEquals(factory.create(CHF, new BigDecimal("1.25")), FastAmount.of(new BigDecimal("1.25"), CHF));
+        assertEquals(factory.setNumber(0.5d).create(), FastAmount.of(new BigDecimal("0.5"), CHF));
+        assertEquals(factory.setCurrency("test1").setNumber(1L).create().getCurrency().getCurrencyCode(), "test1");
+        FastAmount amount = FastAmount.of(7, CHF);
+        assertEquals(factory.reset().setAmount(amount).create(), amount);
+        assertEquals(factory.getMaxNumber(), amount.getFactory().getMaxNumber());
+        assertEquals(factory.getMaximalMonetaryContext(), amount.getFactory().getMaximalMonetaryContext());
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testCreate_ResetCurrency() {
+        ReusableAmountFactory<FastAmount> factory = new ReusableAmountFactory<>(FastAmount.of(0, CHF).getFactory());
+        factory.create(CHF, 1L);
+        factory.reset().setNumber(2L).create();
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testCreate_ResetNumber() {
+        ReusableAmountFactory<FastAmount> factory = new ReusableAmountFactory<>(FastAmount.of(0, CHF).getFactory());
+        factory.create(CHF, 1L);
+        factory.reset().setCurrency(CHF).create();
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testCreate_InvalidContext() {
+        new ReusableAmountFactory<>(FastAmount.of(0, CHF).getFactory())
+                .setContext(MonetaryContextBuilder.of(FastAmount.class).setPrecision(0).build()).create(CHF, 1L);
+    }
+
+    @Test
+    public void testGetReusableAmountFactory() throws InterruptedException {
+        final ReusableAmountFactory<DummyAmount> factory = Monetary.getReusableAmountFactory(DummyAmount.class);
+        assertSame(Monetary.getReusableAmountFactory(DummyAmount.class), factory);
+        assertNotNull(factory.create(CHF, 1L));
+        final AtomicReference<ReusableAmountFactory<DummyAmount>> other = new AtomicReference<>();
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                other.set(Monetary.getReusableAmountFactory(DummyAmount.class));
+            }
+        };
+        thread.start();
+        thread.join();
+        assertNotNull(other.get());
+        assertNotSame(other.get(), factory);
+    }
+
+    @Test
+    public void testGetReusableAmountFactory_NewEpoch() {
+        ReusableAmountFactory<DummyAmount> factory = Monetary.getReusableAmountFactory(DummyAmount.class);
+        ServiceProvider provider = Bootstrap.init(new BootstrapTest.TestServiceProvider());
+        Bootstrap.init(provider);
+        assertNotSame(Monetary.getReusableAmountFactory(DummyAmount.class), factory);
+    }
+
+    @Test
+    public void testGetReusableAmountFactory_NewContextClassLoader() {
+        ReusableAmountFactory<DummyAmount> factory = Monetary.getReusableAmountFactory(DummyAmount.class);
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try {
+            thread.setContextClassLoader(new URLClassLoader(new URL[0], getClass().getClassLoader()));
+            ReusableAmountFactory<DummyAmount> other = Monetary.getReusableAmountFactory(DummyAmount.class);
+            assertNotSame(other, factory);
+            assertSame(Monetary.getReusableAmountFactory(DummyAmount.class), other);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ScaledNumberValue}.
+ */
+public class ScaledNumberValueTest {
+
+    @Test
+    public void testValues() {
+        ScaledNumberValue number = new ScaledNumberValue(-1234567, 5);
+        assertTrue(number.isScaledLong());
+        assertEquals(number.getUnscaledLong(), -1234567L);
+        assertEquals(number.getScale(), 5);
+        assertEquals(number.getPrecision(), 7);
+        assertEquals(number.longValue(), -12L);
+        assertEquals(number.intValue(), -12);
+        assertEquals(number.doubleValue(), -12.34567d);
+        assertEquals(number.getAmountFractionNumerator(), -34567L);
+        assertEquals(number.getAmountFractionDenominator(), 100000L);
+        assertEquals(number.numberValue(BigDecimal.class), new BigDecimal("-12.34567"));
+        assertEquals(number.numberValue(Long.class), Long.valueOf(-12L));
+        assertEquals(number.numberValue(BigInteger.class), BigInteger.valueOf(-12L));
+        assertEquals(number.round(new MathContext(3)).numberValue(BigDecimal.class), new BigDecimal("-12.3"));
+        assertEquals(number.toString(), "-12.34567");
+        assertEquals(new ScaledNumberValue(0, 5).getPrecision(), 1);
+        assertEquals(new ScaledNumberValue(Long.MIN_VALUE, 5).getPrecision(), 19);
+        assertEquals(new ScaledNumberValue(Long.MAX_VALUE, 5).getPrecision(), 19);
+        assertEquals(new ScaledNumberValue(1200000, 5).longValueExact(), 12L);
+        assertEquals(new ScaledNumberValue(1200000, 5).intValueExact(), 12);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testLongValueExact_Fraction() {
+        new ScaledNumberValue(1234567, 5).longValueExact();
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testIntValueExact_Overflow() {
+        new ScaledNumberValue(Long.MAX_VALUE / 100000 * 100000, 5).intValueExact();
+    }
+
+    @Test
+    public void testCompareAndEquals() {
+        ScaledNumberValue number = new ScaledNumberValue(150000, 5);
+        DecimalNumberValue decimal = new DecimalNumberValue(new BigDecimal("1.5"));
+        assertEquals(number.compareTo(decimal), 0);
+        assertEquals(decimal.compareTo(number), 0);
+        assertEquals(number.compareTo(new DecimalNumberValue(new BigDecimal("1E+40"))), -1);
+        assertEquals(number.compareTo(new ScaledNumberValue(1, 0)), 1);
+        assertEquals(number, new ScaledNumberValue(150000, 5));
+        assertEquals(number, new DecimalNumberValue(new BigDecimal("1.50000")));
+        assertEquals(new DecimalNumberValue(new BigDecimal("1.50000")), number);
+        assertNotEquals(number, decimal);
+        assertEquals(number.hashCode(), new DecimalNumberValue(new BigDecimal("1.50000")).hashCode());
+    }
+}
@@ -13,8 +13,10 @@
 package javax.money;
 
 import javax.money.spi.CurrencyProviderSpi;
+import javax.money.spi.ServiceMetadata;
 import java.util.*;
 
+@ServiceMetadata(name = "test")
 public final class TestCurrencyProvider implements CurrencyProviderSpi {
 
     @Override
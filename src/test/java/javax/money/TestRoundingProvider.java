@@ -13,9 +13,11 @@
 package javax.money;
 
 import javax.money.spi.RoundingProviderSpi;
+import javax.money.spi.ServiceMetadata;
 import java.util.HashSet;
 import java.util.Set;
 
+@ServiceMetadata(name = "TestRoundingProvider")
 public final class TestRoundingProvider implements RoundingProviderSpi {
 
     @Override
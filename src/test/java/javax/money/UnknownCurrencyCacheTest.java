@@ -0,0 +1,103 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money;
+
+import javax.money.spi.Bootstrap;
+import javax.money.spi.BootstrapTest;
+import javax.money.spi.ClassLoaderServiceProvider;
+import javax.money.spi.ProviderHealthTracker;
+import javax.money.spi.ServiceProvider;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link UnknownCurrencyCache}.
+ */
+public class UnknownCurrencyCacheTest {
+
+    @BeforeMethod
+    public void resetHealth() {
+        ProviderHealthTracker.getDefault().reset();
+    }
+
+    @Test
+    public void testAdd() {
+        assertFalse(UnknownCurrencyCache.current().isUnknown("testAdd"));
+        UnknownCurrencyCache.current().add("testAdd", Bootstrap.getEpoch());
+        assertTrue(UnknownCurrencyCache.current().isUnknown("testAdd"));
+    }
+
+    @Test
+    public void testAdd_StaleEpoch() {
+        UnknownCurrencyCache.current().add("testAdd_StaleEpoch", Bootstrap.getEpoch() - 1);
+        assertFalse(UnknownCurrencyCache.current().isUnknown("testAdd_StaleEpoch"));
+    }
+
+    @Test
+    public void testAdd_ProviderFailing() {
+        Object provider = new Object();
+        ProviderHealthTracker.getDefault().recordFailure(provider, "test", new IllegalStateException("test"));
+        UnknownCurrencyCache.current().add("testAdd_ProviderFailing", Bootstrap.getEpoch());
+        assertFalse(UnknownCurrencyCache.current().isUnknown("testAdd_ProviderFailing"));
+        ProviderHealthTracker.getDefault().recordSuccess(provider);
+        UnknownCurrencyCache.current().add("testAdd_ProviderFailing", Bootstrap.getEpoch());
+        assertTrue(UnknownCurrencyCache.current().isUnknown("testAdd_ProviderFailing"));
+    }
+
+    @Test
+    public void testAdd_Bounded() {
+        long epoch = Bootstrap.getEpoch();
+        for (int i = 0; i <= UnknownCurrencyCache.MAX_ENTRIES; i++) {
+            UnknownCurrencyCache.current().add("testAdd_Bounded" + i, epoch);
+        }
+        assertTrue(UnknownCurrencyCache.current().size() <= UnknownCurrencyCache.MAX_ENTRIES);
+    }
+
+    @Test
+    public void testNewEpoch() {
+        UnknownCurrencyCache.current().add("testNewEpoch", Bootstrap.getEpoch());
+        assertTrue(UnknownCurrencyCache.current().isUnknown("testNewEpoch"));
+        ServiceProvider provider = Bootstrap.init(new BootstrapTest.TestServiceProvider());
+        Bootstrap.init(provider);
+        assertFalse(UnknownCurrencyCache.current().isUnknown("testNewEpoch"));
+    }
+
+    @Test
+    public void testCurrent_PerClassLoader() {
+        ServiceProvider previous = Bootstrap.init(new ClassLoaderServiceProvider());
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try {
+            thread.setContextClassLoader(new URLClassLoader(new URL[0], getClass().getClassLoader()));
+            UnknownCurrencyCache tenant1 = UnknownCurrencyCache.current();
+            tenant1.add("testCurrent_PerClassLoader", Bootstrap.getEpoch());
+            assertSame(UnknownCurrencyCache.current(), tenant1);
+            assertTrue(UnknownCurrencyCache.current().isUnknown("testCurrent_PerClassLoader"));
+            thread.setContextClassLoader(new URLClassLoader(new URL[0], getClass().getClassLoader()));
+            assertNotSame(UnknownCurrencyCache.current(), tenant1);
+            assertFalse(UnknownCurrencyCache.current().isUnknown("testCurrent_PerClassLoader"));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            Bootstrap.init(previous);
+        }
+    }
+
+    @Test
+    public void testClear() {
+        UnknownCurrencyCache.current().add("testClear", Bootstrap.getEpoch());
+        UnknownCurrencyCache.current().clear();
+        assertFalse(UnknownCurrencyCache.current().isUnknown("testClear"));
+        assertEquals(UnknownCurrencyCache.current().size(), 0);
+    }
+}
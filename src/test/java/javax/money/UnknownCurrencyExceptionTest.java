@@ -43,4 +43,17 @@ public class UnknownCurrencyExceptionTest {
         assertTrue(e.toString().contains("UnknownCurrencyException"));
     }
 
+    @Test
+    public void testStackless() throws Exception{
+        UnknownCurrencyException e = new UnknownCurrencyException("GGG", false);
+        assertEquals("GGG", e.getCurrencyCode());
+        assertNull(e.getLocale());
+        assertEquals(e.getStackTrace().length, 0);
+        e = new UnknownCurrencyException(Locale.CANADA_FRENCH, false);
+        assertEquals(Locale.CANADA_FRENCH, e.getLocale());
+        assertNull(e.getCurrencyCode());
+        assertEquals(e.getStackTrace().length, 0);
+        assertTrue(new UnknownCurrencyException("GGG", true).getStackTrace().length > 0);
+    }
+
 }
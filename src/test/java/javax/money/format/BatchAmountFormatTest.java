@@ -0,0 +1,92 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.format;
+
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.convert.TestNumberValue;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link BatchAmountFormat}.
+ */
+public class BatchAmountFormatTest {
+
+    private static final CompiledAmountFormat FORMAT = CompiledAmountFormat.of(
+            AmountFormatContextBuilder.of(Locale.ENGLISH).set(CompiledAmountFormat.KEY_PATTERN, "#,##0.00 ¤¤")
+                    .build());
+
+    private static MonetaryAmount amount(CurrencyUnit currency, String number) {
+        MonetaryAmount amount = mock(MonetaryAmount.class);
+        when(amount.getCurrency()).thenReturn(currency);
+        when(amount.getNumber()).thenReturn(TestNumberValue.of(new BigDecimal(number)));
+        return amount;
+    }
+
+    @Test
+    public void testFormat_Separator() {
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        CurrencyUnit test2 = Monetary.getCurrency("test2");
+        BatchAmountFormat batch = BatchAmountFormat.of(FORMAT, ";");
+        assertEquals(batch.format(amount(test1, "1"), amount(test1, "1000.5"), amount(test2, "-2")),
+                "1.00 test1;1,000.50 test1;-2.00 test2");
+        assertEquals(batch.format(Collections.<MonetaryAmount>emptyList()), "");
+        assertSame(batch.getFormat(), FORMAT);
+    }
+
+    @Test
+    public void testFormat_Records() {
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        BatchAmountFormat batch = BatchAmountFormat.of(FORMAT, ",", 2, "\n");
+        assertEquals(batch.format(amount(test1, "1"), amount(test1, "2"), amount(test1, "3"), amount(test1, "4"),
+                amount(test1, "5")), "1.00 test1,2.00 test1\n3.00 test1,4.00 test1\n5.00 test1");
+    }
+
+    @Test
+    public void testPrint_Writer() throws Exception {
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        List<MonetaryAmount> amounts = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            amounts.add(amount(test1, String.valueOf(i)));
+            if (i > 0) {
+                expected.append('|');
+            }
+            expected.append(FORMAT.format(amounts.get(i)));
+        }
+        StringWriter writer = new StringWriter();
+        BatchAmountFormat.of(FORMAT, "|").print(writer, amounts);
+        assertEquals(writer.toString(), expected.toString());
+    }
+
+    @Test
+    public void testFormat_AnyFormat() {
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        MonetaryAmount amount = amount(test1, "1");
+        BatchAmountFormat batch = MonetaryFormats.getBatchAmountFormat(Locale.ENGLISH, " ");
+        assertEquals(batch.format(amount, amount), "TestFormat:" + amount + " TestFormat:" + amount);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRecordSize() {
+        BatchAmountFormat.of(FORMAT, ",", -1, "\n");
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.format;
+
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryAmountFactory;
+import javax.money.MonetaryContext;
+import javax.money.NumberValue;
+import javax.money.convert.TestNumberValue;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Locale;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link CompiledAmountFormat}.
+ */
+public class CompiledAmountFormatTest {
+
+    private static MonetaryAmount amount(CurrencyUnit currency, String number) {
+        MonetaryAmount amount = mock(MonetaryAmount.class);
+        when(amount.getCurrency()).thenReturn(currency);
+        when(amount.getNumber()).thenReturn(TestNumberValue.of(new BigDecimal(number)));
+        return amount;
+    }
+
+    private static CompiledAmountFormat format(Locale locale, String pattern) {
+        return CompiledAmountFormat.of(AmountFormatContextBuilder.of(locale)
+                .set(CompiledAmountFormat.KEY_PATTERN, pattern).build());
+    }
+
+    @Test
+    public void testPrint_CodePattern() {
+        CompiledAmountFormat fmt = format(Locale.ENGLISH, "¤¤ #,##0.00");
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        assertEquals(fmt.format(amount(test1, "1234567.891")), "test1 1,234,567.89");
+        assertEquals(fmt.format(amount(test1, "0.5")), "test1 0.50");
+        assertEquals(fmt.format(amount(test1, "-12")), "-test1 12.00");
+        assertEquals(fmt.queryFrom(amount(test1, "100")), "test1 100.00");
+    }
+
+    @Test
+    public void testPrint_OptionalFractionDigits() {
+        CompiledAmountFormat fmt = format(Locale.ENGLISH, "#,##0.0## ¤¤");
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        assertEquals(fmt.format(amount(test1, "1000")), "1,000.0 test1");
+        assertEquals(fmt.format(amount(test1, "1000.1234")), "1,000.123 test1");
+        assertEquals(fmt.format(amount(test1, "0.00")), "0.0 test1");
+    }
+
+    @Test
+    public void testPrint_NegativeSubPattern() {
+        CompiledAmountFormat fmt = format(Locale.ENGLISH, "¤¤ #,##0.00;(¤¤ #,##0.00)");
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        assertEquals(fmt.format(amount(test1, "-1234.5")), "(test1 1,234.50)");
+        assertEquals(fmt.format(amount(test1, "1234.5")), "test1 1,234.50");
+    }
+
+    @Test
+    public void testPrint_LocaleSymbols() {
+        CompiledAmountFormat fmt = format(Locale.GERMANY, "#,##0.00 ¤¤");
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        assertEquals(fmt.format(amount(test1, "1234.5")), "1.234,50 test1");
+    }
+
+    @Test
+    public void testPrint_DefaultPattern() {
+        CurrencyUnit usd = mock(CurrencyUnit.class);
+        when(usd.getCurrencyCode()).thenReturn("USD");
+        CompiledAmountFormat fmt = CompiledAmountFormat.of(AmountFormatContextBuilder.of(Locale.US).build());
+        assertEquals(fmt.getSymbol(usd), Currency.getInstance("USD").getSymbol(Locale.US));
+        assertEquals(fmt.format(amount(usd, "1234.5")), fmt.getSymbol(usd) + "1,234.50");
+    }
+
+    @Test
+    public void testPrint_Appendable() throws Exception {
+        CompiledAmountFormat fmt = format(Locale.ENGLISH, "'['¤¤']' 0.00");
+        StringBuilder b = new StringBuilder("x");
+        fmt.print(b, amount(Monetary.getCurrency("test1"), "1"));
+        assertEquals(b.toString(), "x[test1] 1.00");
+    }
+
+    @Test
+    public void testPrint_QuotedNumberChars() {
+        CompiledAmountFormat fmt = format(Locale.ENGLISH, "'No. '#,##0.00 ¤¤");
+        CurrencyUnit test1 = Monetary.getCurrency("test1");
+        assertEquals(fmt.format(amount(test1, "1234.5")), "No. 1,234.50 test1");
+    }
+
+    @Test
+    public void testParse_Code() {
+        CapturingFactory factory = new CapturingFactory();
+        CompiledAmountFormat fmt = CompiledAmountFormat.of(AmountFormatContextBuilder.of(Locale.ENGLISH)
+                .set(CompiledAmountFormat.KEY_PATTERN, "¤¤ #,##0.00;(¤¤ #,##0.00)")
+                .setMonetaryAmountFactory(factory).build());
+        fmt.parse("test1 1,234.50");
+        assertEquals(factory.currency.getCurrencyCode(), "test1");
+        assertEquals(factory.number, new BigDecimal("1234.50"));
+        fmt.parse("(test2 0.25)");
+        assertEquals(factory.currency.getCurrencyCode(), "test2");
+        assertEquals(factory.number, new BigDecimal("-0.25"));
+    }
+
+    @Test
+    public void testParse_SymbolWithDefaultCurrency() {
+        CurrencyUnit usd = mock(CurrencyUnit.class);
+        when(usd.getCurrencyCode()).thenReturn("USD");
+        CapturingFactory factory = new CapturingFactory();
+        CompiledAmountFormat fmt = CompiledAmountFormat.of(AmountFormatContextBuilder.of(Locale.US)
+                .set(CompiledAmountFormat.KEY_PATTERN, "¤#,##0.00")
+                .set(CurrencyUnit.class, usd).setMonetaryAmountFactory(factory).build());
+        String symbol = fmt.getSymbol(usd);
+        fmt.parse("-" + symbol + "1,234.56");
+        assertSame(factory.currency, usd);
+        assertEquals(factory.number, new BigDecimal("-1234.56"));
+    }
+
+    @Test
+    public void testParse_MinusWithNegativeSubPattern() {
+        CurrencyUnit usd = mock(CurrencyUnit.class);
+        when(usd.getCurrencyCode()).thenReturn("USD");
+        CapturingFactory factory = new CapturingFactory();
+        CompiledAmountFormat fmt = CompiledAmountFormat.of(AmountFormatContextBuilder.of(Locale.US)
+                .set(CompiledAmountFormat.KEY_PATTERN, "¤#,##0.00;(¤#,##0.00)")
+                .set(CurrencyUnit.class, usd).setMonetaryAmountFactory(factory).build());
+        String symbol = fmt.getSymbol(usd);
+        fmt.parse("(" + symbol + "1,234.56)");
+        assertEquals(factory.number, new BigDecimal("-1234.56"));
+        fmt.parse("-" + symbol + "1,234.56");
+        assertSame(factory.currency, usd);
+        assertEquals(factory.number, new BigDecimal("-1234.56"));
+        fmt.parse(symbol + "1,234.56");
+        assertEquals(factory.number, new BigDecimal("1234.56"));
+    }
+
+    @Test
+    public void testParse_Invalid() {
+        CompiledAmountFormat fmt = format(Locale.ENGLISH, "¤¤ #,##0.00");
+        try {
+            fmt.parse("test1 12a");
+            fail("MonetaryParseException expected.");
+        } catch (MonetaryParseException e) {
+            assertEquals(e.getErrorIndex(), 8);
+            assertEquals(e.getInput(), "test1 12a");
+        }
+        try {
+            fmt.parse("test1");
+            fail("MonetaryParseException expected.");
+        } catch (MonetaryParseException e) {
+            assertEquals(e.getErrorIndex(), 5);
+        }
+    }
+
+    @Test
+    public void testParse_UnknownCurrency() {
+        CompiledAmountFormat fmt = format(Locale.ENGLISH, "0.00 ¤¤");
+        try {
+            fmt.parse("12.00 QQQ");
+            fail("MonetaryParseException expected.");
+        } catch (MonetaryParseException e) {
+            assertEquals(e.getErrorIndex(), 6);
+            assertEquals(e.getInput(), "12.00 QQQ");
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidPattern() {
+        format(Locale.ENGLISH, "¤¤");
+    }
+
+    @Test
+    public void testOf_Cached() {
+        AmountFormatContext ctx = AmountFormatContextBuilder.of(Locale.ITALY).build();
+        assertSame(CompiledAmountFormat.of(ctx), CompiledAmountFormat.of(AmountFormatContextBuilder.of(Locale.ITALY)
+                .build()));
+    }
+
+    @Test
+    public void testOf_SharedPlan() {
+        CapturingFactory factory1 = new CapturingFactory();
+        CapturingFactory factory2 = new CapturingFactory();
+        AmountFormatContext ctx1 = AmountFormatContextBuilder.of(Locale.ENGLISH)
+                .set(CompiledAmountFormat.KEY_PATTERN, "¤¤ 0.00").setMonetaryAmountFactory(factory1).build();
+        AmountFormatContext ctx2 = AmountFormatContextBuilder.of(Locale.ENGLISH)
+                .set(CompiledAmountFormat.KEY_PATTERN, "¤¤ 0.00").setMonetaryAmountFactory(factory2).build();
+        CompiledAmountFormat fmt1 = CompiledAmountFormat.of(ctx1);
+        CompiledAmountFormat fmt2 = CompiledAmountFormat.of(ctx2);
+        assertSame(fmt1.getContext(), ctx1);
+        assertSame(fmt2.getContext(), ctx2);
+        fmt2.parse("test1 2.50");
+        assertNull(factory1.number);
+        assertEquals(factory2.number, new BigDecimal("2.50"));
+    }
+
+    @Test
+    public void testGetContext() {
+        AmountFormatContext ctx = AmountFormatContextBuilder.of(Locale.ENGLISH).build();
+        assertSame(CompiledAmountFormat.of(ctx).getContext(), ctx);
+    }
+
+    /**
+     * Factory recording the values set.
+     */
+    private static final class CapturingFactory implements MonetaryAmountFactory<MonetaryAmount> {
+        private CurrencyUnit currency;
+        private Number number;
+
+        @Override
+        public Class<? extends MonetaryAmount> getAmountType() {
+            return MonetaryAmount.class;
+        }
+
+        @Override
+        public MonetaryAmountFactory<MonetaryAmount> setCurrency(String currencyCode) {
+            return setCurrency(Monetary.getCurrency(currencyCode));
+        }
+
+        @Override
+        public MonetaryAmountFactory<MonetaryAmount> setCurrency(CurrencyUnit currency) {
+            this.currency = currency;
+            return this;
+        }
+
+        @Override
+        public MonetaryAmountFactory<MonetaryAmount> setNumber(double number) {
+            this.number = number;
+            return this;
+        }
+
+        @Override
+        public MonetaryAmountFactory<MonetaryAmount> setNumber(long number) {
+            this.number = number;
+            return this;
+        }
+
+        @Override
+        public MonetaryAmountFactory<MonetaryAmount> setNumber(Number number) {
+            this.number = number;
+            return this;
+        }
+
+        @Override
+        public NumberValue getMaxNumber() {
+            return null;
+        }
+
+        @Override
+        public NumberValue getMinNumber() {
+            return null;
+        }
+
+        @Override
+        public MonetaryAmountFactory<MonetaryAmount> setContext(MonetaryContext monetaryContext) {
+            return this;
+        }
+
+        @Override
+        public MonetaryAmountFactory<MonetaryAmount> setAmount(MonetaryAmount amount) {
+            return this;
+        }
+
+        @Override
+        public MonetaryAmount create() {
+            return amount(currency, number.toString());
+        }
+
+        @Override
+        public MonetaryContext getDefaultMonetaryContext() {
+            return null;
+        }
+
+        @Override
+        public MonetaryContext getMaximalMonetaryContext() {
+            return null;
+        }
+    }
+}
@@ -11,9 +11,13 @@ package javax.money.format;
 import org.testng.annotations.Test;
 
 import javax.money.MonetaryException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import static org.testng.Assert.*;
@@ -108,4 +112,54 @@ public class MonetaryFormatsTest {
         assertNotNull(provs);
         assertTrue(provs.contains("TestAmountFormatProvider"));
     }
+
+    @Test
+    public void testGetDefaultProviderChain_Cached() {
+        List<String> provs = MonetaryFormats.getDefaultFormatProviderChain();
+        assertSame(MonetaryFormats.getDefaultFormatProviderChain(), provs);
+        assertSame(MonetaryFormats.getFormatProviderNames(), MonetaryFormats.getFormatProviderNames());
+        try {
+            provs.add("foo");
+            fail("Provider chain must be immutable.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testWarmUp() {
+        Map<Locale, Long> durations = MonetaryFormats.warmUp(
+                Arrays.asList(Locale.ENGLISH, Locale.GERMANY, new Locale("foo", "bar")), Arrays.asList("Test"), 2);
+        assertEquals(durations.keySet(), new LinkedHashSet<>(
+                Arrays.asList(Locale.ENGLISH, Locale.GERMANY, new Locale("foo", "bar"))));
+        for (Long duration : durations.values()) {
+            assertTrue(duration >= 0);
+        }
+        assertTrue(MonetaryFormats.warmUp(Collections.<Locale>emptyList(), Collections.<String>emptyList(), 1)
+                .isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testWarmUp_InvalidParallelism() {
+        MonetaryFormats.warmUp(Arrays.asList(Locale.ENGLISH), Collections.<String>emptyList(), 0);
+    }
+
+    @Test
+    public void testLocaleIndex() {
+        Set<Locale> locales = MonetaryFormats.getAvailableLocales();
+        assertNotSame(MonetaryFormats.getAvailableLocales(), locales);
+        assertEquals(MonetaryFormats.getAvailableLocales(), locales);
+        locales.clear();
+        assertFalse(MonetaryFormats.getAvailableLocales().isEmpty());
+        assertEquals(MonetaryFormats.getAvailableLocales("TestAmountFormatProvider"),
+                Collections.singleton(Locale.ENGLISH));
+        assertTrue(MonetaryFormats.isAvailable(Locale.ENGLISH, "TestAmountFormatProvider"));
+        assertTrue(MonetaryFormats.isAvailable(Locale.GERMANY, "TestAmountFormatProvider"));
+        assertFalse(MonetaryFormats.isAvailable(new Locale("foo", "BAR")));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testGetAvailableLocales_InvalidProvider() {
+        MonetaryFormats.getAvailableLocales("foo");
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link BootstrapStatistics}.
+ */
+public class BootstrapStatisticsTest {
+
+    private final BootstrapStatistics statistics = Bootstrap.getStatistics();
+
+    @BeforeMethod
+    public void enable() {
+        statistics.reset();
+        statistics.setEnabled(true);
+    }
+
+    @AfterMethod
+    public void disable() {
+        statistics.setEnabled(false);
+        statistics.reset();
+    }
+
+    @Test
+    public void testRecordLoad() {
+        new DefaultServiceProvider().getServices(ServiceHandleTest.Service.class);
+        String type = ServiceHandleTest.Service.class.getName();
+        assertTrue(statistics.getLoadTimes().get(type) >= 0);
+        assertEquals(statistics.getInstanceCounts().get(type), Integer.valueOf(2));
+        assertNotNull(statistics.getClassLoaders().get(type));
+        assertTrue(statistics.getInstantiationTimes().containsKey(
+                ServiceHandleTest.PlainService.class.getName()));
+        assertTrue(statistics.getInstantiationTimes().containsKey(
+                ServiceHandleTest.AnnotatedService.class.getName()));
+    }
+
+    @Test
+    public void testRecordLookup() {
+        Bootstrap.getServices(String.class);
+        Bootstrap.getService(String.class);
+        Bootstrap.getServiceHandles(String.class);
+        Bootstrap.getServices(String.class);
+        String type = String.class.getName();
+        assertEquals(statistics.getLookupCounts().get(type), Long.valueOf(4));
+        assertEquals(statistics.getServicesLookupCounts().get(type), Long.valueOf(2));
+        assertEquals(statistics.getServiceLookupCounts().get(type), Long.valueOf(1));
+        assertEquals(statistics.getServiceHandleLookupCounts().get(type), Long.valueOf(1));
+    }
+
+    @Test
+    public void testStart() {
+        assertNotEquals(statistics.start(), BootstrapStatistics.NOT_STARTED);
+        statistics.setEnabled(false);
+        assertEquals(statistics.start(), BootstrapStatistics.NOT_STARTED);
+    }
+
+    @Test
+    public void testDisabled() {
+        statistics.setEnabled(false);
+        Bootstrap.getServices(String.class);
+        new DefaultServiceProvider().getServices(ServiceHandleTest.Service.class);
+        assertTrue(statistics.getLookupCounts().isEmpty());
+        assertTrue(statistics.getLoadTimes().isEmpty());
+        assertTrue(statistics.getInstantiationTimes().isEmpty());
+    }
+
+    @Test
+    public void testReset() {
+        Bootstrap.getServices(String.class);
+        statistics.reset();
+        assertTrue(statistics.getLookupCounts().isEmpty());
+        assertNull(statistics.getServiceProviderClass());
+        assertEquals(statistics.getServiceProviderLoadTime(), -1L);
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        ObjectName name = statistics.registerMBean();
+        assertEquals(statistics.registerMBean(), name);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            Bootstrap.getServices(String.class);
+            assertEquals(server.getAttribute(name, "Enabled"), Boolean.TRUE);
+            TabularData lookups = (TabularData) server.getAttribute(name, "LookupCounts");
+            assertEquals(lookups.size(), 1);
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
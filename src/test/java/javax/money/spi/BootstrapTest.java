@@ -1,5 +1,6 @@
 package javax.money.spi;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -65,6 +66,43 @@ public class BootstrapTest {
         assertNull(Bootstrap.getService(Locale.class));
     }
 
+    @Test
+    public void testEpoch_Listener() throws Exception {
+        final List<Object[]> events = new ArrayList<>();
+        BootstrapListener listener = new BootstrapListener() {
+            @Override
+            public void serviceProviderChanged(ServiceProvider previous, ServiceProvider current, long epoch) {
+                events.add(new Object[]{previous, current, epoch});
+            }
+        };
+        BootstrapListener failing = new BootstrapListener() {
+            @Override
+            public void serviceProviderChanged(ServiceProvider previous, ServiceProvider current, long epoch) {
+                throw new IllegalStateException("test");
+            }
+        };
+        Bootstrap.addListener(failing);
+        Bootstrap.addListener(listener);
+        Bootstrap.addListener(listener);
+        long epoch = Bootstrap.getEpoch();
+        TestServiceProvider testProv = new TestServiceProvider();
+        ServiceProvider prov = Bootstrap.init(testProv);
+        try {
+            assertEquals(Bootstrap.getEpoch(), epoch + 1);
+            assertEquals(events.size(), 1);
+            assertSame(events.get(0)[0], prov);
+            assertSame(events.get(0)[1], testProv);
+            assertEquals(events.get(0)[2], epoch + 1);
+        } finally {
+            Bootstrap.init(prov);
+            assertTrue(Bootstrap.removeListener(listener));
+            assertTrue(Bootstrap.removeListener(failing));
+        }
+        assertEquals(Bootstrap.getEpoch(), epoch + 2);
+        assertEquals(events.size(), 2);
+        assertFalse(Bootstrap.removeListener(listener));
+    }
+
     public final static class TestServiceProvider extends DefaultServiceProvider
             implements ServiceProvider {
 
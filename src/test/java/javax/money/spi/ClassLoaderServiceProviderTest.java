@@ -0,0 +1,82 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ClassLoaderServiceProvider}.
+ */
+public class ClassLoaderServiceProviderTest {
+
+    private static <T> List<T> getServices(ClassLoaderServiceProvider provider, ClassLoader classLoader,
+                                           Class<T> serviceType) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return provider.getServices(serviceType);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @Test
+    public void testIsolation() {
+        ClassLoaderServiceProvider provider = new ClassLoaderServiceProvider();
+        ClassLoader tenant1 = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        ClassLoader tenant2 = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        List<CurrencyProviderSpi> services1 = getServices(provider, tenant1, CurrencyProviderSpi.class);
+        List<CurrencyProviderSpi> services2 = getServices(provider, tenant2, CurrencyProviderSpi.class);
+        assertFalse(services1.isEmpty());
+        assertEquals(services1.size(), services2.size());
+        assertNotSame(services1.get(0), services2.get(0));
+        assertSame(getServices(provider, tenant1, CurrencyProviderSpi.class).get(0), services1.get(0));
+        assertEquals(provider.getRegistryCount(), 2);
+    }
+
+    @Test
+    public void testRelease() {
+        ClassLoaderServiceProvider provider = new ClassLoaderServiceProvider();
+        ClassLoader tenant = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        CurrencyProviderSpi service = getServices(provider, tenant, CurrencyProviderSpi.class).get(0);
+        assertEquals(provider.getRegistryCount(), 1);
+        assertTrue(provider.release(tenant));
+        assertFalse(provider.release(tenant));
+        assertEquals(provider.getRegistryCount(), 0);
+        assertNotSame(getServices(provider, tenant, CurrencyProviderSpi.class).get(0), service);
+    }
+
+    @Test
+    public void testGetService() {
+        ClassLoaderServiceProvider provider = new ClassLoaderServiceProvider();
+        assertSame(provider.getService(CurrencyProviderSpi.class),
+                provider.getServices(CurrencyProviderSpi.class).get(0));
+        assertNull(provider.getService(Runtime.class));
+    }
+
+    @Test
+    public void testBootstrap() {
+        ClassLoaderServiceProvider provider = new ClassLoaderServiceProvider();
+        ServiceProvider previous = Bootstrap.init(provider);
+        try {
+            List<ServiceHandle<CurrencyProviderSpi>> handles = Bootstrap.getServiceHandles(CurrencyProviderSpi.class);
+            assertFalse(handles.isEmpty());
+            assertSame(handles.get(0).get(), provider.getServices(CurrencyProviderSpi.class).get(0));
+        } finally {
+            Bootstrap.init(previous);
+        }
+    }
+}
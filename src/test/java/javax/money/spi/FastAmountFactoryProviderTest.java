@@ -0,0 +1,35 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import javax.money.FastAmount;
+import javax.money.TestCurrency;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link FastAmountFactoryProvider}.
+ */
+public class FastAmountFactoryProviderTest {
+
+    private final FastAmountFactoryProvider provider = new FastAmountFactoryProvider();
+
+    @Test
+    public void testProvider() {
+        assertEquals(provider.getAmountType(), FastAmount.class);
+        assertEquals(provider.getQueryInclusionPolicy(), MonetaryAmountFactoryProviderSpi.QueryInclusionPolicy.ALWAYS);
+        assertEquals(provider.getMaximalMonetaryContext().getPrecision(), 19);
+        assertEquals(provider.getMaximalMonetaryContext().getMaxScale(), FastAmount.SCALE);
+        assertTrue(provider.getDefaultMonetaryContext().isFixedScale());
+        assertEquals(provider.createMonetaryAmountFactory().setCurrency(TestCurrency.of("CHF")).setNumber(1).create(),
+                FastAmount.of(1, TestCurrency.of("CHF")));
+    }
+}
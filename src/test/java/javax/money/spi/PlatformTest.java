@@ -0,0 +1,63 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link Platform}.
+ */
+public class PlatformTest {
+
+    @Test
+    public void testComputeIfAbsent() {
+        ConcurrentMap<String, Integer> map = new ConcurrentHashMap<>();
+        final AtomicInteger calls = new AtomicInteger();
+        Platform.Factory<String, Integer> factory = new Platform.Factory<String, Integer>() {
+            @Override
+            public Integer create(String key) {
+                calls.incrementAndGet();
+                return key.length();
+            }
+        };
+        assertEquals(Platform.computeIfAbsent(map, "abc", factory), Integer.valueOf(3));
+        assertEquals(Platform.computeIfAbsent(map, "abc", factory), Integer.valueOf(3));
+        assertEquals(calls.get(), 1);
+        map.put("d", 10);
+        assertEquals(Platform.computeIfAbsent(map, "d", factory), Integer.valueOf(10));
+        assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void testImmutableList() {
+        List<String> source = new ArrayList<>(Arrays.asList("a", "b"));
+        List<String> list = Platform.immutableList(source);
+        source.add("c");
+        assertEquals(list, Arrays.asList("a", "b"));
+        assertFalse(list.contains(null));
+        assertEquals(list.indexOf(null), -1);
+        try {
+            list.add("c");
+            fail("List must be immutable.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertTrue(Platform.immutableList(Collections.<String>emptyList()).isEmpty());
+    }
+}
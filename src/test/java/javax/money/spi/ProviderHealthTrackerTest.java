@@ -0,0 +1,136 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ProviderHealthTracker}.
+ */
+public class ProviderHealthTrackerTest {
+
+    private static final Exception FAILURE = new IllegalStateException("test");
+
+    @Test
+    public void testHealthy() {
+        ProviderHealthTracker tracker = new ProviderHealthTracker(2, 50L, 200L);
+        Object provider = new Object();
+        assertTrue(tracker.isAvailable(provider));
+        tracker.recordSuccess(provider);
+        assertEquals(tracker.getHealth(provider).getState(), ProviderHealthTracker.State.HEALTHY);
+        assertTrue(tracker.getHealth().isEmpty());
+    }
+
+    @Test
+    public void testQuarantine() {
+        ProviderHealthTracker tracker = new ProviderHealthTracker(2, 60000L, 120000L);
+        Object provider = new Object();
+        tracker.recordFailure(provider, "test", FAILURE);
+        ProviderHealthTracker.Health health = tracker.getHealth(provider);
+        assertEquals(health.getState(), ProviderHealthTracker.State.FAILING);
+        assertEquals(health.getConsecutiveFailures(), 1);
+        assertEquals(health.getLastFailure(), FAILURE.toString());
+        assertTrue(tracker.isAvailable(provider));
+        tracker.recordFailure(provider, "test", FAILURE);
+        health = tracker.getHealth(provider);
+        assertEquals(health.getState(), ProviderHealthTracker.State.QUARANTINED);
+        assertTrue(health.getRetryDelayMillis() > 0);
+        assertFalse(tracker.isAvailable(provider));
+        assertTrue(tracker.isAvailable(new Object()));
+        Map<String, ProviderHealthTracker.Health> all = tracker.getHealth();
+        assertEquals(all.size(), 1);
+        assertEquals(all.values().iterator().next().getTotalFailures(), 2L);
+    }
+
+    @Test
+    public void testRecovery() throws InterruptedException {
+        ProviderHealthTracker tracker = new ProviderHealthTracker(1, 20L, 1000L);
+        Object provider = new Object();
+        tracker.recordFailure(provider, "test", FAILURE);
+        assertFalse(tracker.isAvailable(provider));
+        Thread.sleep(50L);
+        assertTrue(tracker.isAvailable(provider));
+        // a single trial call only
+        assertFalse(tracker.isAvailable(provider));
+        tracker.recordSuccess(provider);
+        assertEquals(tracker.getHealth(provider).getState(), ProviderHealthTracker.State.HEALTHY);
+        assertTrue(tracker.isAvailable(provider));
+        assertEquals(tracker.getHealth(provider).getTotalFailures(), 1L);
+    }
+
+    @Test
+    public void testTrial_OutcomeNotRecorded() throws InterruptedException {
+        ProviderHealthTracker tracker = new ProviderHealthTracker(1, 20L, 1000L);
+        Object provider = new Object();
+        tracker.recordFailure(provider, "test", FAILURE);
+        Thread.sleep(50L);
+        assertTrue(tracker.isAvailable(provider));
+        assertFalse(tracker.isAvailable(provider));
+        // the trial call never completed, so another one is let through after the backoff delay
+        Thread.sleep(50L);
+        assertTrue(tracker.isAvailable(provider));
+        assertEquals(tracker.getHealth(provider).getState(), ProviderHealthTracker.State.QUARANTINED);
+    }
+
+    @Test
+    public void testBackoff() throws InterruptedException {
+        ProviderHealthTracker tracker = new ProviderHealthTracker(1, 20L, 1000L);
+        Object provider = new Object();
+        tracker.recordFailure(provider, "test", FAILURE);
+        long firstDelay = tracker.getHealth(provider).getRetryDelayMillis();
+        Thread.sleep(50L);
+        assertTrue(tracker.isAvailable(provider));
+        tracker.recordFailure(provider, "test", FAILURE);
+        assertFalse(tracker.isAvailable(provider));
+        long secondDelay = tracker.getHealth(provider).getRetryDelayMillis();
+        assertTrue(secondDelay > firstDelay, firstDelay + " / " + secondDelay);
+        assertTrue(secondDelay <= 40L);
+    }
+
+    @Test
+    public void testIsHealthy() {
+        ProviderHealthTracker tracker = new ProviderHealthTracker(2, 60000L, 60000L);
+        Object provider = new Object();
+        assertTrue(tracker.isHealthy());
+        tracker.recordFailure(provider, "test", FAILURE);
+        assertFalse(tracker.isHealthy());
+        tracker.recordSuccess(provider);
+        assertTrue(tracker.isHealthy());
+    }
+
+    @Test
+    public void testReset() {
+        ProviderHealthTracker tracker = new ProviderHealthTracker(1, 60000L, 60000L);
+        Object provider = new Object();
+        tracker.recordFailure(provider, "test", FAILURE);
+        assertFalse(tracker.isAvailable(provider));
+        tracker.reset();
+        assertTrue(tracker.isAvailable(provider));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new ProviderHealthTracker(0, 1L, 1L);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidBackoff() {
+        new ProviderHealthTracker(1, 10L, 5L);
+    }
+
+    @Test
+    public void testDefault() {
+        assertSame(ProviderHealthTracker.getDefault(), ProviderHealthTracker.getDefault());
+        assertEquals(ProviderHealthTracker.getDefault().getFailureThreshold(), 3);
+    }
+}
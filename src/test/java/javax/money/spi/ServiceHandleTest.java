@@ -0,0 +1,128 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.money.MonetaryException;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ServiceHandle}.
+ */
+public class ServiceHandleTest {
+
+    @Test
+    public void testMetadata_DoesNotInstantiate() {
+        int created = AnnotatedService.CREATED.get();
+        ServiceHandle<Service> handle = new ServiceHandle<>(Service.class, AnnotatedService.class.getName(),
+                getClass().getClassLoader());
+        assertEquals(handle.getServiceType(), Service.class);
+        assertEquals(handle.getImplementationName(), AnnotatedService.class.getName());
+        assertEquals(handle.getProviderName(), "annotated");
+        assertEquals(handle.getPriority(), 10);
+        assertFalse(handle.isLoaded());
+        assertEquals(AnnotatedService.CREATED.get(), created);
+    }
+
+    @Test
+    public void testGet_InstantiatesOnce() {
+        int created = AnnotatedService.CREATED.get();
+        ServiceHandle<Service> handle = new ServiceHandle<>(Service.class, AnnotatedService.class.getName(),
+                getClass().getClassLoader());
+        Service service = handle.get();
+        assertTrue(service instanceof AnnotatedService);
+        assertTrue(handle.isLoaded());
+        assertSame(handle.get(), service);
+        assertEquals(AnnotatedService.CREATED.get(), created + 1);
+    }
+
+    @Test
+    public void testMetadata_NotDeclared() {
+        ServiceHandle<Service> handle = new ServiceHandle<>(Service.class, PlainService.class.getName(),
+                getClass().getClassLoader());
+        assertNull(handle.getProviderName());
+        assertEquals(handle.getPriority(), 0);
+    }
+
+    @Test
+    public void testInstance() {
+        PlainService service = new PlainService();
+        ServiceHandle<Service> handle = new ServiceHandle<Service>(Service.class, service);
+        assertTrue(handle.isLoaded());
+        assertSame(handle.get(), service);
+        assertEquals(handle.getImplementationName(), PlainService.class.getName());
+        assertNull(handle.getProviderName());
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testGet_MissingClass() {
+        new ServiceHandle<>(Service.class, "a.Missing", getClass().getClassLoader()).get();
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testGet_WrongType() {
+        new ServiceHandle<>(Service.class, String.class.getName(), getClass().getClassLoader()).getProviderName();
+    }
+
+    @Test
+    public void testDefaultServiceProvider_Lazy() {
+        DefaultServiceProvider provider = new DefaultServiceProvider();
+        List<ServiceHandle<Service>> handles = provider.getServiceHandles(Service.class);
+        assertEquals(handles.size(), 2);
+        assertSame(provider.getServiceHandles(Service.class), handles);
+        assertEquals(handles.get(0).getProviderName(), "annotated");
+        assertFalse(handles.get(0).isLoaded());
+        assertFalse(handles.get(1).isLoaded());
+        Service plain = handles.get(1).get();
+        assertFalse(handles.get(0).isLoaded());
+        List<Service> services = provider.getServices(Service.class);
+        assertSame(services.get(1), plain);
+        assertSame(services.get(0), handles.get(0).get());
+    }
+
+    @Test
+    public void testBootstrap() {
+        List<ServiceHandle<RoundingProviderSpi>> handles = Bootstrap.getServiceHandles(RoundingProviderSpi.class);
+        assertEquals(handles.size(), Bootstrap.getServices(RoundingProviderSpi.class).size());
+    }
+
+    @Test
+    public void testBootstrap_DeclaredNamesMatch() {
+        for (ServiceHandle<RoundingProviderSpi> handle : Bootstrap.getServiceHandles(RoundingProviderSpi.class)) {
+            if (handle.getProviderName() != null) {
+                assertEquals(handle.get().getProviderName(), handle.getProviderName());
+            }
+        }
+        for (ServiceHandle<CurrencyProviderSpi> handle : Bootstrap.getServiceHandles(CurrencyProviderSpi.class)) {
+            if (handle.getProviderName() != null) {
+                assertEquals(handle.get().getProviderName(), handle.getProviderName());
+            }
+        }
+    }
+
+    public interface Service {
+    }
+
+    @ServiceMetadata(name = "annotated", priority = 10)
+    public static final class AnnotatedService implements Service {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public AnnotatedService() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    public static final class PlainService implements Service {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ServiceIndexGenerator}.
+ */
+public class ServiceIndexGeneratorTest {
+
+    @Test
+    public void testReadRegistrations() throws IOException {
+        List<String> implementations = ServiceIndex.readRegistrations(getClass().getClassLoader(),
+                ServiceProvider.class.getName());
+        assertEquals(implementations, Collections.singletonList(BootstrapTest.TestServiceProvider.class.getName()));
+        assertTrue(ServiceIndex.readRegistrations(getClass().getClassLoader(), "a.Missing").isEmpty());
+    }
+
+    @Test
+    public void testWrite() throws IOException {
+        StringWriter writer = new StringWriter();
+        ServiceIndexGenerator.write(getClass().getClassLoader(),
+                Arrays.asList(ServiceProvider.class.getName(), "a.Missing"), writer);
+        Map<String, List<String>> index = new LinkedHashMap<>();
+        ServiceIndex.read(new StringReader(writer.toString()), index);
+        assertEquals(index.size(), 1);
+        assertEquals(index.get(ServiceProvider.class.getName()),
+                Collections.singletonList(BootstrapTest.TestServiceProvider.class.getName()));
+    }
+
+    @Test
+    public void testMain() throws IOException {
+        File file = File.createTempFile("services", ".index");
+        try {
+            ServiceIndexGenerator.main(file.getPath());
+            Map<String, List<String>> index = new LinkedHashMap<>();
+            try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+                ServiceIndex.read(reader, index);
+            }
+            assertTrue(index.containsKey(CurrencyProviderSpi.class.getName()));
+            assertTrue(index.containsKey(RoundingProviderSpi.class.getName()));
+            for (String serviceType : index.keySet()) {
+                assertTrue(ServiceIndexGenerator.DEFAULT_SERVICE_TYPES.contains(serviceType));
+            }
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMain_NoArgs() throws IOException {
+        ServiceIndexGenerator.main();
+    }
+}
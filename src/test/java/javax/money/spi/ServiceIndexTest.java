@@ -0,0 +1,114 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link ServiceIndex}.
+ */
+public class ServiceIndexTest {
+
+    @Test
+    public void testRead() throws IOException {
+        Map<String, List<String>> index = new LinkedHashMap<>();
+        ServiceIndex.read(new StringReader("# comment\n\n a.Type = b.Impl1, b.Impl2\nc.Type=d.Impl\n"), index);
+        ServiceIndex.read(new StringReader("a.Type=b.Impl2,b.Impl3\n"), index);
+        assertEquals(index.get("a.Type"), Arrays.asList("b.Impl1", "b.Impl2", "b.Impl3"));
+        assertEquals(index.get("c.Type"), Arrays.asList("d.Impl"));
+        assertEquals(index.size(), 2);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testRead_Invalid() throws IOException {
+        ServiceIndex.read(new StringReader("a.Type\n"), new LinkedHashMap<String, List<String>>());
+    }
+
+    @Test
+    public void testLoad() {
+        Map<String, List<String>> index = ServiceIndex.load(getClass().getClassLoader());
+        assertEquals(index.get(IndexedService.class.getName()),
+                Arrays.asList(IndexedServiceA.class.getName(), IndexedServiceB.class.getName()));
+        assertNull(index.get(CurrencyProviderSpi.class.getName()));
+    }
+
+    @Test
+    public void testLoad_SeveralIndexes() throws IOException {
+        Path dir = Files.createTempDirectory("ServiceIndexTest");
+        Path index = dir.resolve(ServiceIndex.RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, "a.Type=b.Impl\n".getBytes(StandardCharsets.UTF_8));
+        ClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader());
+        assertTrue(ServiceIndex.load(classLoader).isEmpty());
+        assertTrue(new DefaultServiceProvider(classLoader).getServices(IndexedService.class).isEmpty());
+        assertFalse(new DefaultServiceProvider(classLoader).getServices(CurrencyProviderSpi.class).isEmpty());
+    }
+
+    @Test
+    public void testDefaultServiceProvider_Indexed() {
+        List<IndexedService> services = new DefaultServiceProvider().getServices(IndexedService.class);
+        assertEquals(services.size(), 2);
+        assertTrue(services.get(0) instanceof IndexedServiceA);
+        assertTrue(services.get(1) instanceof IndexedServiceB);
+    }
+
+    @Test
+    public void testDefaultServiceProvider_BrokenIndexSkipped() {
+        assertTrue(new DefaultServiceProvider().getServices(BrokenService.class).isEmpty());
+    }
+
+    @Test
+    public void testDefaultServiceProvider_BrokenServiceSkipped() {
+        DefaultServiceProvider provider = new DefaultServiceProvider();
+        ServiceHandle<PartlyBrokenService> handle = provider.getServiceHandles(PartlyBrokenService.class).get(1);
+        PartlyBrokenService service = handle.get();
+        List<PartlyBrokenService> services = provider.getServices(PartlyBrokenService.class);
+        assertEquals(services.size(), 1);
+        assertSame(services.get(0), service);
+        assertEquals(provider.getServiceHandles(PartlyBrokenService.class).size(), 1);
+        assertSame(provider.getServiceHandles(PartlyBrokenService.class).get(0), handle);
+    }
+
+    @Test
+    public void testDefaultServiceProvider_NotIndexed() {
+        assertFalse(new DefaultServiceProvider().getServices(CurrencyProviderSpi.class).isEmpty());
+    }
+
+    public interface IndexedService {
+    }
+
+    public interface BrokenService {
+    }
+
+    public interface PartlyBrokenService {
+    }
+
+    public static final class IndexedServiceA implements IndexedService {
+    }
+
+    public static final class PartlyBrokenServiceA implements PartlyBrokenService {
+    }
+
+    public static final class IndexedServiceB implements IndexedService {
+    }
+}
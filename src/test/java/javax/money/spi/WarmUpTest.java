@@ -0,0 +1,129 @@
+/*
+ * CREDIT SUISSE IS WILLING TO LICENSE THIS SPECIFICATION TO YOU ONLY UPON THE CONDITION THAT YOU
+ * ACCEPT ALL OF THE TERMS CONTAINED IN THIS AGREEMENT. PLEASE READ THE TERMS AND CONDITIONS OF THIS
+ * AGREEMENT CAREFULLY. BY DOWNLOADING THIS SPECIFICATION, YOU ACCEPT THE TERMS AND CONDITIONS OF
+ * THE AGREEMENT. IF YOU ARE NOT WILLING TO BE BOUND BY IT, SELECT THE "DECLINE" BUTTON AT THE
+ * BOTTOM OF THIS PAGE. Specification: JSR-354 Money and Currency API ("Specification") Copyright
+ * (c) 2012-2015, Credit Suisse All rights reserved.
+ */
+package javax.money.spi;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.money.CurrencyQuery;
+import javax.money.CurrencyUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link WarmUp} and {@link Bootstrap#warmUp(int)}.
+ */
+public class WarmUpTest {
+
+    @Test
+    public void testWarmUp() {
+        Map<String, Long> durations = Bootstrap.warmUp(2);
+        assertTrue(durations.containsKey("CurrencyProviderSpi"));
+        assertTrue(durations.containsKey("RoundingProviderSpi"));
+        assertTrue(durations.containsKey("MonetaryAmountFormatProviderSpi"));
+        assertTrue(durations.containsKey("ExchangeRateProvider"));
+        assertTrue(durations.containsKey("CurrencyProviderSpi/test"), durations.toString());
+        assertTrue(durations.containsKey("MonetaryConversionsSingletonSpi/TestMonetaryConversionsSingletonSpi"),
+                durations.toString());
+        assertTrue(durations.containsKey("currencies"));
+        assertTrue(durations.containsKey("roundings"));
+        assertTrue(durations.containsKey("formats"));
+        assertTrue(durations.containsKey("conversions"));
+        for (Long duration : durations.values()) {
+            assertTrue(duration >= 0);
+        }
+    }
+
+    @Test
+    public void testWarmUp_Order() {
+        String previous = null;
+        for (String step : Bootstrap.warmUp(1).keySet()) {
+            if ("currencies".equals(step)) {
+                assertTrue(previous != null && previous.contains("/"), String.valueOf(previous));
+            }
+            previous = step;
+        }
+    }
+
+    @Test
+    public void testWarmUp_SharedProviderName() {
+        ServiceProvider previous = Bootstrap.init(new DuplicateNameServiceProvider());
+        try {
+            Map<String, Long> durations = Bootstrap.warmUp(2);
+            assertTrue(durations.containsKey("CurrencyProviderSpi/dup/" + DuplicateNameProvider1.class.getName()),
+                    durations.toString());
+            assertTrue(durations.containsKey("CurrencyProviderSpi/dup/" + DuplicateNameProvider2.class.getName()),
+                    durations.toString());
+            assertFalse(durations.containsKey("CurrencyProviderSpi/dup"), durations.toString());
+        } finally {
+            Bootstrap.init(previous);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testWarmUp_InvalidParallelism() {
+        Bootstrap.warmUp(0);
+    }
+
+    /**
+     * Provider returning two currency providers sharing the same name.
+     */
+    private static final class DuplicateNameServiceProvider implements ServiceProvider {
+
+        private final DefaultServiceProvider delegate = new DefaultServiceProvider();
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public <T> List<T> getServices(Class<T> serviceType) {
+            if (CurrencyProviderSpi.class.equals(serviceType)) {
+                List<T> result = new ArrayList<>();
+                result.add(serviceType.cast(new DuplicateNameProvider1()));
+                result.add(serviceType.cast(new DuplicateNameProvider2()));
+                return result;
+            }
+            return delegate.getServices(serviceType);
+        }
+
+        @Override
+        public <T> T getService(Class<T> serviceType) {
+            List<T> services = getServices(serviceType);
+            return services.isEmpty() ? null : services.get(0);
+        }
+    }
+
+    public static class DuplicateNameProvider1 implements CurrencyProviderSpi {
+
+        @Override
+        public String getProviderName() {
+            return "dup";
+        }
+
+        @Override
+        public boolean isCurrencyAvailable(CurrencyQuery query) {
+            return false;
+        }
+
+        @Override
+        public Set<CurrencyUnit> getCurrencies(CurrencyQuery query) {
+            return Collections.emptySet();
+        }
+    }
+
+    public static final class DuplicateNameProvider2 extends DuplicateNameProvider1 {
+    }
+}